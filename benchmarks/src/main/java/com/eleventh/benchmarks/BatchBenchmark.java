@@ -0,0 +1,83 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.integer.IntIntegerList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// operations вставок и удалений в случайных позициях списка
+// размера size: по одной через addInt/removeAt и одним пакетом.
+// Каждая одиночная правка сдвигает хвост массива,
+// пакет перемещает каждый элемент один раз.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class BatchBenchmark {
+    @Param({"100000"})
+    private int size;
+
+    @Param({"10", "1000"})
+    private int operations;
+
+    private int[] initial;
+    private int[] positions;
+    private IntIntegerList list;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        Random random = new Random(23);
+        initial = random.ints(size).toArray();
+        positions = new int[operations];
+        for (int i = 0; i < operations; i++) {
+            positions[i] = random.nextInt(size - operations);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        list = new IntIntegerList(size + operations);
+        list.addAllInt(0, initial);
+    }
+
+    // Индексы одиночных правок сдвигаются так же, как в пакете:
+    // вставка и удаление чередуются, размер почти не меняется.
+    @Benchmark
+    public int individualEdits() {
+        for (int i = 0; i < operations; i++) {
+            if ((i & 1) == 0) {
+                list.addInt(positions[i], i);
+            } else {
+                list.removeAt(positions[i]);
+            }
+        }
+        return list.size();
+    }
+
+    @Benchmark
+    public int batch() {
+        var batch = list.batch();
+        for (int i = 0; i < operations; i++) {
+            if ((i & 1) == 0) {
+                batch.insert(positions[i], i);
+            } else {
+                batch.remove(positions[i]);
+            }
+        }
+        return batch.apply().applied();
+    }
+}
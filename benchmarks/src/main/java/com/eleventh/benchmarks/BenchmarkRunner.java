@@ -0,0 +1,24 @@
+package com.eleventh.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Запуск бенчмарков с профилировщиком GC (скорость аллокаций).
+// Аргумент - регулярное выражение для отбора бенчмарков.
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.addProfiler(GCProfiler.class);
+        if (args.length == 0) {
+            builder.include("com.eleventh.benchmarks");
+        }
+        for (String include : args) {
+            builder.include(include);
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
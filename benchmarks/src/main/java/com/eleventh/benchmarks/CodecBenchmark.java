@@ -0,0 +1,150 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.integer.IntIntegerList;
+import com.eleventh.list.integer.IntegerListCodec;
+import com.eleventh.list.string.StringListCodec;
+import com.eleventh.list.string.StringListImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+// Кодеки списков в сравнении с сериализацией Java
+// для ArrayList с теми же элементами. Размер результата
+// в байтах печатается в setUp для каждой комбинации параметров.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class CodecBenchmark {
+    @Param({"1000", "1000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "SMALL_RANGE"})
+    private DataDistribution distribution;
+
+    private final IntegerListCodec integerCodec = new IntegerListCodec();
+    private final StringListCodec stringCodec = new StringListCodec(false);
+    private final StringListCodec dictionaryCodec = new StringListCodec(true);
+
+    private IntIntegerList integers;
+    private StringListImpl strings;
+    private ArrayList<Integer> integerArrayList;
+    private ArrayList<String> stringArrayList;
+    private byte[] encodedIntegers;
+    private byte[] encodedStrings;
+    private byte[] encodedDictionary;
+    private byte[] serializedIntegers;
+    private byte[] serializedStrings;
+
+    @Setup
+    public void setUp() throws IOException {
+        int[] data = distribution.generate(size);
+        integers = new IntIntegerList(size);
+        strings = new StringListImpl(size);
+        integerArrayList = new ArrayList<>(size);
+        stringArrayList = new ArrayList<>(size);
+        for (int value : data) {
+            String item = "item-" + value;
+            integers.addInt(value);
+            strings.add(item);
+            integerArrayList.add(value);
+            stringArrayList.add(item);
+        }
+        encodedIntegers = encodeIntegers().toByteArray();
+        encodedStrings = encodeStrings().toByteArray();
+        encodedDictionary = encodeDictionary().toByteArray();
+        serializedIntegers = serialize(integerArrayList).toByteArray();
+        serializedStrings = serialize(stringArrayList).toByteArray();
+        System.out.printf("%nbytes: ints %d (java %d), strings %d, dictionary %d (java %d)%n",
+                encodedIntegers.length, serializedIntegers.length,
+                encodedStrings.length, encodedDictionary.length, serializedStrings.length);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream encodeIntegers() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        integerCodec.writeTo(integers, out);
+        return out;
+    }
+
+    @Benchmark
+    public Object decodeIntegers() throws IOException {
+        return integerCodec.readFrom(new ByteArrayInputStream(encodedIntegers));
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream serializeIntegers() throws IOException {
+        return serialize(integerArrayList);
+    }
+
+    @Benchmark
+    public Object deserializeIntegers() throws IOException, ClassNotFoundException {
+        return deserialize(serializedIntegers);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream encodeStrings() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        stringCodec.writeTo(strings, out);
+        return out;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream encodeDictionary() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dictionaryCodec.writeTo(strings, out);
+        return out;
+    }
+
+    @Benchmark
+    public Object decodeStrings() throws IOException {
+        return stringCodec.readFrom(new ByteArrayInputStream(encodedStrings));
+    }
+
+    @Benchmark
+    public Object decodeDictionary() throws IOException {
+        return dictionaryCodec.readFrom(new ByteArrayInputStream(encodedDictionary));
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream serializeStrings() throws IOException {
+        return serialize(stringArrayList);
+    }
+
+    @Benchmark
+    public Object deserializeStrings() throws IOException, ClassNotFoundException {
+        return deserialize(serializedStrings);
+    }
+
+    private static ByteArrayOutputStream serialize(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream objects = new ObjectOutputStream(out)) {
+            objects.writeObject(value);
+        }
+        return out;
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objects.readObject();
+        }
+    }
+}
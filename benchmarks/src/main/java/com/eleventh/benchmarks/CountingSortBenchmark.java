@@ -0,0 +1,54 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.integer.IntSorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// Сортировка подсчетом применима только к узкому диапазону значений,
+// поэтому вынесена отдельно от IntSorterBenchmark.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class CountingSortBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"DUPLICATES", "SMALL_RANGE"})
+    private DataDistribution distribution;
+
+    private int[] data;
+
+    @Setup
+    public void setUp() {
+        data = distribution.generate(size);
+    }
+
+    @Benchmark
+    public int[] countingSort() {
+        int[] arr = Arrays.copyOf(data, size);
+        IntSorter.countingSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        int[] arr = Arrays.copyOf(data, size);
+        Arrays.sort(arr);
+        return arr;
+    }
+}
@@ -0,0 +1,60 @@
+package com.eleventh.benchmarks;
+
+import java.util.Random;
+
+// Распределения входных данных для бенчмарков.
+public enum DataDistribution {
+    RANDOM {
+        @Override
+        int next(Random random, int index, int size) {
+            return random.nextInt();
+        }
+    },
+    SORTED {
+        @Override
+        int next(Random random, int index, int size) {
+            return index;
+        }
+    },
+    REVERSED {
+        @Override
+        int next(Random random, int index, int size) {
+            return size - index;
+        }
+    },
+    DUPLICATES {
+        @Override
+        int next(Random random, int index, int size) {
+            return random.nextInt(16);
+        }
+    },
+    // Диапазон 0..1000, как в Main.generateIntArray.
+    SMALL_RANGE {
+        @Override
+        int next(Random random, int index, int size) {
+            return random.nextInt(1000);
+        }
+    };
+
+    private static final long SEED = 42;
+
+    abstract int next(Random random, int index, int size);
+
+    public int[] generate(int size) {
+        Random random = new Random(SEED);
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = next(random, i, size);
+        }
+        return result;
+    }
+
+    public Integer[] generateBoxed(int size) {
+        int[] values = generate(size);
+        Integer[] result = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = values[i];
+        }
+        return result;
+    }
+}
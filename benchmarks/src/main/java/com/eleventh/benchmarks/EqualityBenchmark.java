@@ -0,0 +1,79 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.integer.ImmutableIntegerList;
+import com.eleventh.list.integer.IntIntegerList;
+import com.eleventh.list.integer.IntegerListImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Сравнение и хеш равных списков размера size.
+// IntIntegerList с ImmutableIntegerList сравниваются
+// Arrays.equals по int[], IntegerListImpl между собой -
+// поэлементно, хеш IntegerListImpl берется из кеша,
+// IntIntegerList пересчитывает его на каждом вызове.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class EqualityBenchmark {
+    @Param({"100000"})
+    private int size;
+
+    private IntIntegerList ints;
+    private ImmutableIntegerList immutable;
+    private IntegerListImpl boxed;
+    private IntegerListImpl otherBoxed;
+
+    @Setup
+    public void setUp() {
+        int[] values = new Random(24).ints(size).toArray();
+        ints = new IntIntegerList(size);
+        ints.addAllInt(0, values);
+        immutable = ImmutableIntegerList.copyOf(values);
+        boxed = new IntegerListImpl(size);
+        otherBoxed = new IntegerListImpl(size * 2);
+        for (int value : values) {
+            boxed.add(value);
+            otherBoxed.add(value);
+        }
+    }
+
+    @Benchmark
+    public boolean intArraysEquals() {
+        return ints.equals(immutable);
+    }
+
+    @Benchmark
+    public boolean boxedEquals() {
+        return boxed.equals(otherBoxed);
+    }
+
+    @Benchmark
+    public boolean crossImplementationEquals() {
+        return ints.equals(boxed);
+    }
+
+    @Benchmark
+    public int intIntegerListHashCode() {
+        return ints.hashCode();
+    }
+
+    @Benchmark
+    public int cachedHashCode() {
+        return boxed.hashCode();
+    }
+}
@@ -0,0 +1,88 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.integer.GapBufferIntegerList;
+import com.eleventh.list.integer.IntIntegerList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Правки рядом с курсором в середине большого списка:
+// серия вставок с последующим удалением вставленного,
+// курсор смещается на несколько позиций между сериями.
+// IntIntegerList сдвигает хвост при каждой операции,
+// GapBufferIntegerList - только элементы между курсорами.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class GapBufferBenchmark {
+    private static final int EDITS = 64;
+    private static final int CURSOR_STEP = 7;
+
+    @Param({"1000000"})
+    private int size;
+
+    private IntIntegerList array;
+    private GapBufferIntegerList gapBuffer;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] values = DataDistribution.RANDOM.generate(size);
+        array = new IntIntegerList(size + EDITS);
+        array.addAllInt(0, values);
+        gapBuffer = new GapBufferIntegerList(size + EDITS);
+        gapBuffer.addAllInt(0, values);
+        cursor = size / 2;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EDITS * 2)
+    public int intIntegerList() {
+        int position = nextCursor();
+        for (int i = 0; i < EDITS; i++) {
+            array.addInt(position + i, i);
+        }
+        int sum = 0;
+        for (int i = 0; i < EDITS; i++) {
+            sum += array.removeAt(position);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EDITS * 2)
+    public int gapBufferIntegerList() {
+        int position = nextCursor();
+        for (int i = 0; i < EDITS; i++) {
+            gapBuffer.addInt(position + i, i);
+        }
+        int sum = 0;
+        for (int i = 0; i < EDITS; i++) {
+            sum += gapBuffer.removeAt(position);
+        }
+        return sum;
+    }
+
+    private int nextCursor() {
+        cursor += CURSOR_STEP;
+        if (cursor >= size - CURSOR_STEP) {
+            cursor = size / 2;
+        }
+        return cursor;
+    }
+}
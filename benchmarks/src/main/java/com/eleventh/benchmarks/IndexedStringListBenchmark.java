@@ -0,0 +1,108 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.GrowthStrategy;
+import com.eleventh.list.string.StringList;
+import com.eleventh.list.string.StringListImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Цена индекса значений StringListImpl: запись (add, set,
+// вставка и удаление в середине) против поиска (contains, indexOf)
+// для indexed = false и true.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class IndexedStringListBenchmark {
+    @Param({"1000", "1000000"})
+    private int size;
+
+    @Param({"RANDOM", "DUPLICATES"})
+    private DataDistribution distribution;
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private String[] data;
+    private StringList list;
+    private int middle;
+    private String present;
+    private String missing;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        int[] values = distribution.generate(size);
+        data = new String[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = "key-" + values[i];
+        }
+        list = fill();
+        middle = size / 2;
+        // Копия строки, чтобы equals не срабатывал по ссылке.
+        present = new String(data[size - 1]);
+        missing = "missing";
+    }
+
+    // Построение списка целиком: add с обновлением индекса.
+    @Benchmark
+    public Object add() {
+        return fill();
+    }
+
+    @Benchmark
+    public String set() {
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        return list.set(cursor, data[size - 1 - cursor]);
+    }
+
+    // Вставка в середину сдвигает позиции в индексе.
+    @Benchmark
+    public String addByIndex() {
+        list.add(middle, present);
+        return list.remove(size);
+    }
+
+    @Benchmark
+    public String remove() {
+        String removed = list.remove(middle);
+        list.add(removed);
+        return removed;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(present);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(missing);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(present);
+    }
+
+    private StringList fill() {
+        StringList result = new StringListImpl(size, GrowthStrategy.geometric(), indexed);
+        for (String item : data) {
+            result.add(item);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.GrowthStrategy;
+import com.eleventh.list.integer.IntIntegerList;
+import com.eleventh.list.integer.IntegerListImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Реализации целочисленных списков, сравниваемые в бенчмарках.
+// Операции вызываются через общий интерфейс Ops,
+// чтобы один бенчмарк покрывал и IntegerList, и java.util.ArrayList.
+public enum IntListKind {
+    INTEGER_LIST_IMPL {
+        @Override
+        Ops create(int initialCapacity) {
+            IntegerListImpl list = new IntegerListImpl(initialCapacity);
+            return new Ops() {
+                public void add(int item) { list.add(item); }
+                public void add(int index, int item) { list.add(index, item); }
+                public int get(int index) { return list.get(index); }
+                public int removeAt(int index) { return list.remove(index); }
+                public boolean contains(int item) { return list.contains(item); }
+                public int indexOf(int item) { return list.indexOf(item); }
+            };
+        }
+    },
+    INDEXED_INTEGER_LIST_IMPL {
+        @Override
+        Ops create(int initialCapacity) {
+            IntegerListImpl list = new IntegerListImpl(initialCapacity, GrowthStrategy.geometric(), true);
+            return new Ops() {
+                public void add(int item) { list.add(item); }
+                public void add(int index, int item) { list.add(index, item); }
+                public int get(int index) { return list.get(index); }
+                public int removeAt(int index) { return list.remove(index); }
+                public boolean contains(int item) { return list.contains(item); }
+                public int indexOf(int item) { return list.indexOf(item); }
+            };
+        }
+    },
+    INT_INTEGER_LIST {
+        @Override
+        Ops create(int initialCapacity) {
+            IntIntegerList list = new IntIntegerList(initialCapacity);
+            return new Ops() {
+                public void add(int item) { list.addInt(item); }
+                public void add(int index, int item) { list.addInt(index, item); }
+                public int get(int index) { return list.getInt(index); }
+                public int removeAt(int index) { return list.removeAt(index); }
+                public boolean contains(int item) { return list.containsInt(item); }
+                public int indexOf(int item) { return list.indexOfInt(item); }
+            };
+        }
+    },
+    ARRAY_LIST {
+        @Override
+        Ops create(int initialCapacity) {
+            List<Integer> list = new ArrayList<>(initialCapacity);
+            return new Ops() {
+                public void add(int item) { list.add(item); }
+                public void add(int index, int item) { list.add(index, item); }
+                public int get(int index) { return list.get(index); }
+                public int removeAt(int index) { return list.remove(index); }
+                public boolean contains(int item) { return list.contains(item); }
+                public int indexOf(int item) { return list.indexOf(item); }
+            };
+        }
+    };
+
+    abstract Ops create(int initialCapacity);
+
+    interface Ops {
+        void add(int item);
+
+        void add(int index, int item);
+
+        int get(int index);
+
+        int removeAt(int index);
+
+        boolean contains(int item);
+
+        int indexOf(int item);
+    }
+}
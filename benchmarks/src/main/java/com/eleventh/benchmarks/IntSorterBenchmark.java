@@ -0,0 +1,97 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.integer.IntSorter;
+import com.eleventh.list.integer.ParallelIntegerListOps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// Сортировки IntSorter и ParallelIntegerListOps против Arrays.sort.
+// Каждый бенчмарк включает копирование входного массива (см. copyOnly).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class IntSorterBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES", "SMALL_RANGE"})
+    private DataDistribution distribution;
+
+    private int[] data;
+    private ParallelIntegerListOps parallelOps;
+
+    @Setup
+    public void setUp() {
+        data = distribution.generate(size);
+        parallelOps = new ParallelIntegerListOps();
+    }
+
+    @Benchmark
+    public int[] copyOnly() {
+        return Arrays.copyOf(data, size);
+    }
+
+    @Benchmark
+    public int[] sort() {
+        int[] arr = Arrays.copyOf(data, size);
+        IntSorter.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] dualPivotQuickSort() {
+        int[] arr = Arrays.copyOf(data, size);
+        IntSorter.dualPivotQuickSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] timSort() {
+        int[] arr = Arrays.copyOf(data, size);
+        IntSorter.timSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        int[] arr = Arrays.copyOf(data, size);
+        IntSorter.radixSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] parallelSort() {
+        int[] arr = Arrays.copyOf(data, size);
+        parallelOps.parallelSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        int[] arr = Arrays.copyOf(data, size);
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] arraysParallelSort() {
+        int[] arr = Arrays.copyOf(data, size);
+        Arrays.parallelSort(arr);
+        return arr;
+    }
+}
@@ -0,0 +1,106 @@
+package com.eleventh.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Операции целочисленных списков в сравнении с java.util.ArrayList.
+// add/grow строят список целиком, остальные бенчмарки
+// меряют одну операцию над готовым списком размера size.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class IntegerListBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES"})
+    private DataDistribution distribution;
+
+    @Param({"INTEGER_LIST_IMPL", "INDEXED_INTEGER_LIST_IMPL", "INT_INTEGER_LIST", "ARRAY_LIST"})
+    private IntListKind kind;
+
+    private int[] data;
+    private IntListKind.Ops list;
+    private int middle;
+    private int present;
+    private int missing;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        data = distribution.generate(size);
+        list = fill(kind.create(size));
+        middle = size / 2;
+        present = data[middle];
+        missing = Integer.MIN_VALUE;
+    }
+
+    // Добавление в конец в список с достаточной емкостью.
+    @Benchmark
+    public Object add() {
+        return fill(kind.create(size));
+    }
+
+    // Добавление в конец с увеличением емкости от одного элемента.
+    @Benchmark
+    public Object grow() {
+        return fill(kind.create(1));
+    }
+
+    // Вставка в середину, размер сохраняется удалением последнего.
+    @Benchmark
+    public int addByIndex() {
+        list.add(middle, present);
+        return list.removeAt(size);
+    }
+
+    // Удаление из середины, размер сохраняется добавлением в конец.
+    @Benchmark
+    public int remove() {
+        int removed = list.removeAt(middle);
+        list.add(removed);
+        return removed;
+    }
+
+    @Benchmark
+    public int get() {
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        return list.get(cursor);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(present);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(missing);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(present);
+    }
+
+    private IntListKind.Ops fill(IntListKind.Ops target) {
+        for (int value : data) {
+            target.add(value);
+        }
+        return target;
+    }
+}
@@ -0,0 +1,72 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.integer.IntIntegerList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// Сумма элементов IntIntegerList разными способами обхода:
+// get(i) в цикле, копия toIntArray(), forEachInt,
+// intStream() и параллельный intStream().
+// Запуск с -prof gc показывает, что обходы без копирования
+// не выделяют памяти.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class IterationBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    private IntIntegerList list;
+
+    @Setup
+    public void setUp() {
+        list = new IntIntegerList(size);
+        list.addAllInt(0, DataDistribution.RANDOM.generate(size));
+    }
+
+    @Benchmark
+    public long getLoop() {
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.getInt(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long toIntArray() {
+        return Arrays.stream(list.toIntArray()).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long forEachInt() {
+        long[] sum = new long[1];
+        list.forEachInt(item -> sum[0] += item);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long intStream() {
+        return list.intStream().asLongStream().sum();
+    }
+
+    @Benchmark
+    public long parallelIntStream() {
+        return list.intStream().parallel().asLongStream().sum();
+    }
+}
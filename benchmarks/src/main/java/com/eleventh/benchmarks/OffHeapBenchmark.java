@@ -0,0 +1,106 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.integer.IntIntegerList;
+import com.eleventh.list.integer.IntegerListImpl;
+import com.eleventh.list.integer.OffHeapIntegerList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Влияние большого долгоживущего списка на паузы G1.
+// retained держит список из size элементов всю пробу,
+// churn создает короткоживущий мусор и вынуждает сборки:
+// время сборок (gc.time из GCProfiler) растет вместе
+// с количеством объектов в куче. fill меряет построение списка.
+// Запуск: java -jar benchmarks.jar OffHeapBenchmark -prof gc
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g", "-XX:+UseG1GC", "-XX:MaxDirectMemorySize=2g"})
+@State(Scope.Thread)
+public class OffHeapBenchmark {
+    private static final int CHURN_ALLOCATIONS = 100_000;
+
+    @Param({"10000000", "100000000"})
+    private int size;
+
+    @Param({"INTEGER_LIST_IMPL", "INT_INTEGER_LIST", "OFF_HEAP"})
+    private String kind;
+
+    private Object retained;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        retained = build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (retained instanceof OffHeapIntegerList) {
+            ((OffHeapIntegerList) retained).close();
+        }
+        retained = null;
+    }
+
+    // Короткоживущий мусор при удерживаемом списке.
+    @Benchmark
+    public long churn() {
+        long sum = 0;
+        for (int i = 0; i < CHURN_ALLOCATIONS; i++) {
+            byte[] garbage = new byte[1024];
+            sum += garbage.length + i;
+        }
+        return sum;
+    }
+
+    // Построение списка целиком, один раз за итерацию.
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 5)
+    public Object fill() {
+        Object list = build();
+        if (list instanceof OffHeapIntegerList) {
+            ((OffHeapIntegerList) list).close();
+        }
+        return list;
+    }
+
+    private Object build() {
+        switch (kind) {
+            case "INTEGER_LIST_IMPL" -> {
+                IntegerListImpl list = new IntegerListImpl(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(i);
+                }
+                return list;
+            }
+            case "INT_INTEGER_LIST" -> {
+                IntIntegerList list = new IntIntegerList(size);
+                for (int i = 0; i < size; i++) {
+                    list.addInt(i);
+                }
+                return list;
+            }
+            default -> {
+                OffHeapIntegerList list = new OffHeapIntegerList();
+                for (int i = 0; i < size; i++) {
+                    list.addInt(i);
+                }
+                return list;
+            }
+        }
+    }
+}
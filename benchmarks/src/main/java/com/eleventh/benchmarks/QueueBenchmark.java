@@ -0,0 +1,67 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.integer.IntegerListImpl;
+import com.eleventh.list.integer.RingBufferIntegerList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+// Список как FIFO-очередь постоянной длины depth:
+// добавление в конец и удаление из начала.
+// IntegerListImpl сдвигает весь массив на каждом remove(0).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class QueueBenchmark {
+    @Param({"1000", "100000"})
+    private int depth;
+
+    private IntegerListImpl arrayList;
+    private RingBufferIntegerList ringBuffer;
+    private ArrayDeque<Integer> arrayDeque;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        arrayList = new IntegerListImpl(depth + 1);
+        ringBuffer = new RingBufferIntegerList(depth + 1);
+        arrayDeque = new ArrayDeque<>(depth + 1);
+        for (int i = 0; i < depth; i++) {
+            arrayList.add(i);
+            ringBuffer.addLast(i);
+            arrayDeque.addLast(i);
+        }
+    }
+
+    @Benchmark
+    public int integerListImpl() {
+        arrayList.add(next++);
+        return arrayList.remove(0);
+    }
+
+    @Benchmark
+    public int ringBufferIntegerList() {
+        ringBuffer.addLast(next++);
+        return ringBuffer.removeFirst();
+    }
+
+    @Benchmark
+    public int arrayDeque() {
+        arrayDeque.addLast(next++);
+        return arrayDeque.removeFirst();
+    }
+}
@@ -0,0 +1,80 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.integer.ParallelIntegerListOps;
+import com.eleventh.list.integer.Searcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// Поиск Searcher и ParallelIntegerListOps.
+// Бинарный поиск выполняется по отсортированной копии данных.
+// Searcher.binarySearch сравнивает Integer через ==, поэтому
+// искомый элемент берется из самого массива: равное значение
+// вне кеша Integer (-128..127) никогда бы не нашлось.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class SearcherBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES"})
+    private DataDistribution distribution;
+
+    private int[] data;
+    private Integer[] sorted;
+    private int present;
+    private Integer sortedPresent;
+    private int missing;
+    private ParallelIntegerListOps parallelOps;
+
+    @Setup
+    public void setUp() {
+        data = distribution.generate(size);
+        sorted = distribution.generateBoxed(size);
+        Arrays.sort(sorted);
+        present = data[size / 2];
+        sortedPresent = sorted[size / 2];
+        missing = Integer.MIN_VALUE;
+        parallelOps = new ParallelIntegerListOps();
+    }
+
+    @Benchmark
+    public boolean linearSearch() {
+        return Searcher.linearSearch(data, present);
+    }
+
+    @Benchmark
+    public boolean linearSearchMissing() {
+        return Searcher.linearSearch(data, missing);
+    }
+
+    @Benchmark
+    public boolean parallelContainsMissing() {
+        return parallelOps.parallelContains(data, missing);
+    }
+
+    @Benchmark
+    public boolean binarySearch() {
+        return Searcher.binarySearch(sorted, sortedPresent);
+    }
+
+    @Benchmark
+    public boolean binarySearchMissing() {
+        return Searcher.binarySearch(sorted, missing);
+    }
+}
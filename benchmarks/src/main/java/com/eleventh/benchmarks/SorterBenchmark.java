@@ -0,0 +1,75 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.integer.Sorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// Квадратичные сортировки Sorter. Размеры ограничены 10 000,
+// на больших массивах одна операция занимает минуты.
+// Каждый бенчмарк включает копирование входного массива,
+// его стоимость показывает copyOnly.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SorterBenchmark {
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES"})
+    private DataDistribution distribution;
+
+    private Integer[] data;
+
+    @Setup
+    public void setUp() {
+        data = distribution.generateBoxed(size);
+    }
+
+    @Benchmark
+    public Integer[] copyOnly() {
+        return Arrays.copyOf(data, size);
+    }
+
+    @Benchmark
+    public Integer[] sortBubble() {
+        Integer[] arr = Arrays.copyOf(data, size);
+        Sorter.sortBubble(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public Integer[] sortSelection() {
+        Integer[] arr = Arrays.copyOf(data, size);
+        Sorter.sortSelection(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public Integer[] sortInsertion() {
+        Integer[] arr = Arrays.copyOf(data, size);
+        Sorter.sortInsertion(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public Integer[] arraysSort() {
+        Integer[] arr = Arrays.copyOf(data, size);
+        Arrays.sort(arr);
+        return arr;
+    }
+}
@@ -0,0 +1,156 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.string.StringList;
+import com.eleventh.list.string.StringListImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Операции StringListImpl в сравнении с java.util.ArrayList<String>.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class StringListBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES"})
+    private DataDistribution distribution;
+
+    private String[] data;
+    private StringList stringList;
+    private List<String> arrayList;
+    private int middle;
+    private String present;
+    private String missing;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        int[] values = distribution.generate(size);
+        data = new String[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = "item-" + values[i];
+        }
+        stringList = fillStringList(size);
+        arrayList = fillArrayList(size);
+        middle = size / 2;
+        // Копия строки, чтобы equals не срабатывал по ссылке.
+        present = new String(data[middle]);
+        missing = "missing";
+    }
+
+    @Benchmark
+    public Object add() {
+        return fillStringList(size);
+    }
+
+    @Benchmark
+    public Object addArrayList() {
+        return fillArrayList(size);
+    }
+
+    @Benchmark
+    public Object grow() {
+        return fillStringList(1);
+    }
+
+    @Benchmark
+    public Object growArrayList() {
+        return fillArrayList(1);
+    }
+
+    @Benchmark
+    public String addByIndex() {
+        stringList.add(middle, present);
+        return stringList.remove(size);
+    }
+
+    @Benchmark
+    public String addByIndexArrayList() {
+        arrayList.add(middle, present);
+        return arrayList.remove(size);
+    }
+
+    @Benchmark
+    public String remove() {
+        String removed = stringList.remove(middle);
+        stringList.add(removed);
+        return removed;
+    }
+
+    @Benchmark
+    public String removeArrayList() {
+        String removed = arrayList.remove(middle);
+        arrayList.add(removed);
+        return removed;
+    }
+
+    @Benchmark
+    public String get() {
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        return stringList.get(cursor);
+    }
+
+    @Benchmark
+    public String getArrayList() {
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        return arrayList.get(cursor);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return stringList.contains(present);
+    }
+
+    @Benchmark
+    public boolean containsArrayList() {
+        return arrayList.contains(present);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return stringList.contains(missing);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return stringList.indexOf(present);
+    }
+
+    @Benchmark
+    public int indexOfArrayList() {
+        return arrayList.indexOf(present);
+    }
+
+    private StringList fillStringList(int initialCapacity) {
+        StringList list = new StringListImpl(initialCapacity);
+        for (String item : data) {
+            list.add(item);
+        }
+        return list;
+    }
+
+    private List<String> fillArrayList(int initialCapacity) {
+        List<String> list = new ArrayList<>(initialCapacity);
+        for (String item : data) {
+            list.add(item);
+        }
+        return list;
+    }
+}
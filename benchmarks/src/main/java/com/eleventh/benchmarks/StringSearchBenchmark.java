@@ -0,0 +1,83 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.string.SearchableStringList;
+import com.eleventh.list.string.StringListImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Поиск по префиксу и подстроке через SearchableStringList
+// в сравнении с просмотром toArray().
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class StringSearchBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    private SearchableStringList list;
+    private String prefix;
+    private String fragment;
+
+    @Setup
+    public void setUp() {
+        int[] values = DataDistribution.RANDOM.generate(size);
+        StringListImpl delegate = new StringListImpl(size);
+        for (int value : values) {
+            delegate.add("user-" + Integer.toHexString(value));
+        }
+        list = new SearchableStringList(delegate, true);
+        String sample = delegate.get(size / 2);
+        prefix = sample.substring(0, sample.length() - 2);
+        fragment = sample.substring(4);
+    }
+
+    @Benchmark
+    public int[] startingWith() {
+        return list.startingWith(prefix).toArray();
+    }
+
+    @Benchmark
+    public int[] startingWithScan() {
+        String[] items = list.toArray();
+        List<Integer> found = new ArrayList<>();
+        for (int i = 0; i < items.length; i++) {
+            if (items[i].startsWith(prefix)) {
+                found.add(i);
+            }
+        }
+        return found.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Benchmark
+    public int[] containing() {
+        return list.containing(fragment).toArray();
+    }
+
+    @Benchmark
+    public int[] containingScan() {
+        String[] items = list.toArray();
+        List<Integer> found = new ArrayList<>();
+        for (int i = 0; i < items.length; i++) {
+            if (items[i].contains(fragment)) {
+                found.add(i);
+            }
+        }
+        return found.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,98 @@
+package com.eleventh.benchmarks;
+
+import com.eleventh.list.integer.Searcher;
+import com.eleventh.list.integer.VectorIntegerListOps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Векторные и скалярные поиск и агрегация по int[] размера size.
+// Искомого элемента в массиве нет, поэтому поиск
+// просматривает массив целиком.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Thread)
+public class VectorOpsBenchmark {
+    private static final int MISSING = -1;
+
+    @Param({"16", "1024", "65536", "1048576"})
+    private int size;
+
+    private final VectorIntegerListOps vector = new VectorIntegerListOps();
+    private final VectorIntegerListOps scalar = new VectorIntegerListOps(false);
+    private int[] arr;
+
+    @Setup
+    public void setUp() {
+        arr = new Random(25).ints(size, 0, Integer.MAX_VALUE).toArray();
+    }
+
+    @Benchmark
+    public boolean linearSearch() {
+        return Searcher.linearSearch(arr, MISSING);
+    }
+
+    @Benchmark
+    public int scalarIndexOf() {
+        return scalar.indexOf(arr, MISSING);
+    }
+
+    @Benchmark
+    public int vectorIndexOf() {
+        return vector.indexOf(arr, MISSING);
+    }
+
+    @Benchmark
+    public int scalarCount() {
+        return scalar.count(arr, MISSING);
+    }
+
+    @Benchmark
+    public int vectorCount() {
+        return vector.count(arr, MISSING);
+    }
+
+    @Benchmark
+    public int scalarMin() {
+        return scalar.min(arr);
+    }
+
+    @Benchmark
+    public int vectorMin() {
+        return vector.min(arr);
+    }
+
+    @Benchmark
+    public long scalarSum() {
+        return scalar.sum(arr);
+    }
+
+    @Benchmark
+    public long vectorSum() {
+        return vector.sum(arr);
+    }
+
+    @Benchmark
+    public int scalarCountInRange() {
+        return scalar.countInRange(arr, 0, Integer.MAX_VALUE / 4);
+    }
+
+    @Benchmark
+    public int vectorCountInRange() {
+        return vector.countInRange(arr, 0, Integer.MAX_VALUE / 4);
+    }
+}
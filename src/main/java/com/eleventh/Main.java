@@ -1,5 +1,6 @@
 package com.eleventh;
 
+import com.eleventh.list.integer.IntSorter;
 import com.eleventh.list.integer.Sorter;
 
 import java.util.Arrays;
@@ -9,6 +10,7 @@ public class Main {
         var arr1 = generateIntArray(100_000);
         var arr2 = Arrays.copyOf(arr1, arr1.length);
         var arr3 = Arrays.copyOf(arr1, arr1.length);
+        var arr4 = Arrays.stream(arr1).mapToInt(Integer::intValue).toArray();
 
         System.out.println("Сортировка методом пузырька");
         long start = System.currentTimeMillis();
@@ -24,6 +26,11 @@ public class Main {
         start = System.currentTimeMillis();
         Sorter.sortInsertion(arr3);
         System.out.println(System.currentTimeMillis() - start);
+
+        System.out.println("Сортировка IntSorter");
+        start = System.currentTimeMillis();
+        IntSorter.sort(arr4);
+        System.out.println(System.currentTimeMillis() - start);
     }
 
     private static Integer[] generateIntArray(int size) {
@@ -0,0 +1,128 @@
+package com.eleventh.list;
+
+import java.util.Arrays;
+
+// План применения пакета изменений к списку размера size.
+// Индексы всех операций относятся к списку до применения пакета.
+// Вставки в одну позицию сохраняют порядок записи и идут
+// перед элементом, стоявшим в этой позиции. Для каждой позиции
+// допускается одна замена или одно удаление, повторные операции
+// и индексы вне списка отклоняются.
+// merge строит новое содержимое за один проход: неизмененные
+// участки копируются System.arraycopy, каждый сохраняемый
+// элемент перемещается ровно один раз.
+public final class BatchPlan {
+    public static final byte INSERT = 0;
+    public static final byte APPEND = 1;
+    public static final byte SET = 2;
+    public static final byte REMOVE = 3;
+
+    private final int size;
+    private final byte[] kinds;
+    private final int[] insertIndices;
+    private final int[] insertOperations;
+    private int insertCount;
+    private final int[] changeIndices;
+    private final int[] changeOperations;
+    private int changeCount;
+    private int removeCount;
+    private int[] failedOperations;
+    private int failedCount;
+
+    // Записывает значение операции operation
+    // в позицию position нового содержимого.
+    public interface ValueWriter {
+        void write(int position, int operation);
+    }
+
+    public BatchPlan(byte[] kinds, int[] indices, int count, int size) {
+        this.size = size;
+        this.kinds = kinds;
+        long[] inserts = new long[count];
+        long[] changes = new long[count];
+        failedOperations = new int[count];
+        for (int operation = 0; operation < count; operation++) {
+            int index = kinds[operation] == APPEND ? size : indices[operation];
+            if (kinds[operation] == INSERT || kinds[operation] == APPEND) {
+                if (index < 0 || index > size) {
+                    failedOperations[failedCount++] = operation;
+                } else {
+                    inserts[insertCount++] = key(index, operation);
+                }
+            } else if (index < 0 || index >= size) {
+                failedOperations[failedCount++] = operation;
+            } else {
+                changes[changeCount++] = key(index, operation);
+            }
+        }
+        // Сортировка по позиции, при равных позициях - по порядку записи.
+        Arrays.sort(inserts, 0, insertCount);
+        Arrays.sort(changes, 0, changeCount);
+        insertIndices = new int[insertCount];
+        insertOperations = new int[insertCount];
+        for (int i = 0; i < insertCount; i++) {
+            insertIndices[i] = (int) (inserts[i] >>> 32);
+            insertOperations[i] = (int) inserts[i];
+        }
+        changeIndices = new int[changeCount];
+        changeOperations = new int[changeCount];
+        int kept = 0;
+        for (int i = 0; i < changeCount; i++) {
+            int index = (int) (changes[i] >>> 32);
+            int operation = (int) changes[i];
+            if (kept > 0 && changeIndices[kept - 1] == index) {
+                failedOperations[failedCount++] = operation;
+                continue;
+            }
+            changeIndices[kept] = index;
+            changeOperations[kept++] = operation;
+            if (kinds[operation] == REMOVE) {
+                removeCount++;
+            }
+        }
+        changeCount = kept;
+        failedOperations = Arrays.copyOf(failedOperations, failedCount);
+        Arrays.sort(failedOperations);
+    }
+
+    // Размер списка после применения пакета.
+    public int newSize() {
+        return size + insertCount - removeCount;
+    }
+
+    // Собрать новое содержимое из source (первые size элементов)
+    // в target. source и target - массивы одного типа.
+    public void merge(Object source, Object target, ValueWriter writer) {
+        int read = 0;
+        int write = 0;
+        int insert = 0;
+        int change = 0;
+        while (insert < insertCount || change < changeCount) {
+            int position = Math.min(
+                    insert < insertCount ? insertIndices[insert] : Integer.MAX_VALUE,
+                    change < changeCount ? changeIndices[change] : Integer.MAX_VALUE);
+            System.arraycopy(source, read, target, write, position - read);
+            write += position - read;
+            read = position;
+            while (insert < insertCount && insertIndices[insert] == position) {
+                writer.write(write++, insertOperations[insert++]);
+            }
+            if (change < changeCount && changeIndices[change] == position) {
+                int operation = changeOperations[change++];
+                if (kinds[operation] == SET) {
+                    writer.write(write++, operation);
+                }
+                read = position + 1;
+            }
+        }
+        System.arraycopy(source, read, target, write, size - read);
+    }
+
+    public BatchResult result() {
+        return new BatchResult(insertCount + changeCount, failedOperations);
+    }
+
+    private static long key(int index, int operation) {
+        return (long) index << 32 | operation;
+    }
+}
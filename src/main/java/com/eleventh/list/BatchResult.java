@@ -0,0 +1,36 @@
+package com.eleventh.list;
+
+import java.util.Arrays;
+
+// Итог применения пакета изменений списка.
+// Отклоненные операции задаются номерами
+// в порядке записи в пакет, начиная с нуля.
+public final class BatchResult {
+    private final int applied;
+    private final int[] failedOperations;
+
+    public BatchResult(int applied, int[] failedOperations) {
+        this.applied = applied;
+        this.failedOperations = failedOperations;
+    }
+
+    // Количество примененных операций.
+    public int applied() {
+        return applied;
+    }
+
+    // Количество отклоненных операций.
+    public int failed() {
+        return failedOperations.length;
+    }
+
+    // Номера отклоненных операций по возрастанию.
+    public int[] failedOperations() {
+        return failedOperations.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "applied " + applied + ", failed " + Arrays.toString(failedOperations);
+    }
+}
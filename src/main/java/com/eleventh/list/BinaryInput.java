@@ -0,0 +1,93 @@
+package com.eleventh.list;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Буферизованное чтение из потока для кодеков списков,
+// пара к BinaryOutput. Обрыв данных - EOFException,
+// испорченный varint - IOException.
+// Буфер может прочитать из потока больше, чем нужно кодеку.
+public class BinaryInput {
+    private static final int BUFFER_SIZE = 1 << 13;
+    private static final int MAX_VARINT_BYTES = 5;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    public BinaryInput(InputStream in) {
+        this.in = in;
+    }
+
+    public int readByte() throws IOException {
+        if (position == limit) {
+            fill();
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    // Беззнаковый varint. В пятом байте значимы только
+    // младшие 4 бита, лишние биты - признак порчи.
+    public int readVarInt() throws IOException {
+        int result = 0;
+        for (int shift = 0, i = 0; i < MAX_VARINT_BYTES; i++, shift += 7) {
+            int b = readByte();
+            if (i == MAX_VARINT_BYTES - 1 && (b & 0xF0) != 0) {
+                throw new IOException("Malformed varint");
+            }
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    // Знаковый varint в zig-zag кодировке.
+    public int readZigZag() throws IOException {
+        int value = readVarInt();
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    // Строка UTF-8 длиной length байтов. Массив под длинную
+    // строку растет по мере чтения, чтобы испорченная длина
+    // не выделяла память под отсутствующие данные.
+    public String readUtf8(int length) throws IOException {
+        if (length < 0) {
+            throw new IOException("Illegal string length");
+        }
+        if (length <= limit - position) {
+            String result = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return result;
+        }
+        int copied = limit - position;
+        byte[] bytes = new byte[Math.min(length, Math.max(copied, BUFFER_SIZE))];
+        System.arraycopy(buffer, position, bytes, 0, copied);
+        position = limit;
+        while (copied < length) {
+            if (copied == bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+            }
+            int read = in.read(bytes, copied, bytes.length - copied);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of list data");
+            }
+            copied += read;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void fill() throws IOException {
+        int read = in.read(buffer, 0, BUFFER_SIZE);
+        if (read <= 0) {
+            throw new EOFException("Unexpected end of list data");
+        }
+        position = 0;
+        limit = read;
+    }
+}
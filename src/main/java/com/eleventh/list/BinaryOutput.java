@@ -0,0 +1,72 @@
+package com.eleventh.list;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Буферизованная запись в поток для кодеков списков.
+// Числа пишутся в формате varint: по 7 бит на байт,
+// старший бит означает продолжение. Знаковые значения
+// предварительно переводятся в zig-zag, чтобы небольшие
+// по модулю отрицательные числа занимали мало байтов.
+// Поток не закрывается, flush() передает ему буфер.
+public class BinaryOutput {
+    private static final int BUFFER_SIZE = 1 << 13;
+    // Максимальная длина varint для int.
+    private static final int MAX_VARINT_BYTES = 5;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+
+    public BinaryOutput(OutputStream out) {
+        this.out = out;
+    }
+
+    public void writeByte(int value) throws IOException {
+        if (position == BUFFER_SIZE) {
+            flushBuffer();
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    // Беззнаковый varint.
+    public void writeVarInt(int value) throws IOException {
+        if (BUFFER_SIZE - position < MAX_VARINT_BYTES) {
+            flushBuffer();
+        }
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    // Знаковый varint в zig-zag кодировке.
+    public void writeZigZag(int value) throws IOException {
+        writeVarInt(value << 1 ^ value >> 31);
+    }
+
+    public void writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length > BUFFER_SIZE - position) {
+            flushBuffer();
+            if (bytes.length > BUFFER_SIZE) {
+                out.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+// Движок списков с копированием при записи.
+// Чтение работает с неизменяемым снимком массива без блокировок,
+// каждое изменение под общей блокировкой создает новый массив
+// и публикует его через volatile-поле. Каждый метод, включая
+// составные remove(T), addAll, removeRange и removeIf,
+// выполняется атомарно (линеаризуем).
+// Подходит для редко изменяемых списков, запись стоит O(n).
+public class CopyOnWriteCustomArrayList<T> {
+    public static final int NOT_EXIST_INDEX = -1;
+
+    private final Object lock = new Object();
+    private volatile T[] items;
+
+    public CopyOnWriteCustomArrayList(IntFunction<T[]> arrayFactory) {
+        this.items = arrayFactory.apply(0);
+    }
+
+    public T add(T item) {
+        checkItem(item);
+        synchronized (lock) {
+            T[] current = items;
+            T[] copy = Arrays.copyOf(current, current.length + 1);
+            copy[current.length] = item;
+            items = copy;
+        }
+        return item;
+    }
+
+    public T add(int index, T item) {
+        checkItem(item);
+        synchronized (lock) {
+            T[] current = items;
+            if (index < 0 || index > current.length) {
+                throw new IndexOutOfListException("Index out of elements");
+            }
+            T[] copy = Arrays.copyOf(current, current.length + 1);
+            System.arraycopy(current, index, copy, index + 1, current.length - index);
+            copy[index] = item;
+            items = copy;
+        }
+        return item;
+    }
+
+    public T[] addAll(int index, T[] newItems) {
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        for (T item : newItems) {
+            checkItem(item);
+        }
+        synchronized (lock) {
+            T[] current = items;
+            if (index < 0 || index > current.length) {
+                throw new IndexOutOfListException("Index out of elements");
+            }
+            T[] copy = Arrays.copyOf(current, current.length + newItems.length);
+            System.arraycopy(current, index, copy, index + newItems.length, current.length - index);
+            System.arraycopy(newItems, 0, copy, index, newItems.length);
+            items = copy;
+        }
+        return newItems;
+    }
+
+    // Возвращает прежний элемент на этой позиции.
+    public T set(int index, T item) {
+        checkItem(item);
+        synchronized (lock) {
+            T[] current = items;
+            checkIndex(index, current.length);
+            T[] copy = current.clone();
+            copy[index] = item;
+            items = copy;
+            return current[index];
+        }
+    }
+
+    public T remove(T item) {
+        synchronized (lock) {
+            int index = indexOf(items, item);
+            if (index == NOT_EXIST_INDEX) {
+                throw new ItemNotFoundException("Not found");
+            }
+            return remove(index);
+        }
+    }
+
+    public T remove(int index) {
+        synchronized (lock) {
+            T[] current = items;
+            checkIndex(index, current.length);
+            removeRangeLocked(current, index, index + 1);
+            return current[index];
+        }
+    }
+
+    public void removeRange(int from, int to) {
+        synchronized (lock) {
+            T[] current = items;
+            if (from < 0 || from > to || to > current.length) {
+                throw new IndexOutOfListException("Index out of elements");
+            }
+            removeRangeLocked(current, from, to);
+        }
+    }
+
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        synchronized (lock) {
+            T[] current = items;
+            T[] copy = current.clone();
+            int kept = 0;
+            for (T item : current) {
+                if (!filter.test(item)) {
+                    copy[kept++] = item;
+                }
+            }
+            if (kept == current.length) {
+                return false;
+            }
+            items = Arrays.copyOf(copy, kept);
+            return true;
+        }
+    }
+
+    public boolean contains(T item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    public int indexOf(T item) {
+        return indexOf(items, item);
+    }
+
+    public int lastIndexOf(T item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        T[] snapshot = items;
+        for (int i = snapshot.length - 1; i >= 0; i--) {
+            if (item.equals(snapshot[i])) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    public T get(int index) {
+        T[] snapshot = items;
+        checkIndex(index, snapshot.length);
+        return snapshot[index];
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    public boolean isEmpty() {
+        return items.length == 0;
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            items = Arrays.copyOf(items, 0);
+        }
+    }
+
+    public T[] toArray() {
+        return items.clone();
+    }
+
+    // Текущий неизменяемый снимок. Изменять массив нельзя.
+    public T[] snapshot() {
+        return items;
+    }
+
+    public boolean contentEquals(CopyOnWriteCustomArrayList<?> other) {
+        return other != null && Arrays.equals(items, other.items);
+    }
+
+    // Хеш содержимого: 31 + size, затем 31 * result + хеш элемента.
+    public int contentHashCode() {
+        T[] snapshot = items;
+        int result = 31 + snapshot.length;
+        for (T item : snapshot) {
+            result = 31 * result + item.hashCode();
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        T[] snapshot = items;
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[ ");
+        for (int i = 0; i < snapshot.length; i++) {
+            stringBuilder.append(snapshot[i]);
+            if (i < snapshot.length - 1) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" ]");
+        return stringBuilder.toString();
+    }
+
+    private void removeRangeLocked(T[] current, int from, int to) {
+        T[] copy = Arrays.copyOf(current, current.length - (to - from));
+        System.arraycopy(current, to, copy, from, current.length - to);
+        items = copy;
+    }
+
+    private static int indexOf(Object[] snapshot, Object item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        for (int i = 0; i < snapshot.length; i++) {
+            if (item.equals(snapshot[i])) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index > size - 1) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkItem(T item) {
+        if (item == null) {
+            throw new IllegalListItemException("List can't contain null");
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+// Общий движок списков на массиве.
+// IntegerListImpl и StringListImpl делегируют ему хранение,
+// рост массива, сдвиги и поиск.
+// Массив создается через arrayFactory, поэтому имеет
+// настоящий тип элементов (Integer[], String[]).
+public class CustomArrayList<T> {
+    public static final int NOT_EXIST_INDEX = -1;
+
+    private final GrowthStrategy growthStrategy;
+    private int size;
+    private T[] items;
+    // Счетчик структурных изменений для итераторов.
+    private int modCount;
+    // Хеш содержимого вычисляется при первом запросе
+    // и сбрасывается любым изменением, включая set().
+    // 0 - хеш не вычислен, как у String.hash.
+    private int contentHash;
+
+    public CustomArrayList(IntFunction<T[]> arrayFactory, int initialCapacity) {
+        this(arrayFactory, initialCapacity, GrowthStrategy.geometric());
+    }
+
+    public CustomArrayList(IntFunction<T[]> arrayFactory, int initialCapacity, GrowthStrategy growthStrategy) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Illegal capacity");
+        }
+        if (growthStrategy == null) {
+            throw new IllegalArgumentException("Illegal growth strategy");
+        }
+        this.growthStrategy = growthStrategy;
+        this.items = arrayFactory.apply(initialCapacity);
+    }
+
+    public T add(T item) {
+        checkItem(item);
+        if (size == items.length) {
+            grow(size + 1);
+        }
+        items[size] = item;
+        size++;
+        modCount++;
+        contentHash = 0;
+        return item;
+    }
+
+    public T add(int index, T item) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        checkItem(item);
+        if (size == items.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(items, index, items, index + 1, size - index);
+        items[index] = item;
+        size++;
+        modCount++;
+        contentHash = 0;
+        return item;
+    }
+
+    // Вставка массива элементов начиная с index:
+    // одно увеличение емкости и один сдвиг хвоста.
+    public T[] addAll(int index, T[] newItems) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        checkItems(newItems);
+        int count = newItems.length;
+        ensureCapacity(size + count);
+        System.arraycopy(items, index, items, index + count, size - index);
+        System.arraycopy(newItems, 0, items, index, count);
+        size += count;
+        modCount++;
+        contentHash = 0;
+        return newItems;
+    }
+
+    // В отличие от интерфейсов списков
+    // возвращает прежний элемент на этой позиции.
+    public T set(int index, T item) {
+        checkIndex(index);
+        checkItem(item);
+        var previous = items[index];
+        items[index] = item;
+        contentHash = 0;
+        return previous;
+    }
+
+    public T remove(T item) {
+        var index = indexOf(item);
+        if (index == NOT_EXIST_INDEX) {
+            throw new ItemNotFoundException("Not found");
+        }
+        return remove(index);
+    }
+
+    public T remove(int index) {
+        checkIndex(index);
+        var item = items[index];
+        System.arraycopy(items, index + 1, items, index, size - index - 1);
+        size--;
+        items[size] = null;
+        modCount++;
+        contentHash = 0;
+        return item;
+    }
+
+    // Удаление элементов в диапазоне [from, to) одним сдвигом.
+    public void removeRange(int from, int to) {
+        if (from < 0 || from > to || to > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        System.arraycopy(items, to, items, from, size - to);
+        int newSize = size - (to - from);
+        Arrays.fill(items, newSize, size, null);
+        size = newSize;
+        modCount++;
+        contentHash = 0;
+    }
+
+    // Удаление всех элементов, подходящих под условие.
+    // Сначала условие проверяется для всех элементов
+    // и совпадения отмечаются в битовой маске, затем массив
+    // уплотняется за один проход: исключение в filter
+    // оставляет список без изменений.
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        long[] removed = new long[(size + 63) >>> 6];
+        boolean found = false;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(items[i])) {
+                removed[i >>> 6] |= 1L << i;
+                found = true;
+            }
+        }
+        if (!found) {
+            return false;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((removed[i >>> 6] & 1L << i) == 0) {
+                items[kept++] = items[i];
+            }
+        }
+        Arrays.fill(items, kept, size, null);
+        size = kept;
+        modCount++;
+        contentHash = 0;
+        return true;
+    }
+
+    public boolean contains(T item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    public int indexOf(T item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        for (int i = 0; i < size; i++) {
+            if (item.equals(items[i])) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    public int lastIndexOf(T item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (item.equals(items[i])) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    public T get(int index) {
+        checkIndex(index);
+        return items[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int capacity() {
+        return items.length;
+    }
+
+    public void clear() {
+        Arrays.fill(items, 0, size, null);
+        size = 0;
+        modCount++;
+        contentHash = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > items.length) {
+            grow(minCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < items.length) {
+            items = Arrays.copyOf(items, size);
+        }
+    }
+
+    public T[] toArray() {
+        return Arrays.copyOf(items, size);
+    }
+
+    // Внутренний массив для пакетных операций без копирования.
+    // Действительны только первые size() элементов,
+    // ссылку нельзя сохранять: при росте массив заменяется.
+    public T[] backingArray() {
+        return items;
+    }
+
+    // Число структурных изменений: добавлений, удалений, очисток.
+    // set() размер не меняет и не учитывается.
+    public int modCount() {
+        return modCount;
+    }
+
+    // Заменить содержимое готовым массивом,
+    // в котором действительны первые size элементов.
+    // Массив не копируется и переходит во владение списка.
+    public void replaceContent(T[] newItems, int newSize) {
+        items = newItems;
+        size = newSize;
+        modCount++;
+        contentHash = 0;
+    }
+
+    // Сравнение содержимого без учета емкости.
+    // Разные размеры или уже вычисленные разные хеши
+    // дают ответ без обхода элементов.
+    public boolean contentEquals(CustomArrayList<?> other) {
+        if (other == null || size != other.size) {
+            return false;
+        }
+        if (contentHash != 0 && other.contentHash != 0 && contentHash != other.contentHash) {
+            return false;
+        }
+        return Arrays.equals(items, 0, size, other.items, 0, other.size);
+    }
+
+    // Хеш содержимого: 31 + size, затем 31 * result + хеш элемента.
+    // Повторные вызовы без изменений списка работают за O(1).
+    public int contentHashCode() {
+        int result = contentHash;
+        if (result == 0) {
+            result = 31 + size;
+            for (int i = 0; i < size; i++) {
+                result = 31 * result + items[i].hashCode();
+            }
+            contentHash = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[ ");
+        for (int i = 0; i < size; i++) {
+            stringBuilder.append(items[i]);
+            if (i < size - 1) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" ]");
+        return stringBuilder.toString();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size - 1) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkItem(T item) {
+        if (item == null) {
+            throw new IllegalListItemException("List can't contain null");
+        }
+    }
+
+    private void checkItems(T[] newItems) {
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        for (T item : newItems) {
+            checkItem(item);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        items = Arrays.copyOf(items, growthStrategy.newCapacity(items.length, minCapacity));
+    }
+}
@@ -0,0 +1,59 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+
+// Политика увеличения емкости массива списка.
+public interface GrowthStrategy {
+    // Максимальный размер массива, который гарантированно
+    // может выделить JVM.
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    // Вычислить новую емкость массива.
+    // Вернуть значение не меньше minCapacity.
+    int newCapacity(int currentCapacity, int minCapacity);
+
+    // Геометрический рост в полтора раза.
+    static GrowthStrategy geometric() {
+        return geometric(1.5);
+    }
+
+    // Геометрический рост с заданным множителем.
+    static GrowthStrategy geometric(double factor) {
+        if (!(factor > 1.0)) {
+            throw new IllegalArgumentException("Illegal growth factor");
+        }
+        return (currentCapacity, minCapacity) ->
+                bound((long) (currentCapacity * factor), minCapacity);
+    }
+
+    // Удвоение емкости.
+    static GrowthStrategy doubling() {
+        return (currentCapacity, minCapacity) ->
+                bound((long) currentCapacity << 1, minCapacity);
+    }
+
+    // Рост на фиксированное количество элементов.
+    static GrowthStrategy fixedStep(int step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("Illegal growth step");
+        }
+        return (currentCapacity, minCapacity) ->
+                bound((long) currentCapacity + step, minCapacity);
+    }
+
+    // Удвоение емкости, но не больше чем на maxStep элементов за раз.
+    static GrowthStrategy cappedDoubling(int maxStep) {
+        if (maxStep <= 0) {
+            throw new IllegalArgumentException("Illegal growth step");
+        }
+        return (currentCapacity, minCapacity) ->
+                bound((long) currentCapacity + Math.min(currentCapacity, maxStep), minCapacity);
+    }
+
+    private static int bound(long desired, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required list capacity is too large");
+        }
+        return (int) Math.min(Math.max(desired, minCapacity), MAX_CAPACITY);
+    }
+}
@@ -0,0 +1,10 @@
+package com.eleventh.list;
+
+// Поведение ограниченного списка при вставке в заполненный список.
+public enum OverflowPolicy {
+    // Отказать: выбросить IllegalStateException, список не меняется.
+    REJECT,
+    // Вытеснить элемент с противоположного конца:
+    // при вставке в начало - последний, иначе - первый.
+    OVERWRITE
+}
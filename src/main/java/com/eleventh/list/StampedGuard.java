@@ -0,0 +1,98 @@
+package com.eleventh.list;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+// Обертка над StampedLock для потокобезопасных списков.
+// Оптимистичное чтение выполняется без блокировки и повторяется
+// под блокировкой чтения, если во время чтения была запись.
+// Исключение, брошенное при неудачном оптимистичном чтении,
+// считается следствием гонки и не пробрасывается.
+// Без блокировки можно читать только структуры, которые при
+// гонке не зацикливаются и не меняют своего состояния;
+// для остальных optimistic = false, и все чтения идут
+// под блокировкой чтения.
+public class StampedGuard {
+    private final StampedLock lock = new StampedLock();
+    private final boolean optimistic;
+
+    public StampedGuard() {
+        this(true);
+    }
+
+    public StampedGuard(boolean optimistic) {
+        this.optimistic = optimistic;
+    }
+
+    public <R> R optimisticRead(Supplier<R> reader) {
+        long stamp = optimistic ? lock.tryOptimisticRead() : 0;
+        if (stamp != 0) {
+            try {
+                R result = reader.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        return read(reader);
+    }
+
+    public int optimisticReadInt(IntSupplier reader) {
+        long stamp = optimistic ? lock.tryOptimisticRead() : 0;
+        if (stamp != 0) {
+            try {
+                int result = reader.getAsInt();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.getAsInt();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean optimisticReadBoolean(BooleanSupplier reader) {
+        return optimisticReadInt(() -> reader.getAsBoolean() ? 1 : 0) == 1;
+    }
+
+    public <R> R read(Supplier<R> reader) {
+        long stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public <R> R write(Supplier<R> writer) {
+        long stamp = lock.writeLock();
+        try {
+            return writer.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void write(Runnable writer) {
+        long stamp = lock.writeLock();
+        try {
+            writer.run();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.GrowthStrategy;
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+// Список только для добавления из многих потоков без блокировок.
+// Элементы лежат в сегментах удваивающегося размера: сегмент
+// выделяется один раз через CAS, при росте ничего не копируется.
+// Позиция резервируется атомарным инкрементом счетчика.
+// После seal() добавление запрещено, а чтение выполняется
+// через неизменяемый непрерывный снимок. До seal() методы
+// чтения выбрасывают IllegalStateException, остальные изменения
+// не поддерживаются (UnsupportedOperationException).
+public class AppendOnlyIntegerList implements IntegerList {
+    private static final int FIRST_SEGMENT_BITS = 10;
+    private static final int FIRST_SEGMENT_SIZE = 1 << FIRST_SEGMENT_BITS;
+    private static final int SEGMENT_COUNT = Integer.SIZE - FIRST_SEGMENT_BITS;
+    private static final long SEALED = 1L << 62;
+    private static final long COUNT_MASK = SEALED - 1;
+
+    // Количество зарезервированных позиций и флаг SEALED.
+    private final AtomicLong state = new AtomicLong();
+    private final LongAdder committed = new LongAdder();
+    // Позиции, которые были зарезервированы, но не записаны
+    // (например, OutOfMemoryError при выделении сегмента).
+    private final LongAdder failed = new LongAdder();
+    private volatile AtomicReferenceArray<int[]> segments = new AtomicReferenceArray<>(SEGMENT_COUNT);
+    private volatile ImmutableIntegerList sealedList;
+
+    @Override
+    public Integer add(Integer item) {
+        if (item == null) {
+            throw new IllegalListItemException("List can't contain null");
+        }
+        addInt(item);
+        return item;
+    }
+
+    // Добавление примитивного элемента, безопасно из любого потока.
+    public int addInt(int item) {
+        long slot = reserve(1);
+        boolean written = false;
+        try {
+            segmentFor(slot)[offset(slot)] = item;
+            written = true;
+        } finally {
+            commit(1, written);
+        }
+        return item;
+    }
+
+    // Добавление массива элементов в непрерывный блок позиций.
+    public int[] addAllInt(int[] items) {
+        if (items == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        long first = reserve(items.length);
+        boolean written = false;
+        try {
+            for (int i = 0; i < items.length; i++) {
+                long slot = first + i;
+                segmentFor(slot)[offset(slot)] = items[i];
+            }
+            written = true;
+        } finally {
+            commit(items.length, written);
+        }
+        return items;
+    }
+
+    // Запретить добавление, дождаться завершения уже начатых
+    // добавлений и вернуть неизменяемый снимок.
+    // Повторные вызовы возвращают тот же снимок. Если какое-то
+    // добавление завершилось ошибкой, в списке остались пустые
+    // позиции, и seal() выбрасывает IllegalStateException.
+    public synchronized ImmutableIntegerList seal() {
+        if (sealedList != null) {
+            return sealedList;
+        }
+        int count = (int) (state.getAndUpdate(value -> value | SEALED) & COUNT_MASK);
+        while (committed.sum() != count) {
+            Thread.onSpinWait();
+        }
+        if (failed.sum() != 0) {
+            throw new IllegalStateException("List is broken: " + failed.sum() + " items were not added");
+        }
+        int[] result = new int[count];
+        AtomicReferenceArray<int[]> current = segments;
+        int copied = 0;
+        for (int k = 0; copied < count; k++) {
+            int[] segment = current.get(k);
+            int length = Math.min(segment.length, count - copied);
+            System.arraycopy(segment, 0, result, copied, length);
+            copied += length;
+        }
+        sealedList = new ImmutableIntegerList(result);
+        segments = null;
+        return sealedList;
+    }
+
+    public boolean isSealed() {
+        return (state.get() & SEALED) != 0;
+    }
+
+    @Override
+    public Integer add(int index, Integer item) {
+        throw unsupported();
+    }
+
+    @Override
+    public Integer[] addAll(int index, Integer[] items) {
+        throw unsupported();
+    }
+
+    @Override
+    public Integer set(int index, Integer item) {
+        throw unsupported();
+    }
+
+    @Override
+    public Integer remove(Integer item) {
+        throw unsupported();
+    }
+
+    @Override
+    public Integer remove(int index) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<Integer> filter) {
+        throw unsupported();
+    }
+
+    @Override
+    public void clear() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean contains(Integer item) {
+        return sealed().contains(item);
+    }
+
+    @Override
+    public int indexOf(Integer item) {
+        return sealed().indexOf(item);
+    }
+
+    @Override
+    public int lastIndexOf(Integer item) {
+        return sealed().lastIndexOf(item);
+    }
+
+    @Override
+    public Integer get(int index) {
+        return sealed().get(index);
+    }
+
+    @Override
+    public boolean equals(IntegerList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return IntegerList.contentEquals(this, otherList);
+        return sealed().equals(((AppendOnlyIntegerList) otherList).sealed());
+    }
+
+    @Override
+    public int size() {
+        return sealed().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return sealed().isEmpty();
+    }
+
+    // Сегменты выделяются по мере надобности.
+    @Override
+    public void ensureCapacity(int minCapacity) {
+    }
+
+    @Override
+    public void trimToSize() {
+    }
+
+    @Override
+    public Integer[] toArray() {
+        return sealed().toArray();
+    }
+
+    @Override
+    public String toString() {
+        ImmutableIntegerList list = sealedList;
+        return list == null ? "[ unsealed ]" : list.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return sealed().hashCode();
+    }
+
+    // Зарезервированные позиции учитываются и при ошибке записи,
+    // иначе seal() ждал бы их бесконечно. failed увеличивается
+    // раньше committed, поэтому seal() видит его после ожидания.
+    private void commit(int count, boolean written) {
+        if (!written) {
+            failed.add(count);
+        }
+        committed.add(count);
+    }
+
+    // Резервирование count позиций подряд через CAS.
+    private long reserve(int count) {
+        while (true) {
+            long current = state.get();
+            if ((current & SEALED) != 0) {
+                throw new IllegalStateException("List is sealed");
+            }
+            long reserved = current & COUNT_MASK;
+            if (reserved + count > GrowthStrategy.MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required list capacity is too large");
+            }
+            if (state.compareAndSet(current, current + count)) {
+                return reserved;
+            }
+        }
+    }
+
+    // Сегмент k содержит позиции [FIRST * (2^k - 1), FIRST * (2^(k+1) - 1)).
+    private int[] segmentFor(long slot) {
+        int k = segmentIndex(slot);
+        AtomicReferenceArray<int[]> current = segments;
+        int[] segment = current.get(k);
+        if (segment == null) {
+            int[] created = new int[segmentLength(k)];
+            segment = current.compareAndExchange(k, null, created);
+            if (segment == null) {
+                segment = created;
+            }
+        }
+        return segment;
+    }
+
+    // Последний сегмент обрезается по максимальной емкости списка.
+    private static int segmentLength(int k) {
+        long start = (long) FIRST_SEGMENT_SIZE << k;
+        long maxShifted = GrowthStrategy.MAX_CAPACITY - 1L + FIRST_SEGMENT_SIZE;
+        return (int) Math.min(start, maxShifted - start + 1);
+    }
+
+    private static int segmentIndex(long slot) {
+        return Long.SIZE - 1 - Long.numberOfLeadingZeros(slot + FIRST_SEGMENT_SIZE) - FIRST_SEGMENT_BITS;
+    }
+
+    private static int offset(long slot) {
+        long shifted = slot + FIRST_SEGMENT_SIZE;
+        return (int) (shifted - Long.highestOneBit(shifted));
+    }
+
+    private ImmutableIntegerList sealed() {
+        ImmutableIntegerList list = sealedList;
+        if (list == null) {
+            throw new IllegalStateException("List is not sealed");
+        }
+        return list;
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("List is append-only");
+    }
+}
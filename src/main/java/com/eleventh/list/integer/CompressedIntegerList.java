@@ -0,0 +1,521 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.GrowthStrategy;
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+// Сжатый IntegerList для отсортированных данных и малых значений.
+// Элементы хранятся блоками по BLOCK_SIZE: для блока запоминается
+// минимум (frame of reference), а разности с ним упаковываются
+// в long[] по bits бит на элемент, где bits - ширина диапазона блока.
+// Для отсортированных идентификаторов и значений 0-1000 это 2-10 бит
+// вместо 32 у int[] и 16-20 байтов у Integer.
+// get(index) распаковывает один элемент за O(1), последние
+// элементы копятся в несжатом хвосте и упаковываются по заполнении
+// блока. Вставка и удаление в середине перепаковывают блоки от места
+// изменения до конца, как сдвиг хвоста в массиве.
+public class CompressedIntegerList implements IntegerList {
+    public static final int NOT_EXIST_INDEX = -1;
+    public static final int BLOCK_SHIFT = 7;
+    public static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+    private static final long[] NO_WORDS = new long[0];
+
+    private long[][] blockWords = new long[4][];
+    private int[] blockMins = new int[4];
+    private byte[] blockBits = new byte[4];
+    private int blockCount;
+    private final int[] tail = new int[BLOCK_SIZE];
+    private int tailSize;
+    private int size;
+
+    @Override
+    public Integer add(Integer item) {
+        checkItem(item);
+        addInt(item);
+        return item;
+    }
+
+    // Добавление примитивного элемента в конец списка.
+    public int addInt(int item) {
+        if (size == GrowthStrategy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required list capacity is too large");
+        }
+        tail[tailSize++] = item;
+        size++;
+        if (tailSize == BLOCK_SIZE) {
+            packTail();
+        }
+        return item;
+    }
+
+    @Override
+    public Integer add(int index, Integer item) {
+        checkItem(item);
+        addInt(index, item);
+        return item;
+    }
+
+    // Вставка с перепаковкой блоков начиная с блока index.
+    public int addInt(int index, int item) {
+        checkPosition(index);
+        int start = blockStart(index);
+        int[] rest = detachFrom(start);
+        appendRange(rest, 0, index - start);
+        addInt(item);
+        appendRange(rest, index - start, rest.length);
+        return item;
+    }
+
+    @Override
+    public Integer[] addAll(int index, Integer[] newItems) {
+        checkPosition(index);
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        for (Integer item : newItems) {
+            checkItem(item);
+        }
+        int start = blockStart(index);
+        int[] rest = detachFrom(start);
+        appendRange(rest, 0, index - start);
+        for (Integer item : newItems) {
+            addInt(item);
+        }
+        appendRange(rest, index - start, rest.length);
+        return newItems;
+    }
+
+    // Вставка примитивного массива начиная с index.
+    public int[] addAllInt(int index, int[] newItems) {
+        checkPosition(index);
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        int start = blockStart(index);
+        int[] rest = detachFrom(start);
+        appendRange(rest, 0, index - start);
+        appendRange(newItems, 0, newItems.length);
+        appendRange(rest, index - start, rest.length);
+        return newItems;
+    }
+
+    @Override
+    public Integer set(int index, Integer item) {
+        checkItem(item);
+        setInt(index, item);
+        return item;
+    }
+
+    // Значение, попадающее в диапазон блока, записывается
+    // на место, иначе блок перепаковывается.
+    public int setInt(int index, int item) {
+        checkIndex(index);
+        int block = index >>> BLOCK_SHIFT;
+        if (block == blockCount) {
+            tail[index & BLOCK_MASK] = item;
+            return item;
+        }
+        int bits = blockBits[block];
+        long offset = (long) item - blockMins[block];
+        if (offset >= 0 && offset < 1L << bits) {
+            writePacked(blockWords[block], bits, index & BLOCK_MASK, offset);
+        } else {
+            int[] values = new int[BLOCK_SIZE];
+            unpack(block, values, 0);
+            values[index & BLOCK_MASK] = item;
+            pack(block, values);
+        }
+        return item;
+    }
+
+    @Override
+    public Integer remove(Integer item) {
+        var index = indexOf(item);
+        if (index == NOT_EXIST_INDEX) {
+            throw new ItemNotFoundException("Not found");
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        return removeAt(index);
+    }
+
+    // Удаление элемента по индексу без упаковки результата.
+    public int removeAt(int index) {
+        checkIndex(index);
+        int start = blockStart(index);
+        int[] rest = detachFrom(start);
+        int item = rest[index - start];
+        appendRange(rest, 0, index - start);
+        appendRange(rest, index - start + 1, rest.length);
+        return item;
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        if (from < 0 || from > to || to > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        if (from == to) {
+            return;
+        }
+        int start = blockStart(from);
+        int[] rest = detachFrom(start);
+        appendRange(rest, 0, from - start);
+        appendRange(rest, to - start, rest.length);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<Integer> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        return removeIfInt(filter::test);
+    }
+
+    // Удаление по условию с перепаковкой всего списка.
+    // Условие проверяется на распакованной копии, список
+    // заменяется только после проверки всех элементов,
+    // поэтому исключение в filter его не меняет.
+    public boolean removeIfInt(IntPredicate filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        int[] values = toIntArray();
+        int kept = 0;
+        for (int value : values) {
+            if (!filter.test(value)) {
+                values[kept++] = value;
+            }
+        }
+        if (kept == values.length) {
+            return false;
+        }
+        truncate(0);
+        appendRange(values, 0, kept);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Integer item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    // Проверка на существование примитивного элемента.
+    public boolean containsInt(int item) {
+        return indexOfInt(item) != NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int indexOf(Integer item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        return indexOfInt(item);
+    }
+
+    // Поиск примитивного элемента. Блоки, в диапазон
+    // которых элемент не попадает, не распаковываются.
+    public int indexOfInt(int item) {
+        int[] values = new int[BLOCK_SIZE];
+        for (int block = 0; block < blockCount; block++) {
+            if (inRange(block, item)) {
+                unpack(block, values, 0);
+                for (int i = 0; i < BLOCK_SIZE; i++) {
+                    if (values[i] == item) {
+                        return (block << BLOCK_SHIFT) + i;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < tailSize; i++) {
+            if (tail[i] == item) {
+                return (blockCount << BLOCK_SHIFT) + i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int lastIndexOf(Integer item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        return lastIndexOfInt(item);
+    }
+
+    // Поиск примитивного элемента с конца.
+    public int lastIndexOfInt(int item) {
+        for (int i = tailSize - 1; i >= 0; i--) {
+            if (tail[i] == item) {
+                return (blockCount << BLOCK_SHIFT) + i;
+            }
+        }
+        int[] values = new int[BLOCK_SIZE];
+        for (int block = blockCount - 1; block >= 0; block--) {
+            if (inRange(block, item)) {
+                unpack(block, values, 0);
+                for (int i = BLOCK_SIZE - 1; i >= 0; i--) {
+                    if (values[i] == item) {
+                        return (block << BLOCK_SHIFT) + i;
+                    }
+                }
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    // Получить примитивный элемент по индексу.
+    public int getInt(int index) {
+        checkIndex(index);
+        int block = index >>> BLOCK_SHIFT;
+        if (block == blockCount) {
+            return tail[index & BLOCK_MASK];
+        }
+        int bits = blockBits[block];
+        if (bits == 0) {
+            return blockMins[block];
+        }
+        return (int) (blockMins[block] + readPacked(blockWords[block], bits, index & BLOCK_MASK));
+    }
+
+    @Override
+    public boolean equals(IntegerList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return IntegerList.contentEquals(this, otherList);
+        CompressedIntegerList that = (CompressedIntegerList) otherList;
+        return Arrays.equals(toIntArray(), that.toIntArray());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(blockWords, 0, blockCount, null);
+        blockCount = 0;
+        tailSize = 0;
+        size = 0;
+    }
+
+    // Резервирует место под описания блоков.
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        ensureBlocks(minCapacity >>> BLOCK_SHIFT);
+    }
+
+    @Override
+    public void trimToSize() {
+        if (blockCount < blockWords.length) {
+            blockWords = Arrays.copyOf(blockWords, blockCount);
+            blockMins = Arrays.copyOf(blockMins, blockCount);
+            blockBits = Arrays.copyOf(blockBits, blockCount);
+        }
+    }
+
+    // Объем упакованных данных и описаний блоков в байтах
+    // без заголовков объектов.
+    public long dataBytes() {
+        long bytes = (long) tail.length * Integer.BYTES
+                + (long) blockWords.length * (Integer.BYTES + Integer.BYTES + 1);
+        for (int block = 0; block < blockCount; block++) {
+            bytes += (long) blockWords[block].length * Long.BYTES;
+        }
+        return bytes;
+    }
+
+    @Override
+    public Integer[] toArray() {
+        int[] values = toIntArray();
+        Integer[] result = new Integer[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i];
+        }
+        return result;
+    }
+
+    // Распаковать все элементы в новый примитивный массив.
+    public int[] toIntArray() {
+        int[] result = new int[size];
+        for (int block = 0; block < blockCount; block++) {
+            unpack(block, result, block << BLOCK_SHIFT);
+        }
+        System.arraycopy(tail, 0, result, blockCount << BLOCK_SHIFT, tailSize);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        int[] values = toIntArray();
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[ ");
+        for (int i = 0; i < values.length; i++) {
+            stringBuilder.append(values[i]);
+            if (i < values.length - 1) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" ]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(size);
+        for (int value : toIntArray()) {
+            result = 31 * result + value;
+        }
+        return result;
+    }
+
+    private void packTail() {
+        ensureBlocks(blockCount + 1);
+        pack(blockCount, tail);
+        blockCount++;
+        tailSize = 0;
+    }
+
+    // Упаковать BLOCK_SIZE значений в блок block.
+    private void pack(int block, int[] values) {
+        int min = values[0];
+        int max = values[0];
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+        }
+        long range = (long) max - min;
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(range);
+        long[] words = bits == 0 ? NO_WORDS : new long[(BLOCK_SIZE * bits + Long.SIZE - 1) >>> 6];
+        for (int i = 0; i < BLOCK_SIZE && bits != 0; i++) {
+            writePacked(words, bits, i, (long) values[i] - min);
+        }
+        blockWords[block] = words;
+        blockMins[block] = min;
+        blockBits[block] = (byte) bits;
+    }
+
+    // Распаковать блок block в target начиная с offset.
+    private void unpack(int block, int[] target, int offset) {
+        int min = blockMins[block];
+        int bits = blockBits[block];
+        if (bits == 0) {
+            Arrays.fill(target, offset, offset + BLOCK_SIZE, min);
+            return;
+        }
+        long[] words = blockWords[block];
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            target[offset + i] = (int) (min + readPacked(words, bits, i));
+        }
+    }
+
+    private boolean inRange(int block, int item) {
+        long offset = (long) item - blockMins[block];
+        return offset >= 0 && offset < 1L << blockBits[block];
+    }
+
+    private static long readPacked(long[] words, int bits, int position) {
+        int bitIndex = position * bits;
+        int word = bitIndex >>> 6;
+        int shift = bitIndex & 63;
+        long value = words[word] >>> shift;
+        if (shift + bits > Long.SIZE) {
+            value |= words[word + 1] << (Long.SIZE - shift);
+        }
+        return value & (1L << bits) - 1;
+    }
+
+    private static void writePacked(long[] words, int bits, int position, long value) {
+        long mask = (1L << bits) - 1;
+        int bitIndex = position * bits;
+        int word = bitIndex >>> 6;
+        int shift = bitIndex & 63;
+        words[word] = words[word] & ~(mask << shift) | value << shift;
+        if (shift + bits > Long.SIZE) {
+            int spilled = Long.SIZE - shift;
+            words[word + 1] = words[word + 1] & ~(mask >>> spilled) | value >>> spilled;
+        }
+    }
+
+    private static int blockStart(int index) {
+        return index & ~BLOCK_MASK;
+    }
+
+    // Отрезать элементы начиная с начала блока start
+    // и вернуть их распакованными.
+    private int[] detachFrom(int start) {
+        int[] rest = new int[size - start];
+        int firstBlock = start >>> BLOCK_SHIFT;
+        for (int block = firstBlock; block < blockCount; block++) {
+            unpack(block, rest, (block - firstBlock) << BLOCK_SHIFT);
+        }
+        System.arraycopy(tail, 0, rest, (blockCount - firstBlock) << BLOCK_SHIFT, tailSize);
+        truncate(start);
+        return rest;
+    }
+
+    // Отбросить элементы начиная с начала блока start.
+    private void truncate(int start) {
+        int firstBlock = start >>> BLOCK_SHIFT;
+        Arrays.fill(blockWords, firstBlock, blockCount, null);
+        blockCount = firstBlock;
+        tailSize = 0;
+        size = start;
+    }
+
+    private void appendRange(int[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            addInt(values[i]);
+        }
+    }
+
+    private void ensureBlocks(int minBlocks) {
+        if (minBlocks > blockWords.length) {
+            int capacity = Math.max(minBlocks, blockWords.length * 2);
+            blockWords = Arrays.copyOf(blockWords, capacity);
+            blockMins = Arrays.copyOf(blockMins, capacity);
+            blockBits = Arrays.copyOf(blockBits, capacity);
+        }
+    }
+
+    private void checkPosition(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size - 1) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkItem(Integer item) {
+        if (item == null) {
+            throw new IllegalListItemException("List can't contain null");
+        }
+    }
+}
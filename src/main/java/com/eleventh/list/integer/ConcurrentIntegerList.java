@@ -0,0 +1,169 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.BatchResult;
+import com.eleventh.list.StampedGuard;
+import com.eleventh.list.exceptions.IllegalArgumentException;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+// Потокобезопасная обертка над IntegerList на StampedLock.
+// get/size/isEmpty/contains/indexOf/lastIndexOf выполняются
+// оптимистичным чтением без блокировки, если обернут простой
+// список на массиве: IntIntegerList или IntegerListImpl без
+// индекса значений. Для других списков и остальные чтения -
+// под блокировкой чтения, все изменения - под блокировкой записи.
+// Каждый метод, включая составные remove(Integer), addAll,
+// removeRange и removeIf, выполняется атомарно (линеаризуем).
+// Обернутый список нельзя использовать напрямую.
+public class ConcurrentIntegerList implements IntegerList {
+    private final IntegerList delegate;
+    private final StampedGuard guard;
+
+    public ConcurrentIntegerList(int initialCapacity) {
+        this(new IntegerListImpl(initialCapacity));
+    }
+
+    public ConcurrentIntegerList(IntegerList delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Illegal list");
+        }
+        this.delegate = delegate;
+        this.guard = new StampedGuard(isRaceTolerant(delegate));
+    }
+
+    // Подклассы и списки с индексами читаются под блокировкой.
+    private static boolean isRaceTolerant(IntegerList delegate) {
+        return delegate.getClass() == IntIntegerList.class
+                || delegate.getClass() == IntegerListImpl.class && !((IntegerListImpl) delegate).isIndexed();
+    }
+
+    @Override
+    public Integer add(Integer item) {
+        return guard.write(() -> delegate.add(item));
+    }
+
+    @Override
+    public Integer add(int index, Integer item) {
+        return guard.write(() -> delegate.add(index, item));
+    }
+
+    @Override
+    public Integer[] addAll(int index, Integer[] items) {
+        return guard.write(() -> delegate.addAll(index, items));
+    }
+
+    @Override
+    public Integer set(int index, Integer item) {
+        return guard.write(() -> delegate.set(index, item));
+    }
+
+    @Override
+    public Integer remove(Integer item) {
+        return guard.write(() -> delegate.remove(item));
+    }
+
+    @Override
+    public Integer remove(int index) {
+        return guard.write(() -> delegate.remove(index));
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        guard.write(() -> delegate.removeRange(from, to));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<Integer> filter) {
+        return guard.write(() -> delegate.removeIf(filter));
+    }
+
+    @Override
+    public boolean contains(Integer item) {
+        return guard.optimisticReadBoolean(() -> delegate.contains(item));
+    }
+
+    @Override
+    public int indexOf(Integer item) {
+        return guard.optimisticReadInt(() -> delegate.indexOf(item));
+    }
+
+    @Override
+    public int lastIndexOf(Integer item) {
+        return guard.optimisticReadInt(() -> delegate.lastIndexOf(item));
+    }
+
+    @Override
+    public Integer get(int index) {
+        return guard.optimisticRead(() -> delegate.get(index));
+    }
+
+    @Override
+    public boolean equals(IntegerList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return IntegerList.contentEquals(this, otherList);
+        // Снимки берутся по очереди, чтобы не захватывать
+        // две блокировки одновременно.
+        return Arrays.equals(toArray(), otherList.toArray());
+    }
+
+    @Override
+    public int size() {
+        return guard.optimisticReadInt(delegate::size);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return guard.optimisticReadBoolean(delegate::isEmpty);
+    }
+
+    @Override
+    public void clear() {
+        guard.write(delegate::clear);
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        guard.write(() -> delegate.ensureCapacity(minCapacity));
+    }
+
+    @Override
+    public void trimToSize() {
+        guard.write(delegate::trimToSize);
+    }
+
+    @Override
+    public Integer[] toArray() {
+        return guard.read(delegate::toArray);
+    }
+
+    // Обход идет по снимку, снятому под блокировкой чтения:
+    // параллельные изменения на него не влияют.
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return IntegerListSpliterator.of(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return guard.read(delegate::toString);
+    }
+
+    @Override
+    public int hashCode() {
+        Integer[] snapshot = toArray();
+        int result = 31 + snapshot.length;
+        for (Integer item : snapshot) {
+            result = 31 * result + item.hashCode();
+        }
+        return result;
+    }
+
+    // Пакет применяется к обернутому списку
+    // целиком под одной блокировкой записи.
+    BatchResult apply(IntegerListBatch batch) {
+        return guard.write(() -> batch.applyTo(delegate));
+    }
+}
@@ -0,0 +1,131 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.CopyOnWriteCustomArrayList;
+
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+// Потокобезопасный IntegerList с копированием при записи
+// для списков, которые часто читают и редко изменяют.
+// Чтения не блокируются и видят согласованный снимок,
+// каждая запись копирует массив. Все методы атомарны.
+public class CopyOnWriteIntegerList implements IntegerList {
+    private final CopyOnWriteCustomArrayList<Integer> items =
+            new CopyOnWriteCustomArrayList<>(Integer[]::new);
+
+    @Override
+    public Integer add(Integer item) {
+        return items.add(item);
+    }
+
+    @Override
+    public Integer add(int index, Integer item) {
+        return items.add(index, item);
+    }
+
+    @Override
+    public Integer[] addAll(int index, Integer[] newItems) {
+        return items.addAll(index, newItems);
+    }
+
+    @Override
+    public Integer set(int index, Integer item) {
+        items.set(index, item);
+        return item;
+    }
+
+    @Override
+    public Integer remove(Integer item) {
+        return items.remove(item);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        return items.remove(index);
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        items.removeRange(from, to);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<Integer> filter) {
+        return items.removeIf(filter);
+    }
+
+    @Override
+    public boolean contains(Integer item) {
+        return items.contains(item);
+    }
+
+    @Override
+    public int indexOf(Integer item) {
+        return items.indexOf(item);
+    }
+
+    @Override
+    public int lastIndexOf(Integer item) {
+        return items.lastIndexOf(item);
+    }
+
+    @Override
+    public Integer get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public boolean equals(IntegerList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return IntegerList.contentEquals(this, otherList);
+        CopyOnWriteIntegerList that = (CopyOnWriteIntegerList) otherList;
+        return items.contentEquals(that.items);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        items.clear();
+    }
+
+    // Массив всегда точно по размеру списка,
+    // резервировать емкость не нужно.
+    @Override
+    public void ensureCapacity(int minCapacity) {
+    }
+
+    @Override
+    public void trimToSize() {
+    }
+
+    @Override
+    public Integer[] toArray() {
+        return items.toArray();
+    }
+
+    // Обход идет по текущему снимку без копирования.
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return IntegerListSpliterator.of(items.snapshot());
+    }
+
+    @Override
+    public String toString() {
+        return items.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return items.contentHashCode();
+    }
+}
@@ -0,0 +1,425 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.GrowthStrategy;
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+// IntegerList на буфере с разрывом (gap buffer) для правок
+// рядом с курсором. Свободное место массива хранится не в конце,
+// а в позиции последней вставки или удаления: элементы
+// [0, gapStart) и [gapEnd, items.length) заняты, между ними пусто.
+// Вставка и удаление сдвигают только элементы между старой
+// и новой позицией разрыва, поэтому серия правок в одном месте
+// стоит O(1) на операцию. get и set остаются O(1).
+public class GapBufferIntegerList implements IntegerList {
+    public static final int NOT_EXIST_INDEX = -1;
+
+    private final GrowthStrategy growthStrategy;
+    private int[] items;
+    private int gapStart;
+    private int gapEnd;
+    // Счетчик структурных изменений для итераторов.
+    private int modCount;
+
+    public GapBufferIntegerList(int initialCapacity) {
+        this(initialCapacity, GrowthStrategy.geometric());
+    }
+
+    public GapBufferIntegerList(int initialCapacity, GrowthStrategy growthStrategy) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Illegal capacity");
+        }
+        if (growthStrategy == null) {
+            throw new IllegalArgumentException("Illegal growth strategy");
+        }
+        this.growthStrategy = growthStrategy;
+        this.items = new int[initialCapacity];
+        this.gapEnd = initialCapacity;
+    }
+
+    @Override
+    public Integer add(Integer item) {
+        checkItem(item);
+        addInt(item);
+        return item;
+    }
+
+    // Добавление примитивного элемента в конец списка.
+    public int addInt(int item) {
+        return addInt(size(), item);
+    }
+
+    @Override
+    public Integer add(int index, Integer item) {
+        checkItem(item);
+        addInt(index, item);
+        return item;
+    }
+
+    // Вставка в позицию разрыва после его перемещения к index.
+    public int addInt(int index, int item) {
+        checkPosition(index);
+        if (gapStart == gapEnd) {
+            grow(size() + 1);
+        }
+        moveGap(index);
+        items[gapStart++] = item;
+        modCount++;
+        return item;
+    }
+
+    @Override
+    public Integer[] addAll(int index, Integer[] newItems) {
+        checkPosition(index);
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        for (Integer item : newItems) {
+            checkItem(item);
+        }
+        openGap(index, newItems.length);
+        for (Integer item : newItems) {
+            items[gapStart++] = item;
+        }
+        modCount++;
+        return newItems;
+    }
+
+    // Вставка примитивного массива начиная с index.
+    public int[] addAllInt(int index, int[] newItems) {
+        checkPosition(index);
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        openGap(index, newItems.length);
+        System.arraycopy(newItems, 0, items, gapStart, newItems.length);
+        gapStart += newItems.length;
+        modCount++;
+        return newItems;
+    }
+
+    @Override
+    public Integer set(int index, Integer item) {
+        checkItem(item);
+        setInt(index, item);
+        return item;
+    }
+
+    // Установить примитивный элемент на определенную позицию.
+    public int setInt(int index, int item) {
+        checkIndex(index);
+        items[physical(index)] = item;
+        return item;
+    }
+
+    @Override
+    public Integer remove(Integer item) {
+        var index = indexOf(item);
+        if (index == NOT_EXIST_INDEX) {
+            throw new ItemNotFoundException("Not found");
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        return removeAt(index);
+    }
+
+    // Удаленный элемент поглощается разрывом.
+    public int removeAt(int index) {
+        checkIndex(index);
+        moveGap(index);
+        int item = items[gapEnd++];
+        modCount++;
+        return item;
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        if (from < 0 || from > to || to > size()) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        moveGap(from);
+        gapEnd += to - from;
+        modCount++;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<Integer> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        return removeIfInt(filter::test);
+    }
+
+    // Разрыв переносится в конец, удаляемые позиции сначала
+    // отмечаются в битовой маске, затем элементы уплотняются:
+    // исключение в filter оставляет список без изменений.
+    public boolean removeIfInt(IntPredicate filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        int size = size();
+        moveGap(size);
+        long[] removed = new long[(size + 63) >>> 6];
+        boolean found = false;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(items[i])) {
+                removed[i >>> 6] |= 1L << i;
+                found = true;
+            }
+        }
+        if (!found) {
+            return false;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((removed[i >>> 6] & 1L << i) == 0) {
+                items[kept++] = items[i];
+            }
+        }
+        gapStart = kept;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Integer item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    // Проверка на существование примитивного элемента.
+    public boolean containsInt(int item) {
+        return indexOfInt(item) != NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int indexOf(Integer item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        return indexOfInt(item);
+    }
+
+    // Поиск по двум занятым участкам массива.
+    public int indexOfInt(int item) {
+        for (int i = 0; i < gapStart; i++) {
+            if (items[i] == item) {
+                return i;
+            }
+        }
+        for (int i = gapEnd; i < items.length; i++) {
+            if (items[i] == item) {
+                return i - gapLength();
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int lastIndexOf(Integer item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        return lastIndexOfInt(item);
+    }
+
+    // Поиск примитивного элемента с конца.
+    public int lastIndexOfInt(int item) {
+        for (int i = items.length - 1; i >= gapEnd; i--) {
+            if (items[i] == item) {
+                return i - gapLength();
+            }
+        }
+        for (int i = gapStart - 1; i >= 0; i--) {
+            if (items[i] == item) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    // Получить примитивный элемент по индексу.
+    public int getInt(int index) {
+        checkIndex(index);
+        return items[physical(index)];
+    }
+
+    @Override
+    public boolean equals(IntegerList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return IntegerList.contentEquals(this, otherList);
+        GapBufferIntegerList that = (GapBufferIntegerList) otherList;
+        int size = size();
+        if (size != that.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (items[physical(i)] != that.items[that.physical(i)]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return items.length - gapLength();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        gapStart = 0;
+        gapEnd = items.length;
+        modCount++;
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > items.length) {
+            grow(minCapacity);
+        }
+    }
+
+    // Разрыв переносится в конец и отрезается.
+    @Override
+    public void trimToSize() {
+        if (gapStart < gapEnd) {
+            moveGap(size());
+            items = Arrays.copyOf(items, gapStart);
+            gapEnd = gapStart;
+        }
+    }
+
+    @Override
+    public Integer[] toArray() {
+        int size = size();
+        Integer[] result = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = items[physical(i)];
+        }
+        return result;
+    }
+
+    // Создать новый примитивный массив
+    // из элементов списка и вернуть его.
+    public int[] toIntArray() {
+        int[] result = new int[size()];
+        System.arraycopy(items, 0, result, 0, gapStart);
+        System.arraycopy(items, gapEnd, result, gapStart, items.length - gapEnd);
+        return result;
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new IntegerListSpliterator(i -> items[physical(i)], () -> modCount, size());
+    }
+
+    @Override
+    public String toString() {
+        int size = size();
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[ ");
+        for (int i = 0; i < size; i++) {
+            stringBuilder.append(items[physical(i)]);
+            if (i < size - 1) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" ]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int size = size();
+        int result = Objects.hash(size);
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + items[physical(i)];
+        }
+        return result;
+    }
+
+    private int gapLength() {
+        return gapEnd - gapStart;
+    }
+
+    // Позиция элемента index в массиве с учетом разрыва.
+    private int physical(int index) {
+        return index < gapStart ? index : index + gapLength();
+    }
+
+    // Перенос разрыва так, чтобы он начинался с index.
+    // Сдвигаются только элементы между старой и новой позицией.
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(items, index, items, gapEnd - count, count);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(items, gapEnd, items, gapStart, count);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    // Разрыв не меньше count позиций, начинающийся с index.
+    private void openGap(int index, int count) {
+        if (gapLength() < count) {
+            grow(size() + count);
+        }
+        moveGap(index);
+    }
+
+    // Новый массив сохраняет положение разрыва,
+    // добавленное место достается разрыву.
+    private void grow(int minCapacity) {
+        int newCapacity = growthStrategy.newCapacity(items.length, minCapacity);
+        int tail = items.length - gapEnd;
+        int[] grown = new int[newCapacity];
+        System.arraycopy(items, 0, grown, 0, gapStart);
+        System.arraycopy(items, gapEnd, grown, newCapacity - tail, tail);
+        items = grown;
+        gapEnd = newCapacity - tail;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size() - 1) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkPosition(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkItem(Integer item) {
+        if (item == null) {
+            throw new IllegalListItemException("List can't contain null");
+        }
+    }
+}
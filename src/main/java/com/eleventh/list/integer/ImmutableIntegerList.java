@@ -0,0 +1,183 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.exceptions.IndexOutOfListException;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+// Неизменяемый IntegerList поверх непрерывного int[].
+// Методы изменения выбрасывают UnsupportedOperationException.
+public class ImmutableIntegerList implements IntegerList {
+    public static final int NOT_EXIST_INDEX = -1;
+
+    private final int[] items;
+    // Хеш вычисляется один раз, 0 - еще не вычислен.
+    private int hash;
+
+    // Массив не копируется и не должен изменяться после передачи.
+    ImmutableIntegerList(int[] items) {
+        this.items = items;
+    }
+
+    public static ImmutableIntegerList copyOf(int[] items) {
+        return new ImmutableIntegerList(items.clone());
+    }
+
+    @Override
+    public Integer add(Integer item) {
+        throw unsupported();
+    }
+
+    @Override
+    public Integer add(int index, Integer item) {
+        throw unsupported();
+    }
+
+    @Override
+    public Integer[] addAll(int index, Integer[] items) {
+        throw unsupported();
+    }
+
+    @Override
+    public Integer set(int index, Integer item) {
+        throw unsupported();
+    }
+
+    @Override
+    public Integer remove(Integer item) {
+        throw unsupported();
+    }
+
+    @Override
+    public Integer remove(int index) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<Integer> filter) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean contains(Integer item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    public boolean containsInt(int item) {
+        return indexOfInt(item) != NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int indexOf(Integer item) {
+        return item == null ? NOT_EXIST_INDEX : indexOfInt(item);
+    }
+
+    public int indexOfInt(int item) {
+        return VectorIntegerListOps.kernels().indexOf(items, 0, items.length, item);
+    }
+
+    @Override
+    public int lastIndexOf(Integer item) {
+        return item == null ? NOT_EXIST_INDEX : lastIndexOfInt(item);
+    }
+
+    public int lastIndexOfInt(int item) {
+        return VectorIntegerListOps.kernels().lastIndexOf(items, 0, items.length, item);
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    public int getInt(int index) {
+        if (index < 0 || index > items.length - 1) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        return items[index];
+    }
+
+    @Override
+    public boolean equals(IntegerList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return IntegerList.contentEquals(this, otherList);
+        return Arrays.equals(items, ((ImmutableIntegerList) otherList).items);
+    }
+
+    @Override
+    public int size() {
+        return items.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return items.length == 0;
+    }
+
+    @Override
+    public void clear() {
+        throw unsupported();
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+    }
+
+    @Override
+    public void trimToSize() {
+    }
+
+    @Override
+    public Integer[] toArray() {
+        Integer[] result = new Integer[items.length];
+        for (int i = 0; i < items.length; i++) {
+            result[i] = items[i];
+        }
+        return result;
+    }
+
+    public int[] toIntArray() {
+        return items.clone();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[ ");
+        for (int i = 0; i < items.length; i++) {
+            stringBuilder.append(items[i]);
+            if (i < items.length - 1) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" ]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = 31 + items.length;
+            for (int item : items) {
+                result = 31 * result + item;
+            }
+            hash = result;
+        }
+        return result;
+    }
+
+    int[] backingArray() {
+        return items;
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("List is immutable");
+    }
+}
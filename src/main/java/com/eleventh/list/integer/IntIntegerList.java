@@ -0,0 +1,378 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.GrowthStrategy;
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+// Реализация IntegerList поверх примитивного int[].
+// Элементы хранятся без упаковки в Integer,
+// методы addInt/getInt/indexOfInt не создают объектов.
+public class IntIntegerList implements IntegerList {
+    public static final int NOT_EXIST_INDEX = -1;
+
+    private final GrowthStrategy growthStrategy;
+    private int size;
+    private int capacity;
+    private int[] items;
+    // Счетчик структурных изменений для итераторов.
+    private int modCount;
+
+    public IntIntegerList(int initialCapacity) {
+        this(initialCapacity, GrowthStrategy.geometric());
+    }
+
+    public IntIntegerList(int initialCapacity, GrowthStrategy growthStrategy) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Illegal capacity");
+        }
+        if (growthStrategy == null) {
+            throw new IllegalArgumentException("Illegal growth strategy");
+        }
+        this.growthStrategy = growthStrategy;
+        this.capacity = initialCapacity;
+        items = new int[initialCapacity];
+    }
+
+    @Override
+    public Integer add(Integer item) {
+        checkItem(item);
+        addInt(item);
+        return item;
+    }
+
+    // Добавление примитивного элемента в конец списка.
+    public int addInt(int item) {
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        items[size] = item;
+        size++;
+        modCount++;
+        return item;
+    }
+
+    @Override
+    public Integer add(int index, Integer item) {
+        checkItem(item);
+        addInt(index, item);
+        return item;
+    }
+
+    // Добавление примитивного элемента
+    // на определенную позицию списка.
+    public int addInt(int index, int item) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        System.arraycopy(items, index, items, index + 1, size - index);
+        items[index] = item;
+        size++;
+        modCount++;
+        return item;
+    }
+
+    @Override
+    public Integer[] addAll(int index, Integer[] newItems) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        for (Integer item : newItems) {
+            checkItem(item);
+        }
+        int count = newItems.length;
+        openGap(index, count);
+        for (int i = 0; i < count; i++) {
+            items[index + i] = newItems[i];
+        }
+        return newItems;
+    }
+
+    // Вставка примитивного массива начиная с index.
+    public int[] addAllInt(int index, int[] newItems) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        openGap(index, newItems.length);
+        System.arraycopy(newItems, 0, items, index, newItems.length);
+        return newItems;
+    }
+
+    @Override
+    public Integer set(int index, Integer item) {
+        checkItem(item);
+        setInt(index, item);
+        return item;
+    }
+
+    // Установить примитивный элемент на определенную позицию.
+    public int setInt(int index, int item) {
+        checkIndex(index);
+        items[index] = item;
+        return item;
+    }
+
+    @Override
+    public Integer remove(Integer item) {
+        var index = indexOf(item);
+        if (index == NOT_EXIST_INDEX) {
+            throw new ItemNotFoundException("Not found");
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        return removeAt(index);
+    }
+
+    // Удаление элемента по индексу без упаковки результата.
+    public int removeAt(int index) {
+        checkIndex(index);
+        var item = items[index];
+        System.arraycopy(items, index + 1, items, index, size - index - 1);
+        size--;
+        modCount++;
+        return item;
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        if (from < 0 || from > to || to > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        System.arraycopy(items, to, items, from, size - to);
+        size -= to - from;
+        modCount++;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<Integer> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        return removeIfInt(filter::test);
+    }
+
+    // Удаление по условию без упаковки элементов.
+    // Как в CustomArrayList: сначала отметки в битовой маске,
+    // затем уплотнение, исключение в filter список не меняет.
+    public boolean removeIfInt(IntPredicate filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        long[] removed = new long[(size + 63) >>> 6];
+        boolean found = false;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(items[i])) {
+                removed[i >>> 6] |= 1L << i;
+                found = true;
+            }
+        }
+        if (!found) {
+            return false;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((removed[i >>> 6] & 1L << i) == 0) {
+                items[kept++] = items[i];
+            }
+        }
+        size = kept;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Integer item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    // Проверка на существование примитивного элемента.
+    public boolean containsInt(int item) {
+        return indexOfInt(item) != NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int indexOf(Integer item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        return indexOfInt(item);
+    }
+
+    // Поиск примитивного элемента,
+    // векторный при подключенном jdk.incubator.vector.
+    public int indexOfInt(int item) {
+        return VectorIntegerListOps.kernels().indexOf(items, 0, size, item);
+    }
+
+    @Override
+    public int lastIndexOf(Integer item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        return lastIndexOfInt(item);
+    }
+
+    // Поиск примитивного элемента с конца.
+    public int lastIndexOfInt(int item) {
+        return VectorIntegerListOps.kernels().lastIndexOf(items, 0, size, item);
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    // Получить примитивный элемент по индексу.
+    public int getInt(int index) {
+        checkIndex(index);
+        return items[index];
+    }
+
+    @Override
+    public boolean equals(IntegerList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return IntegerList.contentEquals(this, otherList);
+        IntIntegerList that = (IntIntegerList) otherList;
+        return Arrays.equals(items, 0, size, that.items, 0, that.size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity) {
+            grow(minCapacity);
+        }
+    }
+
+    @Override
+    public void trimToSize() {
+        if (size < capacity) {
+            capacity = size;
+            items = Arrays.copyOf(items, size);
+        }
+    }
+
+    @Override
+    public Integer[] toArray() {
+        Integer[] result = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = items[i];
+        }
+        return result;
+    }
+
+    // Создать новый примитивный массив
+    // из элементов списка и вернуть его.
+    public int[] toIntArray() {
+        return Arrays.copyOf(items, size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[ ");
+        for (int i = 0; i < size; i++) {
+            stringBuilder.append(items[i]);
+            if (i < size - 1) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" ]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(size);
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + items[i];
+        }
+        return result;
+    }
+
+    // Обход читает массив напрямую, без проверки индекса и упаковки.
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new IntegerListSpliterator(i -> items[i], () -> modCount, size);
+    }
+
+    // Внутренний массив для пакетных операций без копирования.
+    // Действительны только первые size() элементов.
+    int[] backingArray() {
+        return items;
+    }
+
+    // Отметить изменение элементов, записанных напрямую
+    // в backingArray(), чтобы обход по итератору заметил его.
+    void contentChanged() {
+        modCount++;
+    }
+
+    // Заменить содержимое готовым массивом без копирования.
+    void replaceContent(int[] newItems, int newSize) {
+        items = newItems;
+        capacity = newItems.length;
+        size = newSize;
+        modCount++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size - 1) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkItem(Integer item) {
+        if (item == null) {
+            throw new IllegalListItemException("List can't contain null");
+        }
+    }
+
+    // Освободить count позиций начиная с index.
+    private void openGap(int index, int count) {
+        ensureCapacity(size + count);
+        System.arraycopy(items, index, items, index + count, size - index);
+        size += count;
+        modCount++;
+    }
+
+    private void grow(int minCapacity) {
+        capacity = growthStrategy.newCapacity(capacity, minCapacity);
+        items = Arrays.copyOf(items, capacity);
+    }
+}
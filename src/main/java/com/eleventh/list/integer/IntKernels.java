@@ -0,0 +1,28 @@
+package com.eleventh.list.integer;
+
+// Операции поиска и агрегации над участком [from, to) массива int.
+// Границы проверяет вызывающий код.
+interface IntKernels {
+    int NOT_EXIST_INDEX = -1;
+
+    int indexOf(int[] items, int from, int to, int value);
+
+    int lastIndexOf(int[] items, int from, int to, int value);
+
+    int count(int[] items, int from, int to, int value);
+
+    // Для пустого участка - Integer.MAX_VALUE.
+    int min(int[] items, int from, int to);
+
+    // Для пустого участка - Integer.MIN_VALUE.
+    int max(int[] items, int from, int to);
+
+    long sum(int[] items, int from, int to);
+
+    // Количество элементов в диапазоне [low, high].
+    int countInRange(int[] items, int from, int to, int low, int high);
+
+    // Записать элементы из диапазона [low, high] в target
+    // по порядку и вернуть их количество.
+    int filterRange(int[] items, int from, int to, int low, int high, int[] target);
+}
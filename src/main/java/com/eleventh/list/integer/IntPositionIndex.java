@@ -0,0 +1,170 @@
+package com.eleventh.list.integer;
+
+import java.util.Arrays;
+
+// Вторичный индекс списка: значение -> отсортированные позиции.
+// Хеш-таблица с открытой адресацией и линейным пробированием,
+// ключи хранятся без упаковки.
+class IntPositionIndex {
+    static final int NOT_EXIST_INDEX = -1;
+    private static final int INITIAL_TABLE_SIZE = 16;
+    private static final int INITIAL_POSITIONS = 2;
+
+    private int[] keys;
+    private int[][] positions;
+    private int[] counts;
+    private int keyCount;
+
+    IntPositionIndex() {
+        allocate(INITIAL_TABLE_SIZE);
+    }
+
+    // Добавить позицию значения.
+    void add(int value, int position) {
+        int slot = findSlot(value);
+        if (positions[slot] == null) {
+            keys[slot] = value;
+            positions[slot] = new int[INITIAL_POSITIONS];
+            keyCount++;
+            if (keyCount * 2 > keys.length) {
+                rehash(keys.length * 2);
+                slot = findSlot(value);
+            }
+        }
+        insertPosition(slot, position);
+    }
+
+    // Удалить позицию значения.
+    void remove(int value, int position) {
+        int slot = findSlot(value);
+        if (positions[slot] == null) {
+            return;
+        }
+        int[] slotPositions = positions[slot];
+        int count = counts[slot];
+        int i = Arrays.binarySearch(slotPositions, 0, count, position);
+        if (i < 0) {
+            return;
+        }
+        System.arraycopy(slotPositions, i + 1, slotPositions, i, count - i - 1);
+        counts[slot] = count - 1;
+        if (count == 1) {
+            deleteSlot(slot);
+        }
+    }
+
+    // Сдвинуть на delta все позиции, начиная с from.
+    void shift(int from, int delta) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            int[] slotPositions = positions[slot];
+            if (slotPositions == null) {
+                continue;
+            }
+            int count = counts[slot];
+            if (slotPositions[count - 1] < from) {
+                continue;
+            }
+            int i = Arrays.binarySearch(slotPositions, 0, count, from);
+            for (i = i < 0 ? -i - 1 : i; i < count; i++) {
+                slotPositions[i] += delta;
+            }
+        }
+    }
+
+    boolean contains(int value) {
+        return positions[findSlot(value)] != null;
+    }
+
+    // Первая позиция значения или -1.
+    int first(int value) {
+        int slot = findSlot(value);
+        return positions[slot] == null ? NOT_EXIST_INDEX : positions[slot][0];
+    }
+
+    // Последняя позиция значения или -1.
+    int last(int value) {
+        int slot = findSlot(value);
+        return positions[slot] == null ? NOT_EXIST_INDEX : positions[slot][counts[slot] - 1];
+    }
+
+    void clear() {
+        allocate(INITIAL_TABLE_SIZE);
+    }
+
+    private void insertPosition(int slot, int position) {
+        int[] slotPositions = positions[slot];
+        int count = counts[slot];
+        int i = count;
+        if (count > 0 && slotPositions[count - 1] > position) {
+            i = Arrays.binarySearch(slotPositions, 0, count, position);
+            i = i < 0 ? -i - 1 : i;
+        }
+        if (count == slotPositions.length) {
+            slotPositions = Arrays.copyOf(slotPositions, count * 2);
+            positions[slot] = slotPositions;
+        }
+        System.arraycopy(slotPositions, i, slotPositions, i + 1, count - i);
+        slotPositions[i] = position;
+        counts[slot] = count + 1;
+    }
+
+    private int findSlot(int value) {
+        int mask = keys.length - 1;
+        int slot = hash(value) & mask;
+        while (positions[slot] != null && keys[slot] != value) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // Удаление со сдвигом последующих элементов цепочки,
+    // чтобы не оставлять "надгробий" в таблице.
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        positions[slot] = null;
+        counts[slot] = 0;
+        keyCount--;
+        int hole = slot;
+        int next = (slot + 1) & mask;
+        while (positions[next] != null) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                positions[hole] = positions[next];
+                counts[hole] = counts[next];
+                positions[next] = null;
+                counts[next] = 0;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    private void rehash(int tableSize) {
+        int[] oldKeys = keys;
+        int[][] oldPositions = positions;
+        int[] oldCounts = counts;
+        allocate(tableSize);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldPositions[i] != null) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                positions[slot] = oldPositions[i];
+                counts[slot] = oldCounts[i];
+                keyCount++;
+            }
+        }
+    }
+
+    private void allocate(int tableSize) {
+        keys = new int[tableSize];
+        positions = new int[tableSize][];
+        counts = new int[tableSize];
+        keyCount = 0;
+    }
+
+    private static int hash(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
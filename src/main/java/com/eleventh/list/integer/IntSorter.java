@@ -0,0 +1,298 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+
+import java.util.Arrays;
+
+// Сортировки примитивных массивов int.
+// Все методы сортируют диапазон [from, to) на месте.
+public class IntSorter {
+    private static final int INSERTION_SORT_THRESHOLD = 47;
+    private static final int MIN_RUN = 32;
+    private static final int RADIX_SORT_THRESHOLD = 1 << 16;
+    private static final int COUNTING_SORT_MAX_RANGE = 1 << 20;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    private IntSorter() {
+    }
+
+    //Автоматический выбор алгоритма
+    public static void sort(int[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    public static void sort(int[] arr, int from, int to) {
+        checkRange(arr, from, to);
+        int length = to - from;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            insertionSort(arr, from, to);
+            return;
+        }
+        int min = arr[from];
+        int max = arr[from];
+        int descents = 0;
+        for (int i = from + 1; i < to; i++) {
+            int value = arr[i];
+            if (value < min) {
+                min = value;
+            } else if (value > max) {
+                max = value;
+            }
+            if (value < arr[i - 1]) {
+                descents++;
+            }
+        }
+        if (descents == 0) {
+            return;
+        }
+        long range = (long) max - min + 1;
+        if (range <= COUNTING_SORT_MAX_RANGE && range <= 2L * length) {
+            countingSort(arr, from, to, min, max);
+        } else if (descents < length / MIN_RUN) {
+            timSort(arr, from, to);
+        } else if (length >= RADIX_SORT_THRESHOLD) {
+            radixSort(arr, from, to);
+        } else {
+            dualPivotQuickSort(arr, from, to);
+        }
+    }
+
+    //Быстрая сортировка с двумя опорными элементами
+    public static void dualPivotQuickSort(int[] arr) {
+        dualPivotQuickSort(arr, 0, arr.length);
+    }
+
+    public static void dualPivotQuickSort(int[] arr, int from, int to) {
+        checkRange(arr, from, to);
+        quickSort(arr, from, to - 1);
+    }
+
+    //Устойчивая сортировка слиянием естественных серий (TimSort)
+    public static void timSort(int[] arr) {
+        timSort(arr, 0, arr.length);
+    }
+
+    public static void timSort(int[] arr, int from, int to) {
+        checkRange(arr, from, to);
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        int[] runEnds = new int[length / MIN_RUN + 2];
+        int runCount = 0;
+        int start = from;
+        while (start < to) {
+            int end = runEnd(arr, start, to);
+            if (end - start < MIN_RUN) {
+                int forced = Math.min(start + MIN_RUN, to);
+                insertionSort(arr, start, forced);
+                end = forced;
+            }
+            if (runCount == runEnds.length) {
+                runEnds = Arrays.copyOf(runEnds, runCount * 2);
+            }
+            runEnds[runCount++] = end;
+            start = end;
+        }
+        int[] buffer = new int[length];
+        while (runCount > 1) {
+            int merged = 0;
+            int runStart = from;
+            for (int i = 0; i < runCount; i += 2) {
+                if (i + 1 < runCount) {
+                    merge(arr, buffer, runStart, runEnds[i], runEnds[i + 1], from);
+                    runEnds[merged++] = runEnds[i + 1];
+                    runStart = runEnds[i + 1];
+                } else {
+                    runEnds[merged++] = runEnds[i];
+                }
+            }
+            runCount = merged;
+        }
+    }
+
+    //Поразрядная сортировка (LSD, по 8 бит)
+    public static void radixSort(int[] arr) {
+        radixSort(arr, 0, arr.length);
+    }
+
+    public static void radixSort(int[] arr, int from, int to) {
+        checkRange(arr, from, to);
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        int[] source = Arrays.copyOfRange(arr, from, to);
+        int[] target = new int[length];
+        int[] counts = new int[RADIX];
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            // У старшего разряда инвертируется знаковый бит,
+            // чтобы отрицательные числа оказались впереди.
+            int flip = shift == Integer.SIZE - RADIX_BITS ? RADIX >>> 1 : 0;
+            for (int i = 0; i < length; i++) {
+                counts[((source[i] >>> shift) & (RADIX - 1)) ^ flip]++;
+            }
+            if (counts[((source[0] >>> shift) & (RADIX - 1)) ^ flip] == length) {
+                continue;
+            }
+            int total = 0;
+            for (int i = 0; i < RADIX; i++) {
+                int count = counts[i];
+                counts[i] = total;
+                total += count;
+            }
+            for (int i = 0; i < length; i++) {
+                int value = source[i];
+                target[counts[((value >>> shift) & (RADIX - 1)) ^ flip]++] = value;
+            }
+            int[] tmp = source;
+            source = target;
+            target = tmp;
+        }
+        System.arraycopy(source, 0, arr, from, length);
+    }
+
+    //Сортировка подсчетом для небольшого диапазона значений
+    public static void countingSort(int[] arr) {
+        countingSort(arr, 0, arr.length);
+    }
+
+    public static void countingSort(int[] arr, int from, int to) {
+        checkRange(arr, from, to);
+        if (to - from < 2) {
+            return;
+        }
+        int min = arr[from];
+        int max = arr[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, arr[i]);
+            max = Math.max(max, arr[i]);
+        }
+        if ((long) max - min + 1 > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Value range is too wide for counting sort");
+        }
+        countingSort(arr, from, to, min, max);
+    }
+
+    private static void countingSort(int[] arr, int from, int to, int min, int max) {
+        int[] counts = new int[max - min + 1];
+        for (int i = from; i < to; i++) {
+            counts[arr[i] - min]++;
+        }
+        int position = from;
+        for (int i = 0; i < counts.length; i++) {
+            int count = counts[i];
+            if (count > 0) {
+                Arrays.fill(arr, position, position + count, i + min);
+                position += count;
+            }
+        }
+    }
+
+    private static void quickSort(int[] arr, int left, int right) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            // Опорные элементы берутся из первой и последней трети,
+            // чтобы упорядоченный вход не давал квадратичного времени.
+            int third = (right - left) / 3;
+            swapElements(arr, left, left + third);
+            swapElements(arr, right, right - third);
+            if (arr[left] > arr[right]) {
+                swapElements(arr, left, right);
+            }
+            int lowPivot = arr[left];
+            int highPivot = arr[right];
+            int less = left + 1;
+            int great = right - 1;
+            int k = less;
+            while (k <= great) {
+                int value = arr[k];
+                if (value < lowPivot) {
+                    swapElements(arr, k, less++);
+                } else if (value > highPivot) {
+                    while (arr[great] > highPivot && k < great) {
+                        great--;
+                    }
+                    swapElements(arr, k, great--);
+                    if (arr[k] < lowPivot) {
+                        swapElements(arr, k, less++);
+                    }
+                }
+                k++;
+            }
+            swapElements(arr, left, --less);
+            swapElements(arr, right, ++great);
+            quickSort(arr, left, less - 1);
+            if (lowPivot != highPivot) {
+                quickSort(arr, less + 1, great - 1);
+            }
+            left = great + 1;
+        }
+        insertionSort(arr, left, right + 1);
+    }
+
+    private static int runEnd(int[] arr, int start, int to) {
+        int end = start + 1;
+        if (end == to) {
+            return end;
+        }
+        if (arr[end] < arr[start]) {
+            while (end < to && arr[end] < arr[end - 1]) {
+                end++;
+            }
+            reverse(arr, start, end);
+        } else {
+            while (end < to && arr[end] >= arr[end - 1]) {
+                end++;
+            }
+        }
+        return end;
+    }
+
+    private static void merge(int[] arr, int[] buffer, int from, int middle, int to, int offset) {
+        if (arr[middle - 1] <= arr[middle]) {
+            return;
+        }
+        int leftLength = middle - from;
+        System.arraycopy(arr, from, buffer, from - offset, leftLength);
+        int left = from - offset;
+        int leftEnd = left + leftLength;
+        int right = middle;
+        int position = from;
+        while (left < leftEnd && right < to) {
+            arr[position++] = arr[right] < buffer[left] ? arr[right++] : buffer[left++];
+        }
+        System.arraycopy(buffer, left, arr, position, leftEnd - left);
+    }
+
+    private static void insertionSort(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int temp = arr[i];
+            int j = i;
+            while (j > from && arr[j - 1] > temp) {
+                arr[j] = arr[j - 1];
+                j--;
+            }
+            arr[j] = temp;
+        }
+    }
+
+    private static void reverse(int[] arr, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            swapElements(arr, i, j);
+        }
+    }
+
+    private static void swapElements(int[] arr, int indexA, int indexB) {
+        int tmp = arr[indexA];
+        arr[indexA] = arr[indexB];
+        arr[indexB] = tmp;
+    }
+
+    private static void checkRange(int[] arr, int from, int to) {
+        if (from < 0 || from > to || to > arr.length) {
+            throw new ArrayIndexOutOfBoundsException("Illegal range [" + from + ", " + to + ")");
+        }
+    }
+}
@@ -1,8 +1,18 @@
 package com.eleventh.list.integer;
 
-import com.eleventh.list.string.StringList;
+import com.eleventh.list.exceptions.IllegalArgumentException;
 
-public interface IntegerList {
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public interface IntegerList extends Iterable<Integer> {
     // Добавление элемента.
     // Вернуть добавленный элемент
     // в качестве результата выполнения.
@@ -17,6 +27,15 @@ public interface IntegerList {
     // в качестве результата выполнения.
     Integer add(int index, Integer item);
 
+    // Добавление массива элементов
+    // начиная с определенной позиции списка.
+    // Выбросить исключение, если позиция
+    // выходит за пределы фактического
+    // количества элементов или массив
+    // содержит null.
+    // Вернуть добавленные элементы.
+    Integer[] addAll(int index, Integer[] items);
+
     // Установить элемент
     // на определенную позицию,
     // затерев существующий.
@@ -38,6 +57,18 @@ public interface IntegerList {
     // элемент отсутствует в списке.
     Integer remove(int index);
 
+    // Удаление элементов с индексами
+    // от from (включительно) до to (не включительно).
+    // Выбросить исключение, если диапазон
+    // выходит за пределы фактического
+    // количества элементов.
+    void removeRange(int from, int to);
+
+    // Удаление всех элементов,
+    // удовлетворяющих условию.
+    // Вернуть true, если что-то удалено.
+    boolean removeIf(Predicate<Integer> filter);
+
     // Проверка на существование элемента.
     // Вернуть true/false;
     boolean contains(Integer item);
@@ -59,10 +90,18 @@ public interface IntegerList {
     Integer get(int index);
 
     // Сравнить текущий список с другим.
-    // Вернуть true/false или исключение,
-    // если передан null.
+    // Списки равны, если совпадают размер
+    // и элементы по порядку, независимо
+    // от реализации и емкости.
+    // Для null вернуть false.
     boolean equals(IntegerList otherList);
 
+    // Хеш содержимого, одинаковый у равных списков
+    // любых реализаций: 31 + size(), затем
+    // 31 * result + элемент по порядку.
+    @Override
+    int hashCode();
+
     // Вернуть фактическое количество элементов.
     int size();
 
@@ -74,8 +113,113 @@ public interface IntegerList {
     // Удалить все элементы из списка.
     void clear();
 
+    // Увеличить емкость списка,
+    // если она меньше minCapacity.
+    void ensureCapacity(int minCapacity);
+
+    // Уменьшить емкость списка
+    // до фактического количества элементов.
+    void trimToSize();
+
     // Создать новый массив
     // из строк в списке
     // и вернуть его.
     Integer[] toArray();
+
+    // Итератор по элементам без упаковки:
+    // nextInt() не создает объектов.
+    @Override
+    default PrimitiveIterator.OfInt iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    // Разбиваемый итератор для потоков,
+    // в том числе параллельных.
+    // Характеристики: ORDERED, SIZED, SUBSIZED, NONNULL.
+    // Изменение списка во время обхода приводит
+    // к ConcurrentModificationException. По умолчанию
+    // элементы читаются через get(i), а изменением
+    // считается изменение размера.
+    @Override
+    default Spliterator.OfInt spliterator() {
+        return new IntegerListSpliterator(this::get, this::size, size());
+    }
+
+    // Выполнить действие для каждого элемента по порядку.
+    @Override
+    default void forEach(Consumer<? super Integer> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Illegal action");
+        }
+        spliterator().forEachRemaining(action);
+    }
+
+    // Выполнить действие для каждого элемента
+    // по порядку без упаковки.
+    default void forEachInt(IntConsumer action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Illegal action");
+        }
+        spliterator().forEachRemaining(action);
+    }
+
+    // Поток элементов без копирования списка.
+    // Для параллельной обработки - intStream().parallel().
+    default IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    // Новый пакет изменений этого списка.
+    // Операции пакета применяются вместе методом apply().
+    default IntegerListBatch batch() {
+        return new IntegerListBatch(this);
+    }
+
+    // Сравнение содержимого двух списков любых реализаций.
+    // Непрерывные int[] сравниваются Arrays.equals
+    // (векторизованный mismatch), остальные списки -
+    // поэлементно итераторами без упаковки.
+    static boolean contentEquals(IntegerList list, IntegerList other) {
+        if (list == other) return true;
+        if (list == null || other == null) return false;
+        int size = list.size();
+        if (size != other.size()) {
+            return false;
+        }
+        int[] items = contiguous(list);
+        int[] otherItems = contiguous(other);
+        if (items != null && otherItems != null) {
+            return Arrays.equals(items, 0, size, otherItems, 0, size);
+        }
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        PrimitiveIterator.OfInt otherIterator = other.iterator();
+        while (iterator.hasNext() && otherIterator.hasNext()) {
+            if (iterator.nextInt() != otherIterator.nextInt()) {
+                return false;
+            }
+        }
+        return iterator.hasNext() == otherIterator.hasNext();
+    }
+
+    // Хеш содержимого по общей для всех реализаций формуле.
+    static int contentHashCode(IntegerList list) {
+        int result = 31 + list.size();
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        while (iterator.hasNext()) {
+            result = 31 * result + iterator.nextInt();
+        }
+        return result;
+    }
+
+    // Внутренний массив списков, хранящих элементы
+    // подряд с нулевой позиции, иначе null.
+    private static int[] contiguous(IntegerList list) {
+        if (list instanceof IntIntegerList) {
+            return ((IntIntegerList) list).backingArray();
+        }
+        if (list instanceof ImmutableIntegerList) {
+            return ((ImmutableIntegerList) list).backingArray();
+        }
+        return null;
+    }
 }
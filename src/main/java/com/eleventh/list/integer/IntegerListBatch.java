@@ -0,0 +1,113 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.BatchPlan;
+import com.eleventh.list.BatchResult;
+
+import java.util.Arrays;
+
+// Пакет изменений IntegerList.
+// Операции только записываются, apply() применяет их
+// за один проход слияния (см. BatchPlan): не больше одного
+// выделения массива и одно перемещение каждого сохраняемого
+// элемента вместо сдвига хвоста на каждую операцию.
+// Индексы операций относятся к списку на момент apply(),
+// ошибочные операции не выбрасывают исключений,
+// а попадают в BatchResult. После apply() пакет пуст.
+// IntIntegerList и IntegerListImpl собираются прямо во внутренний
+// массив, остальные реализации получают результат через clear()
+// и addAll(): при ошибке addAll прежнее содержимое возвращается.
+// Ограниченный RingBufferIntegerList не принимает пакет,
+// после которого размер превысит емкость.
+// ConcurrentIntegerList применяет пакет под блокировкой записи.
+public class IntegerListBatch {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final IntegerList list;
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+    private int[] indices = new int[INITIAL_CAPACITY];
+    private int[] values = new int[INITIAL_CAPACITY];
+    private int count;
+
+    IntegerListBatch(IntegerList list) {
+        this.list = list;
+    }
+
+    // Вставка перед элементом с индексом index.
+    public IntegerListBatch insert(int index, int item) {
+        return record(BatchPlan.INSERT, index, item);
+    }
+
+    // Добавление в конец списка.
+    public IntegerListBatch add(int item) {
+        return record(BatchPlan.APPEND, 0, item);
+    }
+
+    public IntegerListBatch set(int index, int item) {
+        return record(BatchPlan.SET, index, item);
+    }
+
+    public IntegerListBatch remove(int index) {
+        return record(BatchPlan.REMOVE, index, 0);
+    }
+
+    // Количество записанных операций.
+    public int size() {
+        return count;
+    }
+
+    public BatchResult apply() {
+        if (list instanceof ConcurrentIntegerList) {
+            return ((ConcurrentIntegerList) list).apply(this);
+        }
+        return applyTo(list);
+    }
+
+    BatchResult applyTo(IntegerList list) {
+        int size = list.size();
+        BatchPlan plan = new BatchPlan(kinds, indices, count, size);
+        int newSize = plan.newSize();
+        if (list instanceof RingBufferIntegerList && newSize > ((RingBufferIntegerList) list).sizeLimit()) {
+            throw new IllegalStateException("List is full");
+        }
+        int[] values = this.values;
+        if (list instanceof IntIntegerList) {
+            IntIntegerList target = (IntIntegerList) list;
+            int[] merged = new int[Math.max(newSize, target.backingArray().length)];
+            plan.merge(target.backingArray(), merged, (position, operation) -> merged[position] = values[operation]);
+            target.replaceContent(merged, newSize);
+        } else if (list instanceof IntegerListImpl) {
+            IntegerListImpl target = (IntegerListImpl) list;
+            Integer[] merged = new Integer[Math.max(newSize, target.backingArray().length)];
+            plan.merge(target.backingArray(), merged, (position, operation) -> merged[position] = values[operation]);
+            target.replaceContent(merged, newSize);
+        } else {
+            Integer[] original = list.toArray();
+            Integer[] merged = new Integer[newSize];
+            plan.merge(original, merged, (position, operation) -> merged[position] = values[operation]);
+            list.clear();
+            try {
+                list.addAll(0, merged);
+            } catch (RuntimeException e) {
+                list.clear();
+                list.addAll(0, original);
+                throw e;
+            }
+        }
+        count = 0;
+        return plan.result();
+    }
+
+    private IntegerListBatch record(byte kind, int index, int item) {
+        if (count == kinds.length) {
+            int capacity = count * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            indices = Arrays.copyOf(indices, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        kinds[count] = kind;
+        indices[count] = index;
+        values[count] = item;
+        count++;
+        return this;
+    }
+}
@@ -0,0 +1,128 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.BinaryInput;
+import com.eleventh.list.BinaryOutput;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+// Двоичный формат IntegerList.
+// Заголовок: 'I', 'L', версия формата, флаги; затем количество
+// элементов (varint) и сами элементы в zig-zag varint.
+// С флагом DELTA пишется разность с предыдущим элементом,
+// для отсортированных и близких значений это 1-2 байта на элемент.
+// Элементы читаются из внутреннего массива списка
+// без промежуточного toArray().
+// Для нескольких списков в одном потоке используйте
+// перегрузки с BinaryOutput/BinaryInput: чтение из потока
+// буферизуется и может забрать байты следующего списка.
+public class IntegerListCodec {
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC_0 = 'I';
+    private static final int MAGIC_1 = 'L';
+    private static final int FLAG_DELTA = 1;
+    // Емкость, выделяемая заранее, не больше этой:
+    // количество из потока может быть испорчено.
+    private static final int MAX_PRESIZE = 1 << 20;
+
+    private final boolean delta;
+
+    public IntegerListCodec() {
+        this(true);
+    }
+
+    public IntegerListCodec(boolean delta) {
+        this.delta = delta;
+    }
+
+    public void writeTo(IntegerList list, OutputStream out) throws IOException {
+        BinaryOutput output = new BinaryOutput(out);
+        writeTo(list, output);
+        output.flush();
+    }
+
+    public void writeTo(IntegerList list, WritableByteChannel channel) throws IOException {
+        writeTo(list, Channels.newOutputStream(channel));
+    }
+
+    public void writeTo(IntegerList list, BinaryOutput output) throws IOException {
+        int size = list.size();
+        output.writeByte(MAGIC_0);
+        output.writeByte(MAGIC_1);
+        output.writeByte(FORMAT_VERSION);
+        output.writeByte(delta ? FLAG_DELTA : 0);
+        output.writeVarInt(size);
+        int previous = 0;
+        if (list instanceof IntIntegerList) {
+            int[] items = ((IntIntegerList) list).backingArray();
+            for (int i = 0; i < size; i++) {
+                previous = writeItem(output, items[i], previous);
+            }
+        } else if (list instanceof IntegerListImpl) {
+            Integer[] items = ((IntegerListImpl) list).backingArray();
+            for (int i = 0; i < size; i++) {
+                previous = writeItem(output, items[i], previous);
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                previous = writeItem(output, list.get(i), previous);
+            }
+        }
+    }
+
+    // Прочитать список в новый IntIntegerList.
+    public IntIntegerList readFrom(InputStream in) throws IOException {
+        return readFrom(new BinaryInput(in));
+    }
+
+    public IntIntegerList readFrom(ReadableByteChannel channel) throws IOException {
+        return readFrom(Channels.newInputStream(channel));
+    }
+
+    public IntIntegerList readFrom(BinaryInput input) throws IOException {
+        int flags = readHeader(input);
+        int size = input.readVarInt();
+        if (size < 0) {
+            throw new IOException("Illegal list size");
+        }
+        IntIntegerList list = new IntIntegerList(Math.max(1, Math.min(size, MAX_PRESIZE)));
+        boolean deltaEncoded = (flags & FLAG_DELTA) != 0;
+        int previous = 0;
+        for (int i = 0; i < size; i++) {
+            int value = input.readZigZag();
+            if (deltaEncoded) {
+                value += previous;
+                previous = value;
+            }
+            list.addInt(value);
+        }
+        return list;
+    }
+
+    private int writeItem(BinaryOutput output, int item, int previous) throws IOException {
+        // Разность может переполниться, при чтении
+        // переполнение сложения дает исходное значение.
+        output.writeZigZag(delta ? item - previous : item);
+        return item;
+    }
+
+    private static int readHeader(BinaryInput input) throws IOException {
+        if (input.readByte() != MAGIC_0 || input.readByte() != MAGIC_1) {
+            throw new IOException("Illegal list format");
+        }
+        int version = input.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported list format version " + version);
+        }
+        int flags = input.readByte();
+        if ((flags & ~FLAG_DELTA) != 0) {
+            throw new IOException("Illegal list format");
+        }
+        return flags;
+    }
+}
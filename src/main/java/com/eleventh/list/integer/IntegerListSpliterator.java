@@ -0,0 +1,85 @@
+package com.eleventh.list.integer;
+
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+
+// Разбиваемый итератор по диапазону индексов [index, fence).
+// Элементы читаются через reader без копирования, trySplit
+// делит диапазон пополам. Перед каждым чтением сверяется
+// счетчик изменений: если список изменился после создания
+// итератора, выбрасывается ConcurrentModificationException.
+final class IntegerListSpliterator implements Spliterator.OfInt {
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL;
+
+    private final IntUnaryOperator reader;
+    private final IntSupplier modCount;
+    private final int expectedModCount;
+    private int index;
+    private final int fence;
+
+    IntegerListSpliterator(IntUnaryOperator reader, IntSupplier modCount, int fence) {
+        this(reader, modCount, modCount.getAsInt(), 0, fence);
+    }
+
+    private IntegerListSpliterator(IntUnaryOperator reader, IntSupplier modCount,
+                                   int expectedModCount, int index, int fence) {
+        this.reader = reader;
+        this.modCount = modCount;
+        this.expectedModCount = expectedModCount;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    // Обход неизменяемого снимка элементов.
+    static IntegerListSpliterator of(Integer[] snapshot) {
+        return new IntegerListSpliterator(i -> snapshot[i], () -> 0, snapshot.length);
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (index >= fence) {
+            return false;
+        }
+        checkModCount();
+        action.accept(reader.applyAsInt(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        for (; index < fence; index++) {
+            checkModCount();
+            action.accept(reader.applyAsInt(index));
+        }
+    }
+
+    @Override
+    public OfInt trySplit() {
+        int middle = (index + fence) >>> 1;
+        if (middle <= index) {
+            return null;
+        }
+        var prefix = new IntegerListSpliterator(reader, modCount, expectedModCount, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    private void checkModCount() {
+        if (modCount.getAsInt() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+}
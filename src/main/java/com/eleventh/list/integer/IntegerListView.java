@@ -0,0 +1,339 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+// Представление IntegerListImpl без копирования элементов.
+// Читает общий массив списка по смещению и длине,
+// создание представления стоит O(1) при любом размере списка.
+// subList поддерживает все операции: изменения выполняются
+// в исходном списке (вместе с его индексом значений),
+// а размеры представления и его предков пересчитываются.
+// reversedView разрешает чтение и set, unmodifiableView - только чтение,
+// остальные методы выбрасывают UnsupportedOperationException.
+// Представление всего списка следит за его размером. Диапазон
+// после изменения списка в обход представления недействителен:
+// следующее обращение выбрасывает ConcurrentModificationException.
+public class IntegerListView implements IntegerList {
+    public static final int NOT_EXIST_INDEX = -1;
+
+    private final IntegerListImpl root;
+    private final IntegerListView parent;
+    private final int offset;
+    private final boolean whole;
+    private final boolean reversed;
+    private final boolean writable;
+    private int size;
+    private int expectedModCount;
+
+    // Представление всего списка.
+    IntegerListView(IntegerListImpl root, boolean reversed, boolean writable) {
+        this(root, null, 0, 0, true, reversed, writable);
+    }
+
+    // Представление диапазона [offset, offset + size) исходного списка.
+    IntegerListView(IntegerListImpl root, IntegerListView parent, int offset, int size,
+                    boolean reversed, boolean writable) {
+        this(root, parent, offset, size, false, reversed, writable);
+    }
+
+    private IntegerListView(IntegerListImpl root, IntegerListView parent, int offset, int size,
+                            boolean whole, boolean reversed, boolean writable) {
+        this.root = root;
+        this.parent = parent;
+        this.offset = offset;
+        this.size = size;
+        this.whole = whole;
+        this.reversed = reversed;
+        this.writable = writable;
+        this.expectedModCount = root.modCount();
+    }
+
+    // Представление диапазона [from, to) этого представления.
+    public IntegerListView subList(int from, int to) {
+        int size = size();
+        if (from < 0 || from > to || to > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        int start = reversed ? offset + size - to : offset + from;
+        return new IntegerListView(root, this, start, to - from, reversed, writable);
+    }
+
+    // Представление того же диапазона только для чтения.
+    public IntegerListView unmodifiableView() {
+        checkModCount();
+        return new IntegerListView(root, this, offset, size(), whole, reversed, false);
+    }
+
+    // Представление того же диапазона в обратном порядке.
+    public IntegerListView reversedView() {
+        checkModCount();
+        return new IntegerListView(root, this, offset, size(), whole, !reversed, writable);
+    }
+
+    @Override
+    public Integer add(Integer item) {
+        checkStructural();
+        root.add(offset + size, item);
+        updateSize(1);
+        return item;
+    }
+
+    @Override
+    public Integer add(int index, Integer item) {
+        checkStructural();
+        checkPosition(index);
+        root.add(offset + index, item);
+        updateSize(1);
+        return item;
+    }
+
+    @Override
+    public Integer[] addAll(int index, Integer[] newItems) {
+        checkStructural();
+        checkPosition(index);
+        root.addAll(offset + index, newItems);
+        updateSize(newItems.length);
+        return newItems;
+    }
+
+    @Override
+    public Integer set(int index, Integer item) {
+        if (!writable) {
+            throw unsupported();
+        }
+        checkIndex(index);
+        return root.set(position(index), item);
+    }
+
+    @Override
+    public Integer remove(Integer item) {
+        checkStructural();
+        var index = indexOf(item);
+        if (index == NOT_EXIST_INDEX) {
+            throw new ItemNotFoundException("Not found");
+        }
+        return remove(index);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        checkStructural();
+        checkIndex(index);
+        var item = root.remove(offset + index);
+        updateSize(-1);
+        return item;
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        checkStructural();
+        if (from < 0 || from > to || to > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        root.removeRange(offset + from, offset + to);
+        updateSize(from - to);
+    }
+
+    // Оставшиеся элементы собираются за один проход
+    // и заменяют диапазон в исходном списке.
+    @Override
+    public boolean removeIf(Predicate<Integer> filter) {
+        checkStructural();
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        var array = root.backingArray();
+        Integer[] kept = new Integer[size];
+        int count = 0;
+        for (int i = offset; i < offset + size; i++) {
+            if (!filter.test(array[i])) {
+                kept[count++] = array[i];
+            }
+        }
+        if (count == size) {
+            return false;
+        }
+        root.removeRange(offset, offset + size);
+        root.addAll(offset, Arrays.copyOf(kept, count));
+        updateSize(count - size);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Integer item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int indexOf(Integer item) {
+        checkModCount();
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        var array = root.backingArray();
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            if (item.equals(array[position(i)])) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int lastIndexOf(Integer item) {
+        checkModCount();
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        var array = root.backingArray();
+        for (int i = size() - 1; i >= 0; i--) {
+            if (item.equals(array[position(i)])) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public Integer get(int index) {
+        checkIndex(index);
+        return root.backingArray()[position(index)];
+    }
+
+    @Override
+    public boolean equals(IntegerList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return IntegerList.contentEquals(this, otherList);
+        IntegerListView that = (IntegerListView) otherList;
+        int size = size();
+        if (size != that.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!get(i).equals(that.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        checkModCount();
+        return whole ? root.size() : size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    // Емкость принадлежит исходному списку.
+    @Override
+    public void ensureCapacity(int minCapacity) {
+    }
+
+    @Override
+    public void trimToSize() {
+    }
+
+    @Override
+    public Integer[] toArray() {
+        int size = size();
+        var array = root.backingArray();
+        Integer[] result = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = array[position(i)];
+        }
+        return result;
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new IntegerListSpliterator(i -> root.backingArray()[position(i)], root::modCount, size());
+    }
+
+    @Override
+    public String toString() {
+        int size = size();
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[ ");
+        for (int i = 0; i < size; i++) {
+            stringBuilder.append(get(i));
+            if (i < size - 1) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" ]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int size = size();
+        int result = Objects.hash(size);
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + get(i).hashCode();
+        }
+        return result;
+    }
+
+    // Позиция элемента index в массиве исходного списка.
+    private int position(int index) {
+        return reversed ? offset + (whole ? root.size() : size) - 1 - index : offset + index;
+    }
+
+    // Изменение размера через это представление
+    // не делает недействительными его предков.
+    private void updateSize(int delta) {
+        int modCount = root.modCount();
+        for (IntegerListView view = this; view != null; view = view.parent) {
+            view.size += delta;
+            view.expectedModCount = modCount;
+        }
+    }
+
+    private void checkModCount() {
+        if (!whole && root.modCount() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private void checkStructural() {
+        if (!writable || reversed || whole) {
+            throw unsupported();
+        }
+        checkModCount();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size() - 1) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkPosition(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("View doesn't support this operation");
+    }
+}
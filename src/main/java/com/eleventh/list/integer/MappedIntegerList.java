@@ -0,0 +1,577 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.GrowthStrategy;
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+// Реализация IntegerList в отображенном в память файле.
+// Файл начинается с заголовка (магическое число, версия формата,
+// size, capacity), дальше идут capacity элементов int.
+// Открытие существующего файла только отображает его в память,
+// данные подгружает кэш страниц ОС по мере обращения.
+// Файл отображается участками по regionCapacity элементов,
+// при росте файл удлиняется и отображается заново только
+// последний неполный участок. Элементы пишутся в файл сразу,
+// а size в заголовке обновляется только в force() и close():
+// до этого открытие файла видит прежний размер. Отложена
+// только запись size: set, removeAt, removeRange и removeIf
+// перезаписывают элементы на месте, и ОС может сбросить эти
+// страницы на диск в любой момент. Защиты от сбоя нет: после
+// сбоя файл может содержать прежний size и уже измененные
+// элементы. force() лишь гарантирует, что size в заголовке
+// не указывает на незаписанные добавленные элементы.
+// I/O ошибки пробрасываются как UncheckedIOException.
+public class MappedIntegerList implements IntegerList, AutoCloseable {
+    public static final int NOT_EXIST_INDEX = -1;
+    public static final int FORMAT_VERSION = 1;
+    public static final int DEFAULT_REGION_CAPACITY = 1 << 26;
+
+    private static final int MAGIC = 0x494C5354;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int SIZE_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 12;
+    private static final int HEADER_BYTES = 16;
+    // Порядок байтов фиксирован, чтобы файл читался на любой платформе.
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final GrowthStrategy growthStrategy;
+    private final int regionShift;
+    private final int regionMask;
+    private MappedByteBuffer[] mapped = new MappedByteBuffer[0];
+    private IntBuffer[] regions = new IntBuffer[0];
+    private int size;
+    private int capacity;
+    private boolean closed;
+
+    public MappedIntegerList(Path path, int initialCapacity) {
+        this(path, initialCapacity, GrowthStrategy.geometric());
+    }
+
+    public MappedIntegerList(Path path, int initialCapacity, GrowthStrategy growthStrategy) {
+        this(path, initialCapacity, growthStrategy, DEFAULT_REGION_CAPACITY);
+    }
+
+    // initialCapacity используется только при создании нового файла.
+    // regionCapacity - размер отображаемого участка в элементах,
+    // степень двойки. В файле не сохраняется.
+    public MappedIntegerList(Path path, int initialCapacity, GrowthStrategy growthStrategy, int regionCapacity) {
+        if (path == null) {
+            throw new IllegalArgumentException("Illegal path");
+        }
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Illegal capacity");
+        }
+        if (growthStrategy == null) {
+            throw new IllegalArgumentException("Illegal growth strategy");
+        }
+        if (regionCapacity <= 0 || Integer.bitCount(regionCapacity) != 1) {
+            throw new IllegalArgumentException("Illegal region capacity");
+        }
+        this.growthStrategy = growthStrategy;
+        this.regionShift = Integer.numberOfTrailingZeros(regionCapacity);
+        this.regionMask = regionCapacity - 1;
+        this.channel = open(path);
+        try {
+            long fileSize = channel.size();
+            if (fileSize != 0 && fileSize < HEADER_BYTES) {
+                throw new IllegalArgumentException("Illegal list file");
+            }
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(ORDER);
+            if (fileSize == 0) {
+                header.putInt(MAGIC_OFFSET, MAGIC);
+                header.putInt(VERSION_OFFSET, FORMAT_VERSION);
+                header.putInt(SIZE_OFFSET, 0);
+                header.putInt(CAPACITY_OFFSET, initialCapacity);
+            }
+            size = header.getInt(SIZE_OFFSET);
+            capacity = header.getInt(CAPACITY_OFFSET);
+            if (header.getInt(MAGIC_OFFSET) != MAGIC
+                    || header.getInt(VERSION_OFFSET) != FORMAT_VERSION
+                    || size < 0 || size > capacity
+                    || fileSize != 0 && fileSize < dataOffset(capacity)) {
+                throw new IllegalArgumentException("Illegal list file");
+            }
+            remap(0, capacity);
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            closeQuietly();
+            throw e;
+        }
+    }
+
+    @Override
+    public Integer add(Integer item) {
+        checkItem(item);
+        addInt(item);
+        return item;
+    }
+
+    // Добавление примитивного элемента в конец списка.
+    public int addInt(int item) {
+        ensureCapacity(size + 1);
+        write(size, item);
+        size++;
+        return item;
+    }
+
+    @Override
+    public Integer add(int index, Integer item) {
+        checkItem(item);
+        addInt(index, item);
+        return item;
+    }
+
+    // Добавление примитивного элемента
+    // на определенную позицию списка.
+    public int addInt(int index, int item) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        openGap(index, 1);
+        write(index, item);
+        return item;
+    }
+
+    @Override
+    public Integer[] addAll(int index, Integer[] newItems) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        for (Integer item : newItems) {
+            checkItem(item);
+        }
+        openGap(index, newItems.length);
+        for (int i = 0; i < newItems.length; i++) {
+            write(index + i, newItems[i]);
+        }
+        return newItems;
+    }
+
+    // Вставка примитивного массива начиная с index.
+    public int[] addAllInt(int index, int[] newItems) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        openGap(index, newItems.length);
+        for (int i = 0; i < newItems.length; i++) {
+            write(index + i, newItems[i]);
+        }
+        return newItems;
+    }
+
+    @Override
+    public Integer set(int index, Integer item) {
+        checkItem(item);
+        setInt(index, item);
+        return item;
+    }
+
+    // Установить примитивный элемент на определенную позицию.
+    public int setInt(int index, int item) {
+        checkIndex(index);
+        write(index, item);
+        return item;
+    }
+
+    @Override
+    public Integer remove(Integer item) {
+        var index = indexOf(item);
+        if (index == NOT_EXIST_INDEX) {
+            throw new ItemNotFoundException("Not found");
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        return removeAt(index);
+    }
+
+    // Удаление элемента по индексу без упаковки результата.
+    public int removeAt(int index) {
+        checkIndex(index);
+        int item = read(index);
+        move(index + 1, index, size - index - 1);
+        size--;
+        return item;
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        checkOpen();
+        if (from < 0 || from > to || to > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        move(to, from, size - to);
+        size -= to - from;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<Integer> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        return removeIfInt(filter::test);
+    }
+
+    // Удаление по условию без упаковки элементов.
+    // Совпадения сначала отмечаются в битовой маске,
+    // поэтому исключение в filter не трогает файл.
+    public boolean removeIfInt(IntPredicate filter) {
+        checkOpen();
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        long[] removed = new long[(size + 63) >>> 6];
+        boolean found = false;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(read(i))) {
+                removed[i >>> 6] |= 1L << i;
+                found = true;
+            }
+        }
+        if (!found) {
+            return false;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((removed[i >>> 6] & 1L << i) == 0) {
+                write(kept++, read(i));
+            }
+        }
+        size = kept;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Integer item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    // Проверка на существование примитивного элемента.
+    public boolean containsInt(int item) {
+        return indexOfInt(item) != NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int indexOf(Integer item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        return indexOfInt(item);
+    }
+
+    // Поиск примитивного элемента.
+    public int indexOfInt(int item) {
+        checkOpen();
+        for (int i = 0; i < size; i++) {
+            if (read(i) == item) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int lastIndexOf(Integer item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        return lastIndexOfInt(item);
+    }
+
+    // Поиск примитивного элемента с конца.
+    public int lastIndexOfInt(int item) {
+        checkOpen();
+        for (int i = size - 1; i >= 0; i--) {
+            if (read(i) == item) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    // Получить примитивный элемент по индексу.
+    public int getInt(int index) {
+        checkIndex(index);
+        return read(index);
+    }
+
+    @Override
+    public boolean equals(IntegerList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return IntegerList.contentEquals(this, otherList);
+        MappedIntegerList that = (MappedIntegerList) otherList;
+        checkOpen();
+        that.checkOpen();
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (read(i) != that.read(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        checkOpen();
+        size = 0;
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        checkOpen();
+        if (minCapacity > capacity) {
+            resize(growthStrategy.newCapacity(capacity, minCapacity));
+        }
+    }
+
+    // Укорачивает файл до фактического количества элементов.
+    @Override
+    public void trimToSize() {
+        checkOpen();
+        if (size < capacity) {
+            resize(size);
+            try {
+                channel.truncate(dataOffset(size));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public int capacity() {
+        checkOpen();
+        return capacity;
+    }
+
+    // Сбросить изменения на диск. Сначала данные, затем
+    // заголовок с новым size, чтобы он не указывал
+    // на незаписанные элементы.
+    public void force() {
+        checkOpen();
+        for (MappedByteBuffer region : mapped) {
+            region.force();
+        }
+        header.putInt(SIZE_OFFSET, size);
+        header.force();
+    }
+
+    // Закрывает файл. Отображение освобождается, когда сборщик
+    // мусора удалит буферы. Повторный вызов ничего не делает.
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        header.putInt(SIZE_OFFSET, size);
+        closed = true;
+        mapped = null;
+        regions = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Integer[] toArray() {
+        checkOpen();
+        Integer[] result = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = read(i);
+        }
+        return result;
+    }
+
+    // Создать новый примитивный массив
+    // из элементов списка и вернуть его.
+    public int[] toIntArray() {
+        checkOpen();
+        int[] result = new int[size];
+        for (int start = 0; start < size; start += regionMask + 1) {
+            IntBuffer region = regions[start >>> regionShift];
+            region.get(0, result, start, Math.min(regionMask + 1, size - start));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        if (closed) {
+            return "[ closed ]";
+        }
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[ ");
+        for (int i = 0; i < size; i++) {
+            stringBuilder.append(read(i));
+            if (i < size - 1) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" ]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        checkOpen();
+        int result = Objects.hash(size);
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + read(i);
+        }
+        return result;
+    }
+
+    private int read(int index) {
+        return regions[index >>> regionShift].get(index & regionMask);
+    }
+
+    private void write(int index, int item) {
+        regions[index >>> regionShift].put(index & regionMask, item);
+    }
+
+    // Сдвиг count элементов с позиции from на позицию to
+    // с учетом перекрытия диапазонов.
+    private void move(int from, int to, int count) {
+        if (to < from) {
+            for (int i = 0; i < count; i++) {
+                write(to + i, read(from + i));
+            }
+        } else {
+            for (int i = count - 1; i >= 0; i--) {
+                write(to + i, read(from + i));
+            }
+        }
+    }
+
+    // Освободить count позиций начиная с index.
+    private void openGap(int index, int count) {
+        ensureCapacity(size + count);
+        move(index, index + count, size - index);
+        size += count;
+    }
+
+    private void resize(int newCapacity) {
+        try {
+            remap(Math.min(capacity, newCapacity), newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Прежний size в заголовке может не поместиться
+        // в уменьшенную емкость.
+        if (newCapacity < capacity) {
+            header.putInt(SIZE_OFFSET, size);
+        }
+        capacity = newCapacity;
+        header.putInt(CAPACITY_OFFSET, newCapacity);
+    }
+
+    // Отобразить участки, затронутые изменением емкости.
+    // Полные участки до unchangedCapacity остаются как есть.
+    // Отображение за концом файла удлиняет файл.
+    private void remap(int unchangedCapacity, int newCapacity) throws IOException {
+        int count = (int) (((long) newCapacity + regionMask) >>> regionShift);
+        MappedByteBuffer[] newMapped = Arrays.copyOf(mapped, count);
+        IntBuffer[] newRegions = Arrays.copyOf(regions, count);
+        for (int k = unchangedCapacity >>> regionShift; k < count; k++) {
+            long start = (long) k << regionShift;
+            long length = Math.min(regionMask + 1, newCapacity - start);
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_WRITE,
+                    dataOffset(start), length * Integer.BYTES);
+            region.order(ORDER);
+            newMapped[k] = region;
+            newRegions[k] = region.asIntBuffer();
+        }
+        mapped = newMapped;
+        regions = newRegions;
+    }
+
+    private static long dataOffset(long index) {
+        return HEADER_BYTES + index * Integer.BYTES;
+    }
+
+    private static FileChannel open(Path path) {
+        try {
+            return FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Исходное исключение важнее.
+        }
+    }
+
+    private void checkIndex(int index) {
+        checkOpen();
+        if (index < 0 || index > size - 1) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkItem(Integer item) {
+        if (item == null) {
+            throw new IllegalListItemException("List can't contain null");
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.GrowthStrategy;
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+// Реализация IntegerList вне кучи Java.
+// Элементы хранятся в цепочке прямых (direct) буферов одинакового
+// размера: при росте добавляется новый буфер, существующие данные
+// не копируются. Для сборщика мусора список - это несколько
+// небольших объектов независимо от количества элементов.
+// После close() буферы отпускаются, любые операции
+// выбрасывают IllegalStateException.
+public class OffHeapIntegerList implements IntegerList, AutoCloseable {
+    public static final int NOT_EXIST_INDEX = -1;
+    public static final int DEFAULT_CHUNK_CAPACITY = 1 << 16;
+    // Размер буфера в байтах (емкость * 4) должен помещаться в int.
+    public static final int MAX_CHUNK_CAPACITY = 1 << 28;
+
+    private final int chunkShift;
+    private final int chunkMask;
+    private IntBuffer[] chunks = new IntBuffer[4];
+    private int chunkCount;
+    private int size;
+    private boolean closed;
+
+    public OffHeapIntegerList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    // Емкость одного буфера в элементах, степень двойки
+    // не больше MAX_CHUNK_CAPACITY.
+    public OffHeapIntegerList(int chunkCapacity) {
+        if (chunkCapacity <= 0 || chunkCapacity > MAX_CHUNK_CAPACITY
+                || Integer.bitCount(chunkCapacity) != 1) {
+            throw new IllegalArgumentException("Illegal chunk capacity");
+        }
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkCapacity);
+        this.chunkMask = chunkCapacity - 1;
+    }
+
+    @Override
+    public Integer add(Integer item) {
+        checkItem(item);
+        addInt(item);
+        return item;
+    }
+
+    // Добавление примитивного элемента в конец списка.
+    public int addInt(int item) {
+        ensureCapacity(size + 1);
+        write(size, item);
+        size++;
+        return item;
+    }
+
+    @Override
+    public Integer add(int index, Integer item) {
+        checkItem(item);
+        addInt(index, item);
+        return item;
+    }
+
+    // Вставка со сдвигом хвоста, O(n) как у массива.
+    public int addInt(int index, int item) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        openGap(index, 1);
+        write(index, item);
+        return item;
+    }
+
+    @Override
+    public Integer[] addAll(int index, Integer[] newItems) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        for (Integer item : newItems) {
+            checkItem(item);
+        }
+        openGap(index, newItems.length);
+        for (int i = 0; i < newItems.length; i++) {
+            write(index + i, newItems[i]);
+        }
+        return newItems;
+    }
+
+    // Вставка примитивного массива начиная с index.
+    public int[] addAllInt(int index, int[] newItems) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        openGap(index, newItems.length);
+        for (int i = 0; i < newItems.length; i++) {
+            write(index + i, newItems[i]);
+        }
+        return newItems;
+    }
+
+    @Override
+    public Integer set(int index, Integer item) {
+        checkItem(item);
+        setInt(index, item);
+        return item;
+    }
+
+    // Установить примитивный элемент на определенную позицию.
+    public int setInt(int index, int item) {
+        checkIndex(index);
+        write(index, item);
+        return item;
+    }
+
+    @Override
+    public Integer remove(Integer item) {
+        var index = indexOf(item);
+        if (index == NOT_EXIST_INDEX) {
+            throw new ItemNotFoundException("Not found");
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        return removeAt(index);
+    }
+
+    // Удаление элемента по индексу без упаковки результата.
+    public int removeAt(int index) {
+        checkIndex(index);
+        int item = read(index);
+        move(index + 1, index, size - index - 1);
+        size--;
+        return item;
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        checkOpen();
+        if (from < 0 || from > to || to > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        move(to, from, size - to);
+        size -= to - from;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<Integer> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        return removeIfInt(filter::test);
+    }
+
+    // Удаление по условию без упаковки элементов.
+    // Совпадения сначала отмечаются в битовой маске,
+    // поэтому исключение в filter не меняет буферы.
+    public boolean removeIfInt(IntPredicate filter) {
+        checkOpen();
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        long[] removed = new long[(size + 63) >>> 6];
+        boolean found = false;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(read(i))) {
+                removed[i >>> 6] |= 1L << i;
+                found = true;
+            }
+        }
+        if (!found) {
+            return false;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((removed[i >>> 6] & 1L << i) == 0) {
+                write(kept++, read(i));
+            }
+        }
+        size = kept;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Integer item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    // Проверка на существование примитивного элемента.
+    public boolean containsInt(int item) {
+        return indexOfInt(item) != NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int indexOf(Integer item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        return indexOfInt(item);
+    }
+
+    // Поиск примитивного элемента, буфер за буфером.
+    public int indexOfInt(int item) {
+        checkOpen();
+        for (int start = 0; start < size; start += chunkMask + 1) {
+            IntBuffer chunk = chunks[start >>> chunkShift];
+            int length = Math.min(chunkMask + 1, size - start);
+            for (int i = 0; i < length; i++) {
+                if (chunk.get(i) == item) {
+                    return start + i;
+                }
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int lastIndexOf(Integer item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        return lastIndexOfInt(item);
+    }
+
+    // Поиск примитивного элемента с конца.
+    public int lastIndexOfInt(int item) {
+        checkOpen();
+        for (int i = size - 1; i >= 0; i--) {
+            if (read(i) == item) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    // Получить примитивный элемент по индексу.
+    public int getInt(int index) {
+        checkIndex(index);
+        return read(index);
+    }
+
+    @Override
+    public boolean equals(IntegerList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return IntegerList.contentEquals(this, otherList);
+        OffHeapIntegerList that = (OffHeapIntegerList) otherList;
+        checkOpen();
+        that.checkOpen();
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (read(i) != that.read(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // Буферы сохраняются для повторного заполнения.
+    @Override
+    public void clear() {
+        checkOpen();
+        size = 0;
+    }
+
+    // Добавляет буферы, пока емкость меньше minCapacity.
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        checkOpen();
+        if (minCapacity < 0 || minCapacity > GrowthStrategy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required list capacity is too large");
+        }
+        int required = (int) (((long) minCapacity + chunkMask) >>> chunkShift);
+        if (required <= chunkCount) {
+            return;
+        }
+        if (required > chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(required, chunks.length * 2));
+        }
+        while (chunkCount < required) {
+            chunks[chunkCount++] = ByteBuffer.allocateDirect((chunkMask + 1) * Integer.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asIntBuffer();
+        }
+    }
+
+    // Отпускает буферы за последним занятым.
+    @Override
+    public void trimToSize() {
+        checkOpen();
+        int required = (size + chunkMask) >>> chunkShift;
+        Arrays.fill(chunks, required, chunkCount, null);
+        chunkCount = required;
+    }
+
+    // Текущая емкость в элементах.
+    public long capacity() {
+        checkOpen();
+        return (long) chunkCount << chunkShift;
+    }
+
+    // Отпускает все буферы. Память вне кучи освобождается,
+    // когда сборщик мусора удалит объекты буферов.
+    // Повторный вызов ничего не делает.
+    @Override
+    public void close() {
+        closed = true;
+        chunks = null;
+        chunkCount = 0;
+        size = 0;
+    }
+
+    @Override
+    public Integer[] toArray() {
+        checkOpen();
+        Integer[] result = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = read(i);
+        }
+        return result;
+    }
+
+    // Создать новый примитивный массив
+    // из элементов списка и вернуть его.
+    public int[] toIntArray() {
+        checkOpen();
+        int[] result = new int[size];
+        for (int start = 0; start < size; start += chunkMask + 1) {
+            IntBuffer chunk = chunks[start >>> chunkShift];
+            chunk.get(0, result, start, Math.min(chunkMask + 1, size - start));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        if (closed) {
+            return "[ closed ]";
+        }
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[ ");
+        for (int i = 0; i < size; i++) {
+            stringBuilder.append(read(i));
+            if (i < size - 1) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" ]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        checkOpen();
+        int result = Objects.hash(size);
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + read(i);
+        }
+        return result;
+    }
+
+    private int read(int index) {
+        return chunks[index >>> chunkShift].get(index & chunkMask);
+    }
+
+    private void write(int index, int item) {
+        chunks[index >>> chunkShift].put(index & chunkMask, item);
+    }
+
+    // Сдвиг count элементов с позиции from на позицию to
+    // с учетом перекрытия диапазонов.
+    private void move(int from, int to, int count) {
+        if (to < from) {
+            for (int i = 0; i < count; i++) {
+                write(to + i, read(from + i));
+            }
+        } else {
+            for (int i = count - 1; i >= 0; i--) {
+                write(to + i, read(from + i));
+            }
+        }
+    }
+
+    // Освободить count позиций начиная с index.
+    private void openGap(int index, int count) {
+        ensureCapacity(size + count);
+        move(index, index + count, size - index);
+        size += count;
+    }
+
+    private void checkIndex(int index) {
+        checkOpen();
+        if (index < 0 || index > size - 1) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkItem(Integer item) {
+        if (item == null) {
+            throw new IllegalListItemException("List can't contain null");
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+}
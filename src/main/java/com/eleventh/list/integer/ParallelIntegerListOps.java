@@ -0,0 +1,241 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Параллельные сортировка и поиск для больших списков.
+// Задачи выполняются в переданном ForkJoinPool, участки
+// не больше sequentialCutoff обрабатываются последовательно.
+// Список не должен изменяться во время выполнения операции.
+public class ParallelIntegerListOps {
+    public static final int NOT_EXIST_INDEX = -1;
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = 1 << 13;
+
+    private final ForkJoinPool pool;
+    private final int sequentialCutoff;
+
+    public ParallelIntegerListOps() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    public ParallelIntegerListOps(ForkJoinPool pool, int sequentialCutoff) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Illegal pool");
+        }
+        if (sequentialCutoff <= 0) {
+            throw new IllegalArgumentException("Illegal sequential cutoff");
+        }
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    //Параллельная сортировка слиянием списка
+    public void parallelSort(IntegerList list) {
+        if (list instanceof IntIntegerList) {
+            var ints = (IntIntegerList) list;
+            parallelSort(ints.backingArray(), 0, ints.size());
+            ints.contentChanged();
+            return;
+        }
+        int[] values = toIntArray(list);
+        parallelSort(values, 0, values.length);
+        for (int i = 0; i < values.length; i++) {
+            list.set(i, values[i]);
+        }
+    }
+
+    //Параллельная сортировка слиянием массива
+    public void parallelSort(int[] arr) {
+        parallelSort(arr, 0, arr.length);
+    }
+
+    public void parallelSort(int[] arr, int from, int to) {
+        Objects.checkFromToIndex(from, to, arr.length);
+        if (to - from <= sequentialCutoff) {
+            IntSorter.sort(arr, from, to);
+            return;
+        }
+        pool.invoke(new SortTask(arr, new int[to - from], from, from, to));
+    }
+
+    //Параллельный поиск первого вхождения элемента
+    public int parallelIndexOf(IntegerList list, int element) {
+        return parallelIndexOf(new Source(list), element);
+    }
+
+    public int parallelIndexOf(int[] arr, int element) {
+        return parallelIndexOf(new Source(arr), element);
+    }
+
+    //Параллельная проверка на существование элемента
+    public boolean parallelContains(IntegerList list, int element) {
+        return parallelIndexOf(list, element) != NOT_EXIST_INDEX;
+    }
+
+    public boolean parallelContains(int[] arr, int element) {
+        return parallelIndexOf(arr, element) != NOT_EXIST_INDEX;
+    }
+
+    private int parallelIndexOf(Source source, int element) {
+        if (source.size <= sequentialCutoff) {
+            int index = source.scan(0, source.size, element, Integer.MAX_VALUE);
+            return index == Integer.MAX_VALUE ? NOT_EXIST_INDEX : index;
+        }
+        AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        pool.invoke(new SearchTask(source, element, found, 0, source.size));
+        int index = found.get();
+        return index == Integer.MAX_VALUE ? NOT_EXIST_INDEX : index;
+    }
+
+    private static int[] toIntArray(IntegerList list) {
+        Integer[] boxed = list instanceof IntegerListImpl
+                ? ((IntegerListImpl) list).backingArray()
+                : list.toArray();
+        int[] result = new int[list.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = boxed[i];
+        }
+        return result;
+    }
+
+    // Источник данных для поиска: примитивный массив,
+    // массив Integer или произвольный список.
+    private static final class Source {
+        private final int[] ints;
+        private final Integer[] boxed;
+        private final IntegerList list;
+        private final int size;
+
+        Source(int[] arr) {
+            this.ints = arr;
+            this.boxed = null;
+            this.list = null;
+            this.size = arr.length;
+        }
+
+        Source(IntegerList list) {
+            this.size = list.size();
+            if (list instanceof IntIntegerList) {
+                this.ints = ((IntIntegerList) list).backingArray();
+                this.boxed = null;
+                this.list = null;
+            } else if (list instanceof IntegerListImpl) {
+                this.ints = null;
+                this.boxed = ((IntegerListImpl) list).backingArray();
+                this.list = null;
+            } else {
+                this.ints = null;
+                this.boxed = null;
+                this.list = list;
+            }
+        }
+
+        // Поиск в [from, to), прерывается, если уже найдено
+        // вхождение с меньшим индексом (limit).
+        int scan(int from, int to, int element, int limit) {
+            int end = Math.min(to, limit);
+            if (ints != null) {
+                for (int i = from; i < end; i++) {
+                    if (ints[i] == element) {
+                        return i;
+                    }
+                }
+            } else if (boxed != null) {
+                for (int i = from; i < end; i++) {
+                    if (boxed[i] == element) {
+                        return i;
+                    }
+                }
+            } else {
+                for (int i = from; i < end; i++) {
+                    if (list.get(i) == element) {
+                        return i;
+                    }
+                }
+            }
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    // Буфер покрывает только сортируемый диапазон: позиции i
+    // массива соответствует buffer[i - base]. Параллельные
+    // слияния работают в непересекающихся частях буфера.
+    private final class SortTask extends RecursiveAction {
+        private final int[] arr;
+        private final int[] buffer;
+        private final int base;
+        private final int from;
+        private final int to;
+
+        SortTask(int[] arr, int[] buffer, int base, int from, int to) {
+            this.arr = arr;
+            this.buffer = buffer;
+            this.base = base;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= sequentialCutoff) {
+                IntSorter.sort(arr, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SortTask(arr, buffer, base, from, middle), new SortTask(arr, buffer, base, middle, to));
+            merge(middle);
+        }
+
+        private void merge(int middle) {
+            if (arr[middle - 1] <= arr[middle]) {
+                return;
+            }
+            System.arraycopy(arr, from, buffer, from - base, middle - from);
+            int left = from - base;
+            int leftEnd = middle - base;
+            int right = middle;
+            int position = from;
+            while (left < leftEnd && right < to) {
+                arr[position++] = arr[right] < buffer[left] ? arr[right++] : buffer[left++];
+            }
+            System.arraycopy(buffer, left, arr, position, leftEnd - left);
+        }
+    }
+
+    private final class SearchTask extends RecursiveAction {
+        private final Source source;
+        private final int element;
+        private final AtomicInteger found;
+        private final int from;
+        private final int to;
+
+        SearchTask(Source source, int element, AtomicInteger found, int from, int to) {
+            this.source = source;
+            this.element = element;
+            this.found = found;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (from >= found.get()) {
+                return;
+            }
+            if (to - from <= sequentialCutoff) {
+                int index = source.scan(from, to, element, found.get());
+                if (index != Integer.MAX_VALUE) {
+                    found.accumulateAndGet(index, Math::min);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SearchTask(source, element, found, from, middle),
+                    new SearchTask(source, element, found, middle, to));
+        }
+    }
+}
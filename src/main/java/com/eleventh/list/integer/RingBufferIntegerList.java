@@ -0,0 +1,534 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.GrowthStrategy;
+import com.eleventh.list.OverflowPolicy;
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+// IntegerList на кольцевом буфере для очередей и деков.
+// Первый элемент лежит в позиции head, список может
+// переходить через конец массива. Операции с обоих концов
+// стоят O(1), вставка и удаление по индексу сдвигают
+// меньшую из двух частей списка.
+// В ограниченном режиме емкость фиксирована, а вставка
+// в заполненный список выполняется по OverflowPolicy.
+public class RingBufferIntegerList implements IntegerList {
+    public static final int NOT_EXIST_INDEX = -1;
+
+    private final GrowthStrategy growthStrategy;
+    // null для списка без ограничения емкости.
+    private final OverflowPolicy overflowPolicy;
+    private int[] items;
+    private int head;
+    private int size;
+    // Счетчик структурных изменений для итераторов.
+    private int modCount;
+
+    public RingBufferIntegerList(int initialCapacity) {
+        this(initialCapacity, GrowthStrategy.geometric());
+    }
+
+    public RingBufferIntegerList(int initialCapacity, GrowthStrategy growthStrategy) {
+        this(initialCapacity, growthStrategy, null);
+        if (growthStrategy == null) {
+            throw new IllegalArgumentException("Illegal growth strategy");
+        }
+    }
+
+    // Ограниченный список емкостью capacity.
+    public RingBufferIntegerList(int capacity, OverflowPolicy overflowPolicy) {
+        this(capacity, null, overflowPolicy);
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("Illegal overflow policy");
+        }
+    }
+
+    private RingBufferIntegerList(int initialCapacity, GrowthStrategy growthStrategy,
+                                  OverflowPolicy overflowPolicy) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Illegal capacity");
+        }
+        this.growthStrategy = growthStrategy;
+        this.overflowPolicy = overflowPolicy;
+        this.items = new int[initialCapacity];
+    }
+
+    @Override
+    public Integer add(Integer item) {
+        checkItem(item);
+        addLast(item);
+        return item;
+    }
+
+    // Добавление примитивного элемента в конец списка.
+    public int addInt(int item) {
+        return addLast(item);
+    }
+
+    // Добавление в начало за O(1).
+    public int addFirst(int item) {
+        insert(0, item);
+        return item;
+    }
+
+    // Добавление в конец за O(1).
+    public int addLast(int item) {
+        insert(size, item);
+        return item;
+    }
+
+    @Override
+    public Integer add(int index, Integer item) {
+        checkItem(item);
+        addInt(index, item);
+        return item;
+    }
+
+    // Добавление примитивного элемента
+    // на определенную позицию списка.
+    public int addInt(int index, int item) {
+        checkPosition(index);
+        insert(index, item);
+        return item;
+    }
+
+    @Override
+    public Integer[] addAll(int index, Integer[] newItems) {
+        checkPosition(index);
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        int[] values = new int[newItems.length];
+        for (int i = 0; i < newItems.length; i++) {
+            checkItem(newItems[i]);
+            values[i] = newItems[i];
+        }
+        addAllInt(index, values);
+        return newItems;
+    }
+
+    // Вставка примитивного массива начиная с index.
+    // В ограниченном режиме элементы вставляются по одному
+    // по правилам OverflowPolicy.
+    public int[] addAllInt(int index, int[] newItems) {
+        checkPosition(index);
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        int count = newItems.length;
+        if (overflowPolicy == null) {
+            openGap(index, count);
+            for (int i = 0; i < count; i++) {
+                items[physical(index + i)] = newItems[i];
+            }
+            modCount++;
+            return newItems;
+        }
+        if (overflowPolicy == OverflowPolicy.REJECT && size + count > items.length) {
+            throw new IllegalStateException("List is full");
+        }
+        // Сторона вытеснения выбирается один раз для всего массива:
+        // при вставке в начало вытесняются последние элементы,
+        // иначе первые, как при серии addFirst или addLast.
+        // Элементы, которые вытеснились бы сразу, не вставляются.
+        boolean evictLast = index == 0;
+        int position = index;
+        for (int item : newItems) {
+            if (evictLast && position == items.length) {
+                break;
+            }
+            position = insert(position, item, evictLast) + 1;
+        }
+        return newItems;
+    }
+
+    @Override
+    public Integer set(int index, Integer item) {
+        checkItem(item);
+        setInt(index, item);
+        return item;
+    }
+
+    // Установить примитивный элемент на определенную позицию.
+    public int setInt(int index, int item) {
+        checkIndex(index);
+        items[physical(index)] = item;
+        return item;
+    }
+
+    @Override
+    public Integer remove(Integer item) {
+        var index = indexOf(item);
+        if (index == NOT_EXIST_INDEX) {
+            throw new ItemNotFoundException("Not found");
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        return removeAt(index);
+    }
+
+    // Удаление первого элемента за O(1).
+    public int removeFirst() {
+        return removeAt(0);
+    }
+
+    // Удаление последнего элемента за O(1).
+    public int removeLast() {
+        return removeAt(size - 1);
+    }
+
+    // Удаление со сдвигом меньшей части списка.
+    public int removeAt(int index) {
+        checkIndex(index);
+        int item = items[physical(index)];
+        if (index < size - index - 1) {
+            for (int i = index; i > 0; i--) {
+                items[physical(i)] = items[physical(i - 1)];
+            }
+            head = physical(1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                items[physical(i)] = items[physical(i + 1)];
+            }
+        }
+        size--;
+        modCount++;
+        return item;
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        if (from < 0 || from > to || to > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        int count = to - from;
+        if (from < size - to) {
+            for (int i = from - 1; i >= 0; i--) {
+                items[physical(i + count)] = items[physical(i)];
+            }
+            head = size == count ? 0 : physical(count);
+        } else {
+            for (int i = to; i < size; i++) {
+                items[physical(i - count)] = items[physical(i)];
+            }
+        }
+        size -= count;
+        modCount++;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<Integer> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        return removeIfInt(filter::test);
+    }
+
+    // Удаляемые позиции сначала отмечаются в битовой маске,
+    // затем элементы уплотняются: исключение в filter
+    // оставляет список без изменений.
+    public boolean removeIfInt(IntPredicate filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        long[] removed = new long[(size + 63) >>> 6];
+        boolean found = false;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(items[physical(i)])) {
+                removed[i >>> 6] |= 1L << i;
+                found = true;
+            }
+        }
+        if (!found) {
+            return false;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((removed[i >>> 6] & 1L << i) == 0) {
+                items[physical(kept++)] = items[physical(i)];
+            }
+        }
+        size = kept;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Integer item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    // Проверка на существование примитивного элемента.
+    public boolean containsInt(int item) {
+        return indexOfInt(item) != NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int indexOf(Integer item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        return indexOfInt(item);
+    }
+
+    // Поиск примитивного элемента.
+    public int indexOfInt(int item) {
+        for (int i = 0; i < size; i++) {
+            if (items[physical(i)] == item) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int lastIndexOf(Integer item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        return lastIndexOfInt(item);
+    }
+
+    // Поиск примитивного элемента с конца.
+    public int lastIndexOfInt(int item) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (items[physical(i)] == item) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    // Получить примитивный элемент по индексу.
+    public int getInt(int index) {
+        checkIndex(index);
+        return items[physical(index)];
+    }
+
+    public int getFirst() {
+        return getInt(0);
+    }
+
+    public int getLast() {
+        return getInt(size - 1);
+    }
+
+    @Override
+    public boolean equals(IntegerList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return IntegerList.contentEquals(this, otherList);
+        RingBufferIntegerList that = (RingBufferIntegerList) otherList;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (items[physical(i)] != that.items[that.physical(i)]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Ограниченный список заполнен.
+    public boolean isFull() {
+        return overflowPolicy != null && size == items.length;
+    }
+
+    // Наибольший размер списка без вытеснения элементов.
+    int sizeLimit() {
+        return overflowPolicy != null ? items.length : GrowthStrategy.MAX_CAPACITY;
+    }
+
+    @Override
+    public void clear() {
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    // Емкость ограниченного списка не меняется.
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (overflowPolicy == null && minCapacity > items.length) {
+            grow(minCapacity);
+        }
+    }
+
+    @Override
+    public void trimToSize() {
+        if (overflowPolicy == null && size < items.length) {
+            items = toIntArray();
+            head = 0;
+        }
+    }
+
+    @Override
+    public Integer[] toArray() {
+        Integer[] result = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = items[physical(i)];
+        }
+        return result;
+    }
+
+    // Создать новый примитивный массив
+    // из элементов списка и вернуть его.
+    public int[] toIntArray() {
+        return copyTo(new int[size]);
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new IntegerListSpliterator(i -> items[physical(i)], () -> modCount, size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[ ");
+        for (int i = 0; i < size; i++) {
+            stringBuilder.append(items[physical(i)]);
+            if (i < size - 1) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" ]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(size);
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + items[physical(i)];
+        }
+        return result;
+    }
+
+    // Позиция элемента index в массиве.
+    private int physical(int index) {
+        int position = head + index;
+        return position < items.length ? position : position - items.length;
+    }
+
+    // Вставка со сдвигом меньшей части списка.
+    // Вернуть индекс, под которым оказался элемент.
+    private int insert(int index, int item) {
+        return insert(index, item, index == 0);
+    }
+
+    // evictLast - при переполнении в режиме OVERWRITE
+    // вытесняется последний элемент, иначе первый.
+    private int insert(int index, int item, boolean evictLast) {
+        if (size == items.length) {
+            index = makeRoom(index, evictLast);
+        }
+        if (index < size - index) {
+            head = head == 0 ? items.length - 1 : head - 1;
+            for (int i = 0; i < index; i++) {
+                items[physical(i)] = items[physical(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                items[physical(i)] = items[physical(i - 1)];
+            }
+        }
+        items[physical(index)] = item;
+        size++;
+        modCount++;
+        return index;
+    }
+
+    // Освободить место в заполненном списке.
+    // Вернуть индекс вставки с учетом вытесненного элемента.
+    private int makeRoom(int index, boolean evictLast) {
+        if (overflowPolicy == null) {
+            grow(size + 1);
+            return index;
+        }
+        if (overflowPolicy == OverflowPolicy.REJECT) {
+            throw new IllegalStateException("List is full");
+        }
+        if (evictLast) {
+            size--;
+            return index;
+        }
+        head = physical(1);
+        size--;
+        return index - 1;
+    }
+
+    // Освободить count позиций начиная с index.
+    private void openGap(int index, int count) {
+        ensureCapacity(size + count);
+        if (index < size - index) {
+            head = physical(items.length - count);
+            for (int i = 0; i < index; i++) {
+                items[physical(i)] = items[physical(i + count)];
+            }
+        } else {
+            for (int i = size - 1; i >= index; i--) {
+                items[physical(i + count)] = items[physical(i)];
+            }
+        }
+        size += count;
+    }
+
+    // Новый массив начинается с первого элемента списка.
+    private void grow(int minCapacity) {
+        int[] grown = new int[growthStrategy.newCapacity(items.length, minCapacity)];
+        items = copyTo(grown);
+        head = 0;
+    }
+
+    private int[] copyTo(int[] target) {
+        int first = Math.min(size, items.length - head);
+        System.arraycopy(items, head, target, 0, first);
+        System.arraycopy(items, 0, target, first, size - first);
+        return target;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size - 1) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkPosition(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkItem(Integer item) {
+        if (item == null) {
+            throw new IllegalListItemException("List can't contain null");
+        }
+    }
+}
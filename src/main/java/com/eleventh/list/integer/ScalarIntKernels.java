@@ -0,0 +1,92 @@
+package com.eleventh.list.integer;
+
+// Скалярная реализация: простые циклы, которые JIT
+// может развернуть и частично векторизовать сам.
+final class ScalarIntKernels implements IntKernels {
+    static final ScalarIntKernels INSTANCE = new ScalarIntKernels();
+
+    private ScalarIntKernels() {
+    }
+
+    @Override
+    public int indexOf(int[] items, int from, int to, int value) {
+        for (int i = from; i < to; i++) {
+            if (items[i] == value) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int lastIndexOf(int[] items, int from, int to, int value) {
+        for (int i = to - 1; i >= from; i--) {
+            if (items[i] == value) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int count(int[] items, int from, int to, int value) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (items[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int min(int[] items, int from, int to) {
+        int min = Integer.MAX_VALUE;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, items[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] items, int from, int to) {
+        int max = Integer.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, items[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long sum(int[] items, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += items[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int countInRange(int[] items, int from, int to, int low, int high) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int item = items[i];
+            if (item >= low && item <= high) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int filterRange(int[] items, int from, int to, int low, int high, int[] target) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int item = items[i];
+            if (item >= low && item <= high) {
+                target[count++] = item;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,127 @@
+package com.eleventh.list.integer;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Реализация на jdk.incubator.vector: участок обрабатывается
+// векторами предпочтительной для процессора ширины,
+// остаток короче вектора - скалярным циклом.
+// Загружается только через VectorIntegerListOps, когда модуль
+// подключен (--add-modules jdk.incubator.vector).
+final class VectorIntKernels implements IntKernels {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    // Та же ширина вектора, вдвое меньше элементов long.
+    private static final VectorSpecies<Long> LONG_SPECIES = SPECIES.withLanes(long.class);
+    private static final int LANES = SPECIES.length();
+
+    private final ScalarIntKernels scalar = ScalarIntKernels.INSTANCE;
+
+    @Override
+    public int indexOf(int[] items, int from, int to, int value) {
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += LANES) {
+            VectorMask<Integer> found = IntVector.fromArray(SPECIES, items, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return scalar.indexOf(items, i, to, value);
+    }
+
+    @Override
+    public int lastIndexOf(int[] items, int from, int to, int value) {
+        int i = to - LANES;
+        for (; i >= from; i -= LANES) {
+            VectorMask<Integer> found = IntVector.fromArray(SPECIES, items, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.lastTrue();
+            }
+        }
+        return scalar.lastIndexOf(items, from, i + LANES, value);
+    }
+
+    @Override
+    public int count(int[] items, int from, int to, int value) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += LANES) {
+            count += IntVector.fromArray(SPECIES, items, i).eq(value).trueCount();
+        }
+        return count + scalar.count(items, i, to, value);
+    }
+
+    @Override
+    public int min(int[] items, int from, int to) {
+        IntVector min = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += LANES) {
+            min = min.min(IntVector.fromArray(SPECIES, items, i));
+        }
+        return Math.min(min.reduceLanes(VectorOperators.MIN), scalar.min(items, i, to));
+    }
+
+    @Override
+    public int max(int[] items, int from, int to) {
+        IntVector max = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += LANES) {
+            max = max.max(IntVector.fromArray(SPECIES, items, i));
+        }
+        return Math.max(max.reduceLanes(VectorOperators.MAX), scalar.max(items, i, to));
+    }
+
+    // Сумма копится в long: каждый вектор int расширяется
+    // в два вектора long, переполнения нет.
+    @Override
+    public long sum(int[] items, int from, int to) {
+        LongVector low = LongVector.zero(LONG_SPECIES);
+        LongVector high = LongVector.zero(LONG_SPECIES);
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += LANES) {
+            IntVector vector = IntVector.fromArray(SPECIES, items, i);
+            low = low.add((LongVector) vector.convertShape(VectorOperators.I2L, LONG_SPECIES, 0));
+            high = high.add((LongVector) vector.convertShape(VectorOperators.I2L, LONG_SPECIES, 1));
+        }
+        return low.add(high).reduceLanes(VectorOperators.ADD) + scalar.sum(items, i, to);
+    }
+
+    @Override
+    public int countInRange(int[] items, int from, int to, int low, int high) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += LANES) {
+            count += inRange(items, i, low, high).trueCount();
+        }
+        return count + scalar.countInRange(items, i, to, low, high);
+    }
+
+    // Подходящие позиции вектора берутся из битовой маски,
+    // векторы без совпадений пропускаются целиком.
+    @Override
+    public int filterRange(int[] items, int from, int to, int low, int high, int[] target) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += LANES) {
+            long bits = inRange(items, i, low, high).toLong();
+            while (bits != 0) {
+                target[count++] = items[i + Long.numberOfTrailingZeros(bits)];
+                bits &= bits - 1;
+            }
+        }
+        for (; i < to; i++) {
+            int item = items[i];
+            if (item >= low && item <= high) {
+                target[count++] = item;
+            }
+        }
+        return count;
+    }
+
+    private static VectorMask<Integer> inRange(int[] items, int offset, int low, int high) {
+        IntVector vector = IntVector.fromArray(SPECIES, items, offset);
+        return vector.compare(VectorOperators.GE, low).and(vector.compare(VectorOperators.LE, high));
+    }
+}
@@ -0,0 +1,179 @@
+package com.eleventh.list.integer;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+
+import java.util.Arrays;
+
+// Поиск и агрегация по спискам и массивам int
+// на SIMD-инструкциях через jdk.incubator.vector.
+// Модуль подключается флагом --add-modules jdk.incubator.vector,
+// без него используется скалярная реализация с тем же результатом.
+// IntIntegerList и ImmutableIntegerList обрабатываются
+// без копирования, остальные списки сначала копируются в int[].
+public class VectorIntegerListOps {
+    public static final int NOT_EXIST_INDEX = -1;
+
+    private static final IntKernels DEFAULT_KERNELS = loadKernels();
+
+    private final IntKernels kernels;
+
+    public VectorIntegerListOps() {
+        this(true);
+    }
+
+    // vectorized = false - всегда скалярная реализация,
+    // например для сравнения в бенчмарках.
+    public VectorIntegerListOps(boolean vectorized) {
+        this.kernels = vectorized ? DEFAULT_KERNELS : ScalarIntKernels.INSTANCE;
+    }
+
+    // true, если операции выполняются векторами.
+    public boolean isVectorized() {
+        return kernels != ScalarIntKernels.INSTANCE;
+    }
+
+    public int indexOf(int[] arr, int value) {
+        return kernels.indexOf(arr, 0, arr.length, value);
+    }
+
+    public int indexOf(IntegerList list, int value) {
+        Source source = new Source(list);
+        return kernels.indexOf(source.items, 0, source.size, value);
+    }
+
+    public int lastIndexOf(int[] arr, int value) {
+        return kernels.lastIndexOf(arr, 0, arr.length, value);
+    }
+
+    public int lastIndexOf(IntegerList list, int value) {
+        Source source = new Source(list);
+        return kernels.lastIndexOf(source.items, 0, source.size, value);
+    }
+
+    // Количество вхождений элемента.
+    public int count(int[] arr, int value) {
+        return kernels.count(arr, 0, arr.length, value);
+    }
+
+    public int count(IntegerList list, int value) {
+        Source source = new Source(list);
+        return kernels.count(source.items, 0, source.size, value);
+    }
+
+    // Минимальный элемент или исключение для пустого списка.
+    public int min(int[] arr) {
+        checkNotEmpty(arr.length);
+        return kernels.min(arr, 0, arr.length);
+    }
+
+    public int min(IntegerList list) {
+        Source source = new Source(list);
+        checkNotEmpty(source.size);
+        return kernels.min(source.items, 0, source.size);
+    }
+
+    // Максимальный элемент или исключение для пустого списка.
+    public int max(int[] arr) {
+        checkNotEmpty(arr.length);
+        return kernels.max(arr, 0, arr.length);
+    }
+
+    public int max(IntegerList list) {
+        Source source = new Source(list);
+        checkNotEmpty(source.size);
+        return kernels.max(source.items, 0, source.size);
+    }
+
+    // Сумма элементов без переполнения.
+    public long sum(int[] arr) {
+        return kernels.sum(arr, 0, arr.length);
+    }
+
+    public long sum(IntegerList list) {
+        Source source = new Source(list);
+        return kernels.sum(source.items, 0, source.size);
+    }
+
+    // Количество элементов в диапазоне [low, high].
+    public int countInRange(int[] arr, int low, int high) {
+        checkRange(low, high);
+        return kernels.countInRange(arr, 0, arr.length, low, high);
+    }
+
+    public int countInRange(IntegerList list, int low, int high) {
+        checkRange(low, high);
+        Source source = new Source(list);
+        return kernels.countInRange(source.items, 0, source.size, low, high);
+    }
+
+    // Элементы из диапазона [low, high] в исходном порядке.
+    public int[] filterRange(int[] arr, int low, int high) {
+        checkRange(low, high);
+        return filterRange(arr, arr.length, low, high);
+    }
+
+    public int[] filterRange(IntegerList list, int low, int high) {
+        checkRange(low, high);
+        Source source = new Source(list);
+        return filterRange(source.items, source.size, low, high);
+    }
+
+    // Реализация по умолчанию для поиска внутри списков.
+    static IntKernels kernels() {
+        return DEFAULT_KERNELS;
+    }
+
+    private int[] filterRange(int[] items, int size, int low, int high) {
+        int[] result = new int[size];
+        int count = kernels.filterRange(items, 0, size, low, high, result);
+        return count == size ? result : Arrays.copyOf(result, count);
+    }
+
+    // Векторная реализация выбирается, только если модуль
+    // подключен и класс загрузился, иначе - скалярная.
+    private static IntKernels loadKernels() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return ScalarIntKernels.INSTANCE;
+        }
+        try {
+            return (IntKernels) Class.forName("com.eleventh.list.integer.VectorIntKernels")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return ScalarIntKernels.INSTANCE;
+        }
+    }
+
+    private static void checkNotEmpty(int size) {
+        if (size == 0) {
+            throw new ItemNotFoundException("No elements");
+        }
+    }
+
+    private static void checkRange(int low, int high) {
+        if (low > high) {
+            throw new IllegalArgumentException("Illegal range");
+        }
+    }
+
+    // Массив элементов списка: внутренний для списков
+    // на непрерывном int[], иначе копия.
+    private static final class Source {
+        private final int[] items;
+        private final int size;
+
+        Source(IntegerList list) {
+            if (list instanceof IntIntegerList) {
+                this.items = ((IntIntegerList) list).backingArray();
+                this.size = list.size();
+            } else if (list instanceof ImmutableIntegerList) {
+                this.items = ((ImmutableIntegerList) list).backingArray();
+                this.size = items.length;
+            } else {
+                this.items = list.intStream().toArray();
+                this.size = items.length;
+            }
+        }
+    }
+}
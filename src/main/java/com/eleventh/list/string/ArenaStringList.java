@@ -0,0 +1,491 @@
+package com.eleventh.list.string;
+
+import com.eleventh.list.GrowthStrategy;
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+// StringList, хранящий все строки в одном массиве байтов (арене)
+// в UTF-8. Элемент - это смещение и длина в арене, объект String
+// создается только в get(). Вместо десятков миллионов объектов
+// String с заголовками и отдельными массивами - три массива.
+// Арена только дописывается: set и удаление оставляют
+// в ней неиспользуемые байты, которые убираются уплотнением,
+// когда арене не хватает места, а мусора не меньше половины.
+// view() и indexOfUtf8() работают с байтами без создания строк.
+public class ArenaStringList implements StringList {
+    public static final int NOT_EXIST_INDEX = -1;
+
+    // Начальный размер арены на элемент.
+    private static final int EXPECTED_LENGTH = 16;
+    // Максимум байтов UTF-8 на один символ char.
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    private final GrowthStrategy growthStrategy;
+    private byte[] arena;
+    private int arenaSize;
+    private int deadBytes;
+    private int[] offsets;
+    private int[] lengths;
+    private int size;
+
+    public ArenaStringList(int initialCapacity) {
+        this(initialCapacity, GrowthStrategy.geometric());
+    }
+
+    public ArenaStringList(int initialCapacity, GrowthStrategy growthStrategy) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Illegal capacity");
+        }
+        if (growthStrategy == null) {
+            throw new IllegalArgumentException("Illegal growth strategy");
+        }
+        this.growthStrategy = growthStrategy;
+        this.offsets = new int[initialCapacity];
+        this.lengths = new int[initialCapacity];
+        this.arena = new byte[(int) Math.min(GrowthStrategy.MAX_CAPACITY, (long) initialCapacity * EXPECTED_LENGTH)];
+    }
+
+    @Override
+    public String add(String item) {
+        checkItem(item);
+        int length = append(item);
+        if (size == offsets.length) {
+            grow(size + 1);
+        }
+        offsets[size] = arenaSize - length;
+        lengths[size] = length;
+        size++;
+        return item;
+    }
+
+    @Override
+    public String add(int index, String item) {
+        checkPosition(index);
+        checkItem(item);
+        int length = append(item);
+        openGap(index, 1);
+        offsets[index] = arenaSize - length;
+        lengths[index] = length;
+        return item;
+    }
+
+    @Override
+    public String[] addAll(int index, String[] newItems) {
+        checkPosition(index);
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        for (String item : newItems) {
+            checkItem(item);
+        }
+        // Место под весь массив резервируется заранее: уплотнение
+        // внутри append потеряло бы уже записанные байты пакета.
+        long required = arenaSize;
+        for (String item : newItems) {
+            required += (long) item.length() * MAX_BYTES_PER_CHAR;
+        }
+        ensureArena(required);
+        int[] newLengths = new int[newItems.length];
+        for (int i = 0; i < newItems.length; i++) {
+            newLengths[i] = append(newItems[i]);
+        }
+        openGap(index, newItems.length);
+        int offset = arenaSize;
+        for (int i = newItems.length - 1; i >= 0; i--) {
+            offset -= newLengths[i];
+            offsets[index + i] = offset;
+            lengths[index + i] = newLengths[i];
+        }
+        return newItems;
+    }
+
+    @Override
+    public String set(int index, String item) {
+        checkIndex(index);
+        checkItem(item);
+        int length = append(item);
+        deadBytes += lengths[index];
+        offsets[index] = arenaSize - length;
+        lengths[index] = length;
+        return item;
+    }
+
+    @Override
+    public String remove(String item) {
+        var index = indexOf(item);
+        if (index == NOT_EXIST_INDEX) {
+            throw new ItemNotFoundException("Not found");
+        }
+        return remove(index);
+    }
+
+    @Override
+    public String remove(int index) {
+        var item = get(index);
+        removeRange(index, index + 1);
+        return item;
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        if (from < 0 || from > to || to > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        for (int i = from; i < to; i++) {
+            deadBytes += lengths[i];
+        }
+        System.arraycopy(offsets, to, offsets, from, size - to);
+        System.arraycopy(lengths, to, lengths, from, size - to);
+        size -= to - from;
+    }
+
+    // Совпадения сначала отмечаются в битовой маске: пока
+    // работает filter, offsets, lengths и deadBytes не меняются.
+    @Override
+    public boolean removeIf(Predicate<String> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        long[] removed = new long[(size + 63) >>> 6];
+        boolean found = false;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(get(i))) {
+                removed[i >>> 6] |= 1L << i;
+                found = true;
+            }
+        }
+        if (!found) {
+            return false;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((removed[i >>> 6] & 1L << i) != 0) {
+                deadBytes += lengths[i];
+            } else {
+                offsets[kept] = offsets[i];
+                lengths[kept] = lengths[i];
+                kept++;
+            }
+        }
+        size = kept;
+        return true;
+    }
+
+    @Override
+    public boolean contains(String item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int indexOf(String item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        return indexOfUtf8(item.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Поиск строки, заданной байтами UTF-8,
+    // сравнением байтов в арене без создания объектов.
+    public int indexOfUtf8(byte[] utf8) {
+        if (utf8 == null) {
+            return NOT_EXIST_INDEX;
+        }
+        for (int i = 0; i < size; i++) {
+            if (matches(i, utf8)) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int lastIndexOf(String item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        return lastIndexOfUtf8(item.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Поиск строки в UTF-8 с конца.
+    public int lastIndexOfUtf8(byte[] utf8) {
+        if (utf8 == null) {
+            return NOT_EXIST_INDEX;
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (matches(i, utf8)) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public String get(int index) {
+        checkIndex(index);
+        return new String(arena, offsets[index], lengths[index], StandardCharsets.UTF_8);
+    }
+
+    // Элемент как CharSequence поверх байтов арены.
+    // Для ASCII символы читаются прямо из арены, иначе строка
+    // декодируется при первом обращении. Вид остается
+    // действительным после изменения списка и показывает
+    // значение на момент вызова.
+    public CharSequence view(int index) {
+        checkIndex(index);
+        return new Utf8View(arena, offsets[index], lengths[index]);
+    }
+
+    @Override
+    public boolean equals(StringList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return StringList.contentEquals(this, otherList);
+        ArenaStringList that = (ArenaStringList) otherList;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!Arrays.equals(arena, offsets[i], offsets[i] + lengths[i],
+                    that.arena, that.offsets[i], that.offsets[i] + that.lengths[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Байты арены не переиспользуются сразу,
+    // чтобы ранее выданные view() не изменились.
+    @Override
+    public void clear() {
+        size = 0;
+        deadBytes = arenaSize;
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > offsets.length) {
+            grow(minCapacity);
+        }
+    }
+
+    // Уплотняет арену и сокращает таблицы до размера списка.
+    @Override
+    public void trimToSize() {
+        if (arenaSize - deadBytes < arena.length) {
+            compact(arenaSize - deadBytes);
+        }
+        if (size < offsets.length) {
+            offsets = Arrays.copyOf(offsets, size);
+            lengths = Arrays.copyOf(lengths, size);
+        }
+    }
+
+    @Override
+    public String[] toArray() {
+        String[] result = new String[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[ ");
+        for (int i = 0; i < size; i++) {
+            stringBuilder.append(get(i));
+            if (i < size - 1) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" ]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(size);
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + get(i).hashCode();
+        }
+        return result;
+    }
+
+    private boolean matches(int index, byte[] utf8) {
+        int length = lengths[index];
+        int offset = offsets[index];
+        return length == utf8.length && Arrays.equals(arena, offset, offset + length, utf8, 0, length);
+    }
+
+    // Дописать строку в арену в UTF-8 и вернуть длину в байтах.
+    // Непарные суррогаты заменяются на '?', как в String.getBytes.
+    private int append(String item) {
+        int length = item.length();
+        ensureArena((long) arenaSize + (long) length * MAX_BYTES_PER_CHAR);
+        byte[] bytes = arena;
+        int position = arenaSize;
+        for (int i = 0; i < length; i++) {
+            char c = item.charAt(i);
+            if (c < 0x80) {
+                bytes[position++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xC0 | c >> 6);
+                bytes[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(item.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, item.charAt(++i));
+                bytes[position++] = (byte) (0xF0 | codePoint >> 18);
+                bytes[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                bytes[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                bytes[position++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                bytes[position++] = '?';
+            } else {
+                bytes[position++] = (byte) (0xE0 | c >> 12);
+                bytes[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[position++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        int written = position - arenaSize;
+        arenaSize = position;
+        return written;
+    }
+
+    // Место в арене: сначала уплотнение, если мусора
+    // не меньше половины, затем рост.
+    private void ensureArena(long required) {
+        if (required <= arena.length) {
+            return;
+        }
+        if (deadBytes > 0 && deadBytes >= arenaSize / 2) {
+            compact(arena.length);
+        }
+        if (required > arena.length) {
+            if (required > GrowthStrategy.MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required list capacity is too large");
+            }
+            arena = Arrays.copyOf(arena, growthStrategy.newCapacity(arena.length, (int) required));
+        }
+    }
+
+    // Переписать живые строки подряд в новую арену.
+    private void compact(int capacity) {
+        byte[] compacted = new byte[capacity];
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(arena, offsets[i], compacted, position, lengths[i]);
+            offsets[i] = position;
+            position += lengths[i];
+        }
+        arena = compacted;
+        arenaSize = position;
+        deadBytes = 0;
+    }
+
+    // Освободить count позиций таблиц начиная с index.
+    private void openGap(int index, int count) {
+        ensureCapacity(size + count);
+        System.arraycopy(offsets, index, offsets, index + count, size - index);
+        System.arraycopy(lengths, index, lengths, index + count, size - index);
+        size += count;
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = growthStrategy.newCapacity(offsets.length, minCapacity);
+        offsets = Arrays.copyOf(offsets, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+    }
+
+    private void checkPosition(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size - 1) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkItem(String item) {
+        if (item == null) {
+            throw new IllegalListItemException("List can't contain null");
+        }
+    }
+
+    // CharSequence над участком арены.
+    private static final class Utf8View implements CharSequence {
+        private final byte[] bytes;
+        private final int offset;
+        private final int length;
+        private final boolean ascii;
+        private String decoded;
+
+        Utf8View(byte[] bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+            boolean onlyAscii = true;
+            for (int i = offset; i < offset + length && onlyAscii; i++) {
+                onlyAscii = bytes[i] >= 0;
+            }
+            this.ascii = onlyAscii;
+        }
+
+        @Override
+        public int length() {
+            return ascii ? length : decoded().length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (!ascii) {
+                return decoded().charAt(index);
+            }
+            Objects.checkIndex(index, length);
+            return (char) bytes[offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (!ascii) {
+                return decoded().subSequence(start, end);
+            }
+            Objects.checkFromToIndex(start, end, length);
+            return new Utf8View(bytes, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return ascii
+                    ? new String(bytes, offset, length, StandardCharsets.ISO_8859_1)
+                    : decoded();
+        }
+
+        private String decoded() {
+            if (decoded == null) {
+                decoded = new String(bytes, offset, length, StandardCharsets.UTF_8);
+            }
+            return decoded;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.eleventh.list.string;
+
+import com.eleventh.list.BatchResult;
+import com.eleventh.list.StampedGuard;
+import com.eleventh.list.exceptions.IllegalArgumentException;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+// Потокобезопасная обертка над StringList на StampedLock.
+// get/size/isEmpty/contains/indexOf/lastIndexOf выполняются
+// оптимистичным чтением без блокировки, если обернут
+// StringListImpl без индекса значений. Для других списков
+// и остальные чтения - под блокировкой чтения, все
+// изменения - под блокировкой записи.
+// Каждый метод, включая составные remove(String), addAll,
+// removeRange и removeIf, выполняется атомарно (линеаризуем).
+// Обернутый список нельзя использовать напрямую.
+public class ConcurrentStringList implements StringList {
+    private final StringList delegate;
+    private final StampedGuard guard;
+
+    public ConcurrentStringList(int initialCapacity) {
+        this(new StringListImpl(initialCapacity));
+    }
+
+    public ConcurrentStringList(StringList delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Illegal list");
+        }
+        this.delegate = delegate;
+        this.guard = new StampedGuard(isRaceTolerant(delegate));
+    }
+
+    // Подклассы и списки с индексами читаются под блокировкой.
+    private static boolean isRaceTolerant(StringList delegate) {
+        return delegate.getClass() == StringListImpl.class && !((StringListImpl) delegate).isIndexed();
+    }
+
+    @Override
+    public String add(String item) {
+        return guard.write(() -> delegate.add(item));
+    }
+
+    @Override
+    public String add(int index, String item) {
+        return guard.write(() -> delegate.add(index, item));
+    }
+
+    @Override
+    public String[] addAll(int index, String[] items) {
+        return guard.write(() -> delegate.addAll(index, items));
+    }
+
+    @Override
+    public String set(int index, String item) {
+        return guard.write(() -> delegate.set(index, item));
+    }
+
+    @Override
+    public String remove(String item) {
+        return guard.write(() -> delegate.remove(item));
+    }
+
+    @Override
+    public String remove(int index) {
+        return guard.write(() -> delegate.remove(index));
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        guard.write(() -> delegate.removeRange(from, to));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<String> filter) {
+        return guard.write(() -> delegate.removeIf(filter));
+    }
+
+    @Override
+    public boolean contains(String item) {
+        return guard.optimisticReadBoolean(() -> delegate.contains(item));
+    }
+
+    @Override
+    public int indexOf(String item) {
+        return guard.optimisticReadInt(() -> delegate.indexOf(item));
+    }
+
+    @Override
+    public int lastIndexOf(String item) {
+        return guard.optimisticReadInt(() -> delegate.lastIndexOf(item));
+    }
+
+    @Override
+    public String get(int index) {
+        return guard.optimisticRead(() -> delegate.get(index));
+    }
+
+    @Override
+    public boolean equals(StringList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return StringList.contentEquals(this, otherList);
+        // Снимки берутся по очереди, чтобы не захватывать
+        // две блокировки одновременно.
+        return Arrays.equals(toArray(), otherList.toArray());
+    }
+
+    @Override
+    public int size() {
+        return guard.optimisticReadInt(delegate::size);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return guard.optimisticReadBoolean(delegate::isEmpty);
+    }
+
+    @Override
+    public void clear() {
+        guard.write(delegate::clear);
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        guard.write(() -> delegate.ensureCapacity(minCapacity));
+    }
+
+    @Override
+    public void trimToSize() {
+        guard.write(delegate::trimToSize);
+    }
+
+    @Override
+    public String[] toArray() {
+        return guard.read(delegate::toArray);
+    }
+
+    // Обход идет по снимку, снятому под блокировкой чтения:
+    // параллельные изменения на него не влияют.
+    @Override
+    public Spliterator<String> spliterator() {
+        return StringListSpliterator.of(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return guard.read(delegate::toString);
+    }
+
+    @Override
+    public int hashCode() {
+        String[] snapshot = toArray();
+        int result = 31 + snapshot.length;
+        for (String item : snapshot) {
+            result = 31 * result + item.hashCode();
+        }
+        return result;
+    }
+
+    // Пакет применяется к обернутому списку
+    // целиком под одной блокировкой записи.
+    BatchResult apply(StringListBatch batch) {
+        return guard.write(() -> batch.applyTo(delegate));
+    }
+}
@@ -0,0 +1,131 @@
+package com.eleventh.list.string;
+
+import com.eleventh.list.CopyOnWriteCustomArrayList;
+
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+// Потокобезопасный StringList с копированием при записи
+// для списков, которые часто читают и редко изменяют.
+// Чтения не блокируются и видят согласованный снимок,
+// каждая запись копирует массив. Все методы атомарны.
+public class CopyOnWriteStringList implements StringList {
+    private final CopyOnWriteCustomArrayList<String> items =
+            new CopyOnWriteCustomArrayList<>(String[]::new);
+
+    @Override
+    public String add(String item) {
+        return items.add(item);
+    }
+
+    @Override
+    public String add(int index, String item) {
+        return items.add(index, item);
+    }
+
+    @Override
+    public String[] addAll(int index, String[] newItems) {
+        return items.addAll(index, newItems);
+    }
+
+    @Override
+    public String set(int index, String item) {
+        items.set(index, item);
+        return item;
+    }
+
+    @Override
+    public String remove(String item) {
+        return items.remove(item);
+    }
+
+    @Override
+    public String remove(int index) {
+        return items.remove(index);
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        items.removeRange(from, to);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<String> filter) {
+        return items.removeIf(filter);
+    }
+
+    @Override
+    public boolean contains(String item) {
+        return items.contains(item);
+    }
+
+    @Override
+    public int indexOf(String item) {
+        return items.indexOf(item);
+    }
+
+    @Override
+    public int lastIndexOf(String item) {
+        return items.lastIndexOf(item);
+    }
+
+    @Override
+    public String get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public boolean equals(StringList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return StringList.contentEquals(this, otherList);
+        CopyOnWriteStringList that = (CopyOnWriteStringList) otherList;
+        return items.contentEquals(that.items);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        items.clear();
+    }
+
+    // Массив всегда точно по размеру списка,
+    // резервировать емкость не нужно.
+    @Override
+    public void ensureCapacity(int minCapacity) {
+    }
+
+    @Override
+    public void trimToSize() {
+    }
+
+    @Override
+    public String[] toArray() {
+        return items.toArray();
+    }
+
+    // Обход идет по текущему снимку без копирования.
+    @Override
+    public Spliterator<String> spliterator() {
+        return StringListSpliterator.of(items.snapshot());
+    }
+
+    @Override
+    public String toString() {
+        return items.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return items.contentHashCode();
+    }
+}
@@ -0,0 +1,247 @@
+package com.eleventh.list.string;
+
+import com.eleventh.list.GrowthStrategy;
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+import com.eleventh.list.integer.IntIntegerList;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+// StringList со словарным кодированием.
+// Список хранит int-коды строк, сами строки лежат в словаре,
+// который можно разделить между списками. Память под строки
+// пропорциональна числу различных значений, а indexOf, contains
+// и equals при общем словаре сравнивают коды, а не строки.
+// Если общий словарь ограничен и заполнен, новые строки
+// попадают в собственный словарь списка с отрицательными кодами.
+public class DictionaryStringList implements StringList {
+    public static final int NOT_EXIST_INDEX = -1;
+
+    private final StringDictionary dictionary;
+    private final IntIntegerList codes;
+    // Строки, не поместившиеся в общий словарь.
+    // Код -(k + 2) означает строку k этого словаря.
+    private StringDictionary overflow;
+
+    public DictionaryStringList(int initialCapacity) {
+        this(initialCapacity, new StringDictionary());
+    }
+
+    public DictionaryStringList(int initialCapacity, StringDictionary dictionary) {
+        this(initialCapacity, GrowthStrategy.geometric(), dictionary);
+    }
+
+    public DictionaryStringList(int initialCapacity, GrowthStrategy growthStrategy, StringDictionary dictionary) {
+        if (dictionary == null) {
+            throw new IllegalArgumentException("Illegal dictionary");
+        }
+        this.codes = new IntIntegerList(initialCapacity, growthStrategy);
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public String add(String item) {
+        codes.addInt(encode(item));
+        return item;
+    }
+
+    @Override
+    public String add(int index, String item) {
+        checkPosition(index);
+        codes.addInt(index, encode(item));
+        return item;
+    }
+
+    @Override
+    public String[] addAll(int index, String[] newItems) {
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        checkPosition(index);
+        int[] newCodes = new int[newItems.length];
+        for (int i = 0; i < newItems.length; i++) {
+            newCodes[i] = encode(newItems[i]);
+        }
+        codes.addAllInt(index, newCodes);
+        return newItems;
+    }
+
+    @Override
+    public String set(int index, String item) {
+        if (index < 0 || index > codes.size() - 1) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        codes.setInt(index, encode(item));
+        return item;
+    }
+
+    @Override
+    public String remove(String item) {
+        var index = indexOf(item);
+        if (index == NOT_EXIST_INDEX) {
+            throw new ItemNotFoundException("Not found");
+        }
+        return remove(index);
+    }
+
+    @Override
+    public String remove(int index) {
+        return decode(codes.removeAt(index));
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        codes.removeRange(from, to);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<String> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        return codes.removeIfInt(code -> filter.test(decode(code)));
+    }
+
+    @Override
+    public boolean contains(String item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    // Строки нет в словарях - нет и в списке.
+    @Override
+    public int indexOf(String item) {
+        int code = lookup(item);
+        return code == StringDictionary.NOT_EXIST_CODE ? NOT_EXIST_INDEX : codes.indexOfInt(code);
+    }
+
+    @Override
+    public int lastIndexOf(String item) {
+        int code = lookup(item);
+        return code == StringDictionary.NOT_EXIST_CODE ? NOT_EXIST_INDEX : codes.lastIndexOfInt(code);
+    }
+
+    @Override
+    public String get(int index) {
+        return decode(codes.getInt(index));
+    }
+
+    // При общем словаре без переполнения сравниваются коды.
+    @Override
+    public boolean equals(StringList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return StringList.contentEquals(this, otherList);
+        DictionaryStringList that = (DictionaryStringList) otherList;
+        if (dictionary == that.dictionary && overflow == null && that.overflow == null) {
+            return codes.equals(that.codes);
+        }
+        int size = codes.size();
+        if (size != that.codes.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!get(i).equals(that.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return codes.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return codes.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        codes.clear();
+        overflow = null;
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        codes.ensureCapacity(minCapacity);
+    }
+
+    @Override
+    public void trimToSize() {
+        codes.trimToSize();
+    }
+
+    @Override
+    public String[] toArray() {
+        String[] result = new String[codes.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+
+    public StringDictionary dictionary() {
+        return dictionary;
+    }
+
+    @Override
+    public String toString() {
+        int size = codes.size();
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[ ");
+        for (int i = 0; i < size; i++) {
+            stringBuilder.append(get(i));
+            if (i < size - 1) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" ]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int size = codes.size();
+        int result = Objects.hash(size);
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + get(i).hashCode();
+        }
+        return result;
+    }
+
+    // Позиция проверяется до кодирования,
+    // чтобы не добавлять в словарь лишних строк.
+    private void checkPosition(int index) {
+        if (index < 0 || index > codes.size()) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private int encode(String item) {
+        int code = dictionary.encode(item);
+        if (code != StringDictionary.NOT_EXIST_CODE) {
+            return code;
+        }
+        if (overflow == null) {
+            overflow = new StringDictionary();
+        }
+        return -overflow.encode(item) - 2;
+    }
+
+    private int lookup(String item) {
+        int code = dictionary.lookup(item);
+        if (code != StringDictionary.NOT_EXIST_CODE || overflow == null) {
+            return code;
+        }
+        code = overflow.lookup(item);
+        return code == StringDictionary.NOT_EXIST_CODE ? code : -code - 2;
+    }
+
+    private String decode(int code) {
+        return code >= 0 ? dictionary.decode(code) : overflow.decode(-code - 2);
+    }
+}
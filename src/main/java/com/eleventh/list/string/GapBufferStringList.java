@@ -0,0 +1,354 @@
+package com.eleventh.list.string;
+
+import com.eleventh.list.GrowthStrategy;
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+// StringList на буфере с разрывом (gap buffer), устроен
+// так же, как GapBufferIntegerList. Освобождаемые ячейки
+// разрыва обнуляются, чтобы не удерживать строки.
+public class GapBufferStringList implements StringList {
+    public static final int NOT_EXIST_INDEX = -1;
+
+    private final GrowthStrategy growthStrategy;
+    private String[] items;
+    private int gapStart;
+    private int gapEnd;
+    // Счетчик структурных изменений для итераторов.
+    private int modCount;
+
+    public GapBufferStringList(int initialCapacity) {
+        this(initialCapacity, GrowthStrategy.geometric());
+    }
+
+    public GapBufferStringList(int initialCapacity, GrowthStrategy growthStrategy) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Illegal capacity");
+        }
+        if (growthStrategy == null) {
+            throw new IllegalArgumentException("Illegal growth strategy");
+        }
+        this.growthStrategy = growthStrategy;
+        this.items = new String[initialCapacity];
+        this.gapEnd = initialCapacity;
+    }
+
+    @Override
+    public String add(String item) {
+        return add(size(), item);
+    }
+
+    // Вставка в позицию разрыва после его перемещения к index.
+    @Override
+    public String add(int index, String item) {
+        checkPosition(index);
+        checkItem(item);
+        if (gapStart == gapEnd) {
+            grow(size() + 1);
+        }
+        moveGap(index);
+        items[gapStart++] = item;
+        modCount++;
+        return item;
+    }
+
+    @Override
+    public String[] addAll(int index, String[] newItems) {
+        checkPosition(index);
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        for (String item : newItems) {
+            checkItem(item);
+        }
+        openGap(index, newItems.length);
+        System.arraycopy(newItems, 0, items, gapStart, newItems.length);
+        gapStart += newItems.length;
+        modCount++;
+        return newItems;
+    }
+
+    @Override
+    public String set(int index, String item) {
+        checkIndex(index);
+        checkItem(item);
+        items[physical(index)] = item;
+        return item;
+    }
+
+    @Override
+    public String remove(String item) {
+        var index = indexOf(item);
+        if (index == NOT_EXIST_INDEX) {
+            throw new ItemNotFoundException("Not found");
+        }
+        return remove(index);
+    }
+
+    // Удаленный элемент поглощается разрывом.
+    @Override
+    public String remove(int index) {
+        checkIndex(index);
+        moveGap(index);
+        var item = items[gapEnd];
+        items[gapEnd++] = null;
+        modCount++;
+        return item;
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        if (from < 0 || from > to || to > size()) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        moveGap(from);
+        Arrays.fill(items, gapEnd, gapEnd + to - from, null);
+        gapEnd += to - from;
+        modCount++;
+    }
+
+    // Удаляемые позиции сначала отмечаются в битовой маске:
+    // исключение в filter оставляет список без изменений.
+    @Override
+    public boolean removeIf(Predicate<String> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        int size = size();
+        moveGap(size);
+        long[] removed = new long[(size + 63) >>> 6];
+        boolean found = false;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(items[i])) {
+                removed[i >>> 6] |= 1L << i;
+                found = true;
+            }
+        }
+        if (!found) {
+            return false;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((removed[i >>> 6] & 1L << i) == 0) {
+                items[kept++] = items[i];
+            }
+        }
+        Arrays.fill(items, kept, size, null);
+        gapStart = kept;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(String item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    // Поиск по двум занятым участкам массива.
+    @Override
+    public int indexOf(String item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        for (int i = 0; i < gapStart; i++) {
+            if (item.equals(items[i])) {
+                return i;
+            }
+        }
+        for (int i = gapEnd; i < items.length; i++) {
+            if (item.equals(items[i])) {
+                return i - gapLength();
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int lastIndexOf(String item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        for (int i = items.length - 1; i >= gapEnd; i--) {
+            if (item.equals(items[i])) {
+                return i - gapLength();
+            }
+        }
+        for (int i = gapStart - 1; i >= 0; i--) {
+            if (item.equals(items[i])) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public String get(int index) {
+        checkIndex(index);
+        return items[physical(index)];
+    }
+
+    @Override
+    public boolean equals(StringList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return StringList.contentEquals(this, otherList);
+        GapBufferStringList that = (GapBufferStringList) otherList;
+        int size = size();
+        if (size != that.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!items[physical(i)].equals(that.items[that.physical(i)])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return items.length - gapLength();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(items, 0, gapStart, null);
+        Arrays.fill(items, gapEnd, items.length, null);
+        gapStart = 0;
+        gapEnd = items.length;
+        modCount++;
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > items.length) {
+            grow(minCapacity);
+        }
+    }
+
+    // Разрыв переносится в конец и отрезается.
+    @Override
+    public void trimToSize() {
+        if (gapStart < gapEnd) {
+            moveGap(size());
+            items = Arrays.copyOf(items, gapStart);
+            gapEnd = gapStart;
+        }
+    }
+
+    @Override
+    public String[] toArray() {
+        String[] result = new String[size()];
+        System.arraycopy(items, 0, result, 0, gapStart);
+        System.arraycopy(items, gapEnd, result, gapStart, items.length - gapEnd);
+        return result;
+    }
+
+    @Override
+    public Spliterator<String> spliterator() {
+        return new StringListSpliterator(i -> items[physical(i)], () -> modCount, size());
+    }
+
+    @Override
+    public String toString() {
+        int size = size();
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[ ");
+        for (int i = 0; i < size; i++) {
+            stringBuilder.append(items[physical(i)]);
+            if (i < size - 1) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" ]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int size = size();
+        int result = Objects.hash(size);
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + items[physical(i)].hashCode();
+        }
+        return result;
+    }
+
+    private int gapLength() {
+        return gapEnd - gapStart;
+    }
+
+    // Позиция элемента index в массиве с учетом разрыва.
+    private int physical(int index) {
+        return index < gapStart ? index : index + gapLength();
+    }
+
+    // Перенос разрыва так, чтобы он начинался с index.
+    // Сдвигаются только элементы между старой и новой позицией,
+    // освободившиеся ячейки обнуляются.
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(items, index, items, gapEnd - count, count);
+            Arrays.fill(items, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(items, gapEnd, items, gapStart, count);
+            Arrays.fill(items, Math.max(gapEnd, index), gapEnd + count, null);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    // Разрыв не меньше count позиций, начинающийся с index.
+    private void openGap(int index, int count) {
+        if (gapLength() < count) {
+            grow(size() + count);
+        }
+        moveGap(index);
+    }
+
+    // Новый массив сохраняет положение разрыва,
+    // добавленное место достается разрыву.
+    private void grow(int minCapacity) {
+        int newCapacity = growthStrategy.newCapacity(items.length, minCapacity);
+        int tail = items.length - gapEnd;
+        String[] grown = new String[newCapacity];
+        System.arraycopy(items, 0, grown, 0, gapStart);
+        System.arraycopy(items, gapEnd, grown, newCapacity - tail, tail);
+        items = grown;
+        gapEnd = newCapacity - tail;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size() - 1) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkPosition(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkItem(String item) {
+        if (item == null) {
+            throw new IllegalListItemException("List can't contain null");
+        }
+    }
+}
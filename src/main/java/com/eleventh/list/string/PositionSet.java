@@ -0,0 +1,54 @@
+package com.eleventh.list.string;
+
+import java.util.Arrays;
+
+// Отсортированный набор позиций в списке для индексов.
+// Повторное добавление позиции ничего не меняет.
+final class PositionSet {
+    private static final int INITIAL_POSITIONS = 2;
+
+    int[] items = new int[INITIAL_POSITIONS];
+    int count;
+
+    void insert(int position) {
+        int i = count;
+        if (count > 0 && items[count - 1] >= position) {
+            i = Arrays.binarySearch(items, 0, count, position);
+            if (i >= 0) {
+                return;
+            }
+            i = -i - 1;
+        }
+        if (count == items.length) {
+            items = Arrays.copyOf(items, count * 2);
+        }
+        System.arraycopy(items, i, items, i + 1, count - i);
+        items[i] = position;
+        count++;
+    }
+
+    boolean remove(int position) {
+        int i = Arrays.binarySearch(items, 0, count, position);
+        if (i < 0) {
+            return false;
+        }
+        System.arraycopy(items, i + 1, items, i, count - i - 1);
+        count--;
+        return true;
+    }
+
+    boolean contains(int position) {
+        return Arrays.binarySearch(items, 0, count, position) >= 0;
+    }
+
+    // Сдвинуть на delta все позиции, начиная с from.
+    void shift(int from, int delta) {
+        if (count == 0 || items[count - 1] < from) {
+            return;
+        }
+        int i = Arrays.binarySearch(items, 0, count, from);
+        for (i = i < 0 ? -i - 1 : i; i < count; i++) {
+            items[i] += delta;
+        }
+    }
+}
@@ -0,0 +1,472 @@
+package com.eleventh.list.string;
+
+import com.eleventh.list.GrowthStrategy;
+import com.eleventh.list.OverflowPolicy;
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+// StringList на кольцевом буфере, устроен так же,
+// как RingBufferIntegerList. Освобождаемые ячейки
+// обнуляются, чтобы не удерживать удаленные строки.
+public class RingBufferStringList implements StringList {
+    public static final int NOT_EXIST_INDEX = -1;
+
+    private final GrowthStrategy growthStrategy;
+    // null для списка без ограничения емкости.
+    private final OverflowPolicy overflowPolicy;
+    private String[] items;
+    private int head;
+    private int size;
+    // Счетчик структурных изменений для итераторов.
+    private int modCount;
+
+    public RingBufferStringList(int initialCapacity) {
+        this(initialCapacity, GrowthStrategy.geometric());
+    }
+
+    public RingBufferStringList(int initialCapacity, GrowthStrategy growthStrategy) {
+        this(initialCapacity, growthStrategy, null);
+        if (growthStrategy == null) {
+            throw new IllegalArgumentException("Illegal growth strategy");
+        }
+    }
+
+    // Ограниченный список емкостью capacity.
+    public RingBufferStringList(int capacity, OverflowPolicy overflowPolicy) {
+        this(capacity, null, overflowPolicy);
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("Illegal overflow policy");
+        }
+    }
+
+    private RingBufferStringList(int initialCapacity, GrowthStrategy growthStrategy,
+                                  OverflowPolicy overflowPolicy) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Illegal capacity");
+        }
+        this.growthStrategy = growthStrategy;
+        this.overflowPolicy = overflowPolicy;
+        this.items = new String[initialCapacity];
+    }
+
+    @Override
+    public String add(String item) {
+        return addLast(item);
+    }
+
+    // Добавление в начало за O(1).
+    public String addFirst(String item) {
+        checkItem(item);
+        insert(0, item);
+        return item;
+    }
+
+    // Добавление в конец за O(1).
+    public String addLast(String item) {
+        checkItem(item);
+        insert(size, item);
+        return item;
+    }
+
+    @Override
+    public String add(int index, String item) {
+        checkPosition(index);
+        checkItem(item);
+        insert(index, item);
+        return item;
+    }
+
+    // В ограниченном режиме элементы вставляются по одному
+    // по правилам OverflowPolicy.
+    @Override
+    public String[] addAll(int index, String[] newItems) {
+        checkPosition(index);
+        if (newItems == null) {
+            throw new IllegalArgumentException("Illegal items");
+        }
+        for (String item : newItems) {
+            checkItem(item);
+        }
+        int count = newItems.length;
+        if (overflowPolicy == null) {
+            openGap(index, count);
+            for (int i = 0; i < count; i++) {
+                items[physical(index + i)] = newItems[i];
+            }
+            modCount++;
+            return newItems;
+        }
+        if (overflowPolicy == OverflowPolicy.REJECT && size + count > items.length) {
+            throw new IllegalStateException("List is full");
+        }
+        // Сторона вытеснения выбирается один раз для всего массива:
+        // при вставке в начало вытесняются последние элементы,
+        // иначе первые, как при серии addFirst или addLast.
+        // Элементы, которые вытеснились бы сразу, не вставляются.
+        boolean evictLast = index == 0;
+        int position = index;
+        for (String item : newItems) {
+            if (evictLast && position == items.length) {
+                break;
+            }
+            position = insert(position, item, evictLast) + 1;
+        }
+        return newItems;
+    }
+
+    @Override
+    public String set(int index, String item) {
+        checkIndex(index);
+        checkItem(item);
+        items[physical(index)] = item;
+        return item;
+    }
+
+    @Override
+    public String remove(String item) {
+        var index = indexOf(item);
+        if (index == NOT_EXIST_INDEX) {
+            throw new ItemNotFoundException("Not found");
+        }
+        return remove(index);
+    }
+
+    // Удаление первого элемента за O(1).
+    public String removeFirst() {
+        return remove(0);
+    }
+
+    // Удаление последнего элемента за O(1).
+    public String removeLast() {
+        return remove(size - 1);
+    }
+
+    // Удаление со сдвигом меньшей части списка.
+    @Override
+    public String remove(int index) {
+        checkIndex(index);
+        var item = items[physical(index)];
+        if (index < size - index - 1) {
+            for (int i = index; i > 0; i--) {
+                items[physical(i)] = items[physical(i - 1)];
+            }
+            items[head] = null;
+            head = physical(1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                items[physical(i)] = items[physical(i + 1)];
+            }
+            items[physical(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        return item;
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        if (from < 0 || from > to || to > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        int count = to - from;
+        if (from < size - to) {
+            for (int i = from - 1; i >= 0; i--) {
+                items[physical(i + count)] = items[physical(i)];
+            }
+            clearRange(0, count);
+            head = size == count ? 0 : physical(count);
+        } else {
+            for (int i = to; i < size; i++) {
+                items[physical(i - count)] = items[physical(i)];
+            }
+            clearRange(size - count, size);
+        }
+        size -= count;
+        modCount++;
+    }
+
+    // Удаляемые позиции сначала отмечаются в битовой маске:
+    // исключение в filter оставляет список без изменений.
+    @Override
+    public boolean removeIf(Predicate<String> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Illegal filter");
+        }
+        long[] removed = new long[(size + 63) >>> 6];
+        boolean found = false;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(items[physical(i)])) {
+                removed[i >>> 6] |= 1L << i;
+                found = true;
+            }
+        }
+        if (!found) {
+            return false;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((removed[i >>> 6] & 1L << i) == 0) {
+                items[physical(kept++)] = items[physical(i)];
+            }
+        }
+        clearRange(kept, size);
+        size = kept;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(String item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int indexOf(String item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        for (int i = 0; i < size; i++) {
+            if (item.equals(items[physical(i)])) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int lastIndexOf(String item) {
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (item.equals(items[physical(i)])) {
+                return i;
+            }
+        }
+        return NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public String get(int index) {
+        checkIndex(index);
+        return items[physical(index)];
+    }
+
+    public String getFirst() {
+        return get(0);
+    }
+
+    public String getLast() {
+        return get(size - 1);
+    }
+
+    @Override
+    public boolean equals(StringList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return StringList.contentEquals(this, otherList);
+        RingBufferStringList that = (RingBufferStringList) otherList;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!items[physical(i)].equals(that.items[that.physical(i)])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Ограниченный список заполнен.
+    public boolean isFull() {
+        return overflowPolicy != null && size == items.length;
+    }
+
+    // Наибольший размер списка без вытеснения элементов.
+    int sizeLimit() {
+        return overflowPolicy != null ? items.length : GrowthStrategy.MAX_CAPACITY;
+    }
+
+    @Override
+    public void clear() {
+        clearRange(0, size);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    // Емкость ограниченного списка не меняется.
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (overflowPolicy == null && minCapacity > items.length) {
+            grow(minCapacity);
+        }
+    }
+
+    @Override
+    public void trimToSize() {
+        if (overflowPolicy == null && size < items.length) {
+            items = toArray();
+            head = 0;
+        }
+    }
+
+    @Override
+    public String[] toArray() {
+        return copyTo(new String[size]);
+    }
+
+    @Override
+    public Spliterator<String> spliterator() {
+        return new StringListSpliterator(i -> items[physical(i)], () -> modCount, size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[ ");
+        for (int i = 0; i < size; i++) {
+            stringBuilder.append(items[physical(i)]);
+            if (i < size - 1) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" ]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(size);
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + items[physical(i)].hashCode();
+        }
+        return result;
+    }
+
+    // Позиция элемента index в массиве.
+    private int physical(int index) {
+        int position = head + index;
+        return position < items.length ? position : position - items.length;
+    }
+
+    // Вставка со сдвигом меньшей части списка.
+    // Вернуть индекс, под которым оказался элемент.
+    private int insert(int index, String item) {
+        return insert(index, item, index == 0);
+    }
+
+    // evictLast - при переполнении в режиме OVERWRITE
+    // вытесняется последний элемент, иначе первый.
+    private int insert(int index, String item, boolean evictLast) {
+        if (size == items.length) {
+            index = makeRoom(index, evictLast);
+        }
+        if (index < size - index) {
+            head = head == 0 ? items.length - 1 : head - 1;
+            for (int i = 0; i < index; i++) {
+                items[physical(i)] = items[physical(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                items[physical(i)] = items[physical(i - 1)];
+            }
+        }
+        items[physical(index)] = item;
+        size++;
+        modCount++;
+        return index;
+    }
+
+    // Освободить место в заполненном списке.
+    // Вернуть индекс вставки с учетом вытесненного элемента.
+    private int makeRoom(int index, boolean evictLast) {
+        if (overflowPolicy == null) {
+            grow(size + 1);
+            return index;
+        }
+        if (overflowPolicy == OverflowPolicy.REJECT) {
+            throw new IllegalStateException("List is full");
+        }
+        if (evictLast) {
+            items[physical(size - 1)] = null;
+            size--;
+            return index;
+        }
+        items[head] = null;
+        head = physical(1);
+        size--;
+        return index - 1;
+    }
+
+    // Освободить count позиций начиная с index.
+    private void openGap(int index, int count) {
+        ensureCapacity(size + count);
+        if (index < size - index) {
+            head = physical(items.length - count);
+            for (int i = 0; i < index; i++) {
+                items[physical(i)] = items[physical(i + count)];
+            }
+        } else {
+            for (int i = size - 1; i >= index; i--) {
+                items[physical(i + count)] = items[physical(i)];
+            }
+        }
+        size += count;
+    }
+
+    // Новый массив начинается с первого элемента списка.
+    private void grow(int minCapacity) {
+        String[] grown = new String[growthStrategy.newCapacity(items.length, minCapacity)];
+        items = copyTo(grown);
+        head = 0;
+    }
+
+    private String[] copyTo(String[] target) {
+        int first = Math.min(size, items.length - head);
+        System.arraycopy(items, head, target, 0, first);
+        System.arraycopy(items, 0, target, first, size - first);
+        return target;
+    }
+
+    // Обнулить ячейки элементов [from, to).
+    private void clearRange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            items[physical(i)] = null;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size - 1) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkPosition(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+    }
+
+    private void checkItem(String item) {
+        if (item == null) {
+            throw new IllegalListItemException("List can't contain null");
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.eleventh.list.string;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+// Обертка над StringList с поиском по префиксу и подстроке.
+// Индекс обновляется при каждом изменении списка, поэтому
+// startingWith отвечает за O(log n + k log k), где k - число
+// совпадений (позиции разных значений сортируются вместе),
+// а containing с индексом триграмм проверяет только строки,
+// содержащие все триграммы фрагмента. Фрагменты короче
+// трех символов и поиск без триграмм просматривают список.
+// contains/indexOf/lastIndexOf тоже идут через индекс.
+// Вставка и удаление в середине сдвигают позиции
+// во всем индексе. Обернутый список нельзя менять напрямую.
+public class SearchableStringList implements StringList {
+    public static final int NOT_EXIST_INDEX = -1;
+
+    private final StringList delegate;
+    private final StringSearchIndex index;
+
+    public SearchableStringList(int initialCapacity) {
+        this(new StringListImpl(initialCapacity), false);
+    }
+
+    // ngrams = true дополнительно строит индекс триграмм для containing.
+    public SearchableStringList(StringList delegate, boolean ngrams) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Illegal list");
+        }
+        this.delegate = delegate;
+        this.index = new StringSearchIndex(ngrams);
+        rebuildIndex();
+    }
+
+    // Индексы строк, начинающихся с prefix, по возрастанию.
+    public IntStream startingWith(String prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("Illegal prefix");
+        }
+        return IntStream.of(index.startingWith(prefix));
+    }
+
+    // Индексы строк, содержащих fragment, по возрастанию.
+    public IntStream containing(String fragment) {
+        if (fragment == null) {
+            throw new IllegalArgumentException("Illegal fragment");
+        }
+        int[] found = index.containing(fragment, delegate::get);
+        if (found == null) {
+            found = IntStream.range(0, delegate.size())
+                    .filter(i -> delegate.get(i).contains(fragment))
+                    .toArray();
+        }
+        return IntStream.of(found);
+    }
+
+    @Override
+    public String add(String item) {
+        delegate.add(item);
+        index.add(item, delegate.size() - 1);
+        return item;
+    }
+
+    @Override
+    public String add(int position, String item) {
+        delegate.add(position, item);
+        index.shift(position, 1);
+        index.add(item, position);
+        return item;
+    }
+
+    @Override
+    public String[] addAll(int position, String[] items) {
+        delegate.addAll(position, items);
+        index.shift(position, items.length);
+        for (int i = 0; i < items.length; i++) {
+            index.add(items[i], position + i);
+        }
+        return items;
+    }
+
+    @Override
+    public String set(int position, String item) {
+        var previous = delegate.get(position);
+        delegate.set(position, item);
+        index.remove(previous, position);
+        index.add(item, position);
+        return item;
+    }
+
+    @Override
+    public String remove(String item) {
+        var position = indexOf(item);
+        if (position == NOT_EXIST_INDEX) {
+            throw new ItemNotFoundException("Not found");
+        }
+        return remove(position);
+    }
+
+    @Override
+    public String remove(int position) {
+        var item = delegate.remove(position);
+        index.remove(item, position);
+        index.shift(position + 1, -1);
+        return item;
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        if (from < 0 || from > to || to > delegate.size()) {
+            throw new IndexOutOfListException("Index out of elements");
+        }
+        String[] removed = new String[to - from];
+        for (int i = from; i < to; i++) {
+            removed[i - from] = delegate.get(i);
+        }
+        delegate.removeRange(from, to);
+        for (int i = 0; i < removed.length; i++) {
+            index.remove(removed[i], from + i);
+        }
+        index.shift(to, from - to);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<String> filter) {
+        boolean removed = delegate.removeIf(filter);
+        if (removed) {
+            rebuildIndex();
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean contains(String item) {
+        return indexOf(item) != NOT_EXIST_INDEX;
+    }
+
+    @Override
+    public int indexOf(String item) {
+        return item == null ? NOT_EXIST_INDEX : index.first(item);
+    }
+
+    @Override
+    public int lastIndexOf(String item) {
+        return item == null ? NOT_EXIST_INDEX : index.last(item);
+    }
+
+    @Override
+    public String get(int position) {
+        return delegate.get(position);
+    }
+
+    @Override
+    public boolean equals(StringList otherList) {
+        if (this == otherList) return true;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return StringList.contentEquals(this, otherList);
+        return delegate.equals(((SearchableStringList) otherList).delegate);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        index.clear();
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        delegate.ensureCapacity(minCapacity);
+    }
+
+    @Override
+    public void trimToSize() {
+        delegate.trimToSize();
+    }
+
+    @Override
+    public String[] toArray() {
+        return delegate.toArray();
+    }
+
+    @Override
+    public Spliterator<String> spliterator() {
+        return delegate.spliterator();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    private void rebuildIndex() {
+        index.clear();
+        for (int i = 0; i < delegate.size(); i++) {
+            index.add(delegate.get(i), i);
+        }
+    }
+}
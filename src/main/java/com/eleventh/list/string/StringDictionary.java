@@ -0,0 +1,90 @@
+package com.eleventh.list.string;
+
+import com.eleventh.list.GrowthStrategy;
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Словарь строк: каждой строке присваивается код,
+// номер в порядке добавления. Может разделяться между
+// несколькими DictionaryStringList и потоками.
+// Ограниченный словарь после заполнения новые строки
+// не принимает (encode возвращает NOT_EXIST_CODE).
+// Строки из словаря не удаляются.
+public class StringDictionary {
+    public static final int NOT_EXIST_CODE = -1;
+
+    private final int maxSize;
+    private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[16];
+    private volatile int size;
+
+    public StringDictionary() {
+        this(GrowthStrategy.MAX_CAPACITY);
+    }
+
+    public StringDictionary(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Illegal dictionary size");
+        }
+        this.maxSize = maxSize;
+    }
+
+    // Код строки. Новая строка добавляется в словарь,
+    // если он не заполнен, иначе возвращается NOT_EXIST_CODE.
+    public int encode(String value) {
+        Integer code = codes.get(checkValue(value));
+        if (code != null) {
+            return code;
+        }
+        synchronized (this) {
+            code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            if (size == maxSize) {
+                return NOT_EXIST_CODE;
+            }
+            String[] current = values;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, GrowthStrategy.doubling().newCapacity(size, size + 1));
+            }
+            current[size] = value;
+            values = current;
+            codes.put(value, size);
+            return size++;
+        }
+    }
+
+    // Код строки без добавления или NOT_EXIST_CODE.
+    public int lookup(String value) {
+        Integer code = value == null ? null : codes.get(value);
+        return code == null ? NOT_EXIST_CODE : code;
+    }
+
+    public String decode(int code) {
+        String[] current = values;
+        if (code < 0 || code >= current.length || current[code] == null) {
+            throw new IndexOutOfListException("Illegal dictionary code");
+        }
+        return current[code];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    private static String checkValue(String value) {
+        if (value == null) {
+            throw new IllegalListItemException("List can't contain null");
+        }
+        return value;
+    }
+}
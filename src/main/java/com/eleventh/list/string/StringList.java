@@ -1,6 +1,16 @@
 package com.eleventh.list.string;
 
-public interface StringList {
+import com.eleventh.list.exceptions.IllegalArgumentException;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public interface StringList extends Iterable<String> {
     // Добавление элемента.
     // Вернуть добавленный элемент
     // в качестве результата выполнения.
@@ -15,6 +25,15 @@ public interface StringList {
     // в качестве результата выполнения.
     String add(int index, String item);
 
+    // Добавление массива элементов
+    // начиная с определенной позиции списка.
+    // Выбросить исключение, если позиция
+    // выходит за пределы фактического
+    // количества элементов или массив
+    // содержит null.
+    // Вернуть добавленные элементы.
+    String[] addAll(int index, String[] items);
+
     // Установить элемент
     // на определенную позицию,
     // затерев существующий.
@@ -36,6 +55,18 @@ public interface StringList {
     // элемент отсутствует в списке.
     String remove(int index);
 
+    // Удаление элементов с индексами
+    // от from (включительно) до to (не включительно).
+    // Выбросить исключение, если диапазон
+    // выходит за пределы фактического
+    // количества элементов.
+    void removeRange(int from, int to);
+
+    // Удаление всех элементов,
+    // удовлетворяющих условию.
+    // Вернуть true, если что-то удалено.
+    boolean removeIf(Predicate<String> filter);
+
     // Проверка на существование элемента.
     // Вернуть true/false;
     boolean contains(String item);
@@ -57,10 +88,18 @@ public interface StringList {
     String get(int index);
 
     // Сравнить текущий список с другим.
-    // Вернуть true/false или исключение,
-    // если передан null.
+    // Списки равны, если совпадают размер
+    // и элементы по порядку, независимо
+    // от реализации и емкости.
+    // Для null вернуть false.
     boolean equals(StringList otherList);
 
+    // Хеш содержимого, одинаковый у равных списков
+    // любых реализаций: 31 + size(), затем
+    // 31 * result + хеш строки по порядку.
+    @Override
+    int hashCode();
+
     // Вернуть фактическое количество элементов.
     int size();
 
@@ -72,8 +111,82 @@ public interface StringList {
     // Удалить все элементы из списка.
     void clear();
 
+    // Увеличить емкость списка,
+    // если она меньше minCapacity.
+    void ensureCapacity(int minCapacity);
+
+    // Уменьшить емкость списка
+    // до фактического количества элементов.
+    void trimToSize();
+
     // Создать новый массив
     // из строк в списке
     // и вернуть его.
     String[] toArray();
+
+    // Итератор по элементам списка.
+    @Override
+    default Iterator<String> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    // Разбиваемый итератор для потоков,
+    // в том числе параллельных.
+    // Характеристики: ORDERED, SIZED, SUBSIZED, NONNULL.
+    // Изменение списка во время обхода приводит
+    // к ConcurrentModificationException. По умолчанию
+    // элементы читаются через get(i), а изменением
+    // считается изменение размера.
+    @Override
+    default Spliterator<String> spliterator() {
+        return new StringListSpliterator(this::get, this::size, size());
+    }
+
+    // Выполнить действие для каждого элемента по порядку.
+    @Override
+    default void forEach(Consumer<? super String> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Illegal action");
+        }
+        spliterator().forEachRemaining(action);
+    }
+
+    // Поток элементов без копирования списка.
+    // Для параллельной обработки - stream().parallel().
+    default Stream<String> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    // Новый пакет изменений этого списка.
+    // Операции пакета применяются вместе методом apply().
+    default StringListBatch batch() {
+        return new StringListBatch(this);
+    }
+
+    // Сравнение содержимого двух списков любых реализаций
+    // поэлементно итераторами.
+    static boolean contentEquals(StringList list, StringList other) {
+        if (list == other) return true;
+        if (list == null || other == null) return false;
+        if (list.size() != other.size()) {
+            return false;
+        }
+        Iterator<String> iterator = list.iterator();
+        Iterator<String> otherIterator = other.iterator();
+        while (iterator.hasNext() && otherIterator.hasNext()) {
+            if (!iterator.next().equals(otherIterator.next())) {
+                return false;
+            }
+        }
+        return iterator.hasNext() == otherIterator.hasNext();
+    }
+
+    // Хеш содержимого по общей для всех реализаций формуле.
+    static int contentHashCode(StringList list) {
+        int result = 31 + list.size();
+        for (String item : list) {
+            result = 31 * result + item.hashCode();
+        }
+        return result;
+    }
 }
@@ -0,0 +1,110 @@
+package com.eleventh.list.string;
+
+import com.eleventh.list.BatchPlan;
+import com.eleventh.list.BatchResult;
+import com.eleventh.list.exceptions.IllegalListItemException;
+
+import java.util.Arrays;
+
+// Пакет изменений StringList, устроен так же, как IntegerListBatch.
+// Общий путь для прочих реализаций, проверка емкости
+// RingBufferStringList и блокировка ConcurrentStringList - те же.
+// null отклоняется сразу при записи операции,
+// ошибки индексов - при apply().
+public class StringListBatch {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final StringList list;
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+    private int[] indices = new int[INITIAL_CAPACITY];
+    private String[] values = new String[INITIAL_CAPACITY];
+    private int count;
+
+    StringListBatch(StringList list) {
+        this.list = list;
+    }
+
+    // Вставка перед элементом с индексом index.
+    public StringListBatch insert(int index, String item) {
+        checkItem(item);
+        return record(BatchPlan.INSERT, index, item);
+    }
+
+    // Добавление в конец списка.
+    public StringListBatch add(String item) {
+        checkItem(item);
+        return record(BatchPlan.APPEND, 0, item);
+    }
+
+    public StringListBatch set(int index, String item) {
+        checkItem(item);
+        return record(BatchPlan.SET, index, item);
+    }
+
+    public StringListBatch remove(int index) {
+        return record(BatchPlan.REMOVE, index, null);
+    }
+
+    // Количество записанных операций.
+    public int size() {
+        return count;
+    }
+
+    public BatchResult apply() {
+        if (list instanceof ConcurrentStringList) {
+            return ((ConcurrentStringList) list).apply(this);
+        }
+        return applyTo(list);
+    }
+
+    BatchResult applyTo(StringList list) {
+        int size = list.size();
+        BatchPlan plan = new BatchPlan(kinds, indices, count, size);
+        int newSize = plan.newSize();
+        if (list instanceof RingBufferStringList && newSize > ((RingBufferStringList) list).sizeLimit()) {
+            throw new IllegalStateException("List is full");
+        }
+        String[] values = this.values;
+        if (list instanceof StringListImpl) {
+            StringListImpl target = (StringListImpl) list;
+            String[] merged = new String[Math.max(newSize, target.backingArray().length)];
+            plan.merge(target.backingArray(), merged, (position, operation) -> merged[position] = values[operation]);
+            target.replaceContent(merged, newSize);
+        } else {
+            String[] original = list.toArray();
+            String[] merged = new String[newSize];
+            plan.merge(original, merged, (position, operation) -> merged[position] = values[operation]);
+            list.clear();
+            try {
+                list.addAll(0, merged);
+            } catch (RuntimeException e) {
+                list.clear();
+                list.addAll(0, original);
+                throw e;
+            }
+        }
+        Arrays.fill(values, 0, count, null);
+        count = 0;
+        return plan.result();
+    }
+
+    private StringListBatch record(byte kind, int index, String item) {
+        if (count == kinds.length) {
+            int capacity = count * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            indices = Arrays.copyOf(indices, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        kinds[count] = kind;
+        indices[count] = index;
+        values[count] = item;
+        count++;
+        return this;
+    }
+
+    private void checkItem(String item) {
+        if (item == null) {
+            throw new IllegalListItemException("List can't contain null");
+        }
+    }
+}
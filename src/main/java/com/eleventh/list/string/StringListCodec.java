@@ -0,0 +1,138 @@
+package com.eleventh.list.string;
+
+import com.eleventh.list.BinaryInput;
+import com.eleventh.list.BinaryOutput;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Двоичный формат StringList.
+// Заголовок: 'S', 'L', версия формата, флаги; затем количество
+// элементов (varint) и строки: длина в байтах (varint) и UTF-8.
+// С флагом DICTIONARY словарь строится на лету за один проход:
+// перед каждой строкой пишется тег (varint), 0 - новая строка,
+// она получает следующий номер словаря; k > 0 - ссылка
+// на строку номер k - 1. Выгодно при частых повторах.
+// Для нескольких списков в одном потоке используйте
+// перегрузки с BinaryOutput/BinaryInput.
+public class StringListCodec {
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC_0 = 'S';
+    private static final int MAGIC_1 = 'L';
+    private static final int FLAG_DICTIONARY = 1;
+    private static final int NEW_ENTRY = 0;
+    // Емкость, выделяемая заранее, не больше этой:
+    // количество из потока может быть испорчено.
+    private static final int MAX_PRESIZE = 1 << 20;
+
+    private final boolean dictionary;
+
+    public StringListCodec() {
+        this(false);
+    }
+
+    public StringListCodec(boolean dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    public void writeTo(StringList list, OutputStream out) throws IOException {
+        BinaryOutput output = new BinaryOutput(out);
+        writeTo(list, output);
+        output.flush();
+    }
+
+    public void writeTo(StringList list, WritableByteChannel channel) throws IOException {
+        writeTo(list, Channels.newOutputStream(channel));
+    }
+
+    public void writeTo(StringList list, BinaryOutput output) throws IOException {
+        int size = list.size();
+        output.writeByte(MAGIC_0);
+        output.writeByte(MAGIC_1);
+        output.writeByte(FORMAT_VERSION);
+        output.writeByte(dictionary ? FLAG_DICTIONARY : 0);
+        output.writeVarInt(size);
+        String[] items = list instanceof StringListImpl ? ((StringListImpl) list).backingArray() : null;
+        Map<String, Integer> entries = dictionary ? new HashMap<>() : null;
+        for (int i = 0; i < size; i++) {
+            String item = items != null ? items[i] : list.get(i);
+            if (entries != null) {
+                Integer entry = entries.putIfAbsent(item, entries.size());
+                if (entry != null) {
+                    output.writeVarInt(entry + 1);
+                    continue;
+                }
+                output.writeVarInt(NEW_ENTRY);
+            }
+            byte[] bytes = item.getBytes(StandardCharsets.UTF_8);
+            output.writeVarInt(bytes.length);
+            output.writeBytes(bytes);
+        }
+    }
+
+    // Прочитать список в новый StringListImpl.
+    public StringListImpl readFrom(InputStream in) throws IOException {
+        return readFrom(new BinaryInput(in));
+    }
+
+    public StringListImpl readFrom(ReadableByteChannel channel) throws IOException {
+        return readFrom(Channels.newInputStream(channel));
+    }
+
+    public StringListImpl readFrom(BinaryInput input) throws IOException {
+        int flags = readHeader(input);
+        int size = input.readVarInt();
+        if (size < 0) {
+            throw new IOException("Illegal list size");
+        }
+        StringListImpl list = new StringListImpl(Math.max(1, Math.min(size, MAX_PRESIZE)));
+        List<String> entries = (flags & FLAG_DICTIONARY) != 0 ? new ArrayList<>() : null;
+        for (int i = 0; i < size; i++) {
+            if (entries != null) {
+                int tag = input.readVarInt();
+                if (tag != NEW_ENTRY) {
+                    if (tag < 0 || tag > entries.size()) {
+                        throw new IOException("Illegal dictionary reference");
+                    }
+                    list.add(entries.get(tag - 1));
+                    continue;
+                }
+            }
+            int length = input.readVarInt();
+            if (length < 0) {
+                throw new IOException("Illegal string length");
+            }
+            String item = input.readUtf8(length);
+            if (entries != null) {
+                entries.add(item);
+            }
+            list.add(item);
+        }
+        return list;
+    }
+
+    private static int readHeader(BinaryInput input) throws IOException {
+        if (input.readByte() != MAGIC_0 || input.readByte() != MAGIC_1) {
+            throw new IOException("Illegal list format");
+        }
+        int version = input.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported list format version " + version);
+        }
+        int flags = input.readByte();
+        if ((flags & ~FLAG_DICTIONARY) != 0) {
+            throw new IOException("Illegal list format");
+        }
+        return flags;
+    }
+}
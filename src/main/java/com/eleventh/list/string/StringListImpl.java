@@ -1,59 +1,77 @@
 package com.eleventh.list.string;
 
-import com.eleventh.list.exceptions.IllegalArgumentException;
-import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.CustomArrayList;
+import com.eleventh.list.GrowthStrategy;
 import com.eleventh.list.exceptions.IndexOutOfListException;
 import com.eleventh.list.exceptions.ItemNotFoundException;
 
-import java.util.Arrays;
-import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
 
 public class StringListImpl implements StringList {
     public static final int NOT_EXIST_INDEX = -1;
-    private static final int GROW_CAPACITY = 5;
 
-    private int size;
-    private int capacity;
-    private String[] items;
+    private final CustomArrayList<String> items;
+    private final StringPositionIndex valueIndex;
 
     public StringListImpl(int initialCapacity) {
-        if (initialCapacity <= 0) {
-            throw new IllegalArgumentException("Illegal capacity");
-        }
-        this.capacity = initialCapacity;
-        items = new String[initialCapacity];
+        this(initialCapacity, GrowthStrategy.geometric());
+    }
+
+    public StringListImpl(int initialCapacity, GrowthStrategy growthStrategy) {
+        this(initialCapacity, growthStrategy, false);
+    }
+
+    // indexed = true включает индекс значений:
+    // contains/indexOf/lastIndexOf работают за O(1),
+    // но каждая модификация списка обновляет индекс.
+    public StringListImpl(int initialCapacity, GrowthStrategy growthStrategy, boolean indexed) {
+        this.items = new CustomArrayList<>(String[]::new, initialCapacity, growthStrategy);
+        this.valueIndex = indexed ? new StringPositionIndex() : null;
+    }
+
+    boolean isIndexed() {
+        return valueIndex != null;
     }
 
     @Override
     public String add(String item) {
-        checkItem(item);
-        if (size == capacity) {
-            grow();
+        items.add(item);
+        if (valueIndex != null) {
+            valueIndex.add(item, items.size() - 1);
         }
-        items[size] = item;
-        size++;
         return item;
     }
 
     @Override
     public String add(int index, String item) {
-        if (index < 0 || index > size) {
-            throw new IndexOutOfListException("Index out of elements");
-        } else if (index < size) {
-            shiftRight(index);
-            set(index, item);
-            size++;
-        } else {
-            add(item);
+        items.add(index, item);
+        if (valueIndex != null) {
+            valueIndex.shift(index, 1);
+            valueIndex.add(item, index);
         }
         return item;
     }
 
+    @Override
+    public String[] addAll(int index, String[] newItems) {
+        items.addAll(index, newItems);
+        if (valueIndex != null) {
+            valueIndex.shift(index, newItems.length);
+            for (int i = 0; i < newItems.length; i++) {
+                valueIndex.add(newItems[i], index + i);
+            }
+        }
+        return newItems;
+    }
+
     @Override
     public String set(int index, String item) {
-        checkIndex(index);
-        checkItem(item);
-        items[index] = item;
+        var previous = items.set(index, item);
+        if (valueIndex != null) {
+            valueIndex.remove(previous, index);
+            valueIndex.add(item, index);
+        }
         return item;
     }
 
@@ -68,136 +86,174 @@ public class StringListImpl implements StringList {
 
     @Override
     public String remove(int index) {
-        checkIndex(index);
-        var item = items[index];
-        shiftLeft(index);
-        size--;
+        var item = items.remove(index);
+        if (valueIndex != null) {
+            valueIndex.remove(item, index);
+            valueIndex.shift(index + 1, -1);
+        }
         return item;
     }
 
+    @Override
+    public void removeRange(int from, int to) {
+        if (valueIndex != null && from >= 0 && from <= to && to <= items.size()) {
+            var array = items.backingArray();
+            for (int i = from; i < to; i++) {
+                valueIndex.remove(array[i], i);
+            }
+            valueIndex.shift(to, from - to);
+        }
+        items.removeRange(from, to);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<String> filter) {
+        boolean removed = items.removeIf(filter);
+        if (removed && valueIndex != null) {
+            rebuildIndex();
+        }
+        return removed;
+    }
+
     @Override
     public boolean contains(String item) {
-        return indexOf(item) != NOT_EXIST_INDEX;
+        if (item == null) {
+            return false;
+        }
+        if (valueIndex != null) {
+            return valueIndex.contains(item);
+        }
+        return items.contains(item);
     }
 
     @Override
     public int indexOf(String item) {
-        for (int i = 0; i < size; i++) {
-            if (items[i].equals(item)) {
-                return i;
-            }
+        if (item == null) {
+            return NOT_EXIST_INDEX;
+        }
+        if (valueIndex != null) {
+            return valueIndex.first(item);
         }
-        return NOT_EXIST_INDEX;
+        return items.indexOf(item);
     }
 
     @Override
     public int lastIndexOf(String item) {
-        for (int i = size - 1; i >= 0; i--) {
-            if (items[i].equals(item)) {
-                return i;
-            }
+        if (item == null) {
+            return NOT_EXIST_INDEX;
         }
-        return NOT_EXIST_INDEX;
+        if (valueIndex != null) {
+            return valueIndex.last(item);
+        }
+        return items.lastIndexOf(item);
     }
 
     @Override
     public String get(int index) {
-        checkIndex(index);
-        return items[index];
+        return items.get(index);
     }
 
     @Override
     public boolean equals(StringList otherList) {
         if (this == otherList) return true;
-        if (otherList == null || getClass() != otherList.getClass()) return false;
+        if (otherList == null) return false;
+        if (getClass() != otherList.getClass()) return StringList.contentEquals(this, otherList);
         StringListImpl that = (StringListImpl) otherList;
-        return size == that.size && Arrays.equals(items, that.items);
+        return items.contentEquals(that.items);
     }
 
     @Override
     public int size() {
-        return size;
+        return items.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return size == 0;
+        return items.isEmpty();
     }
 
     @Override
     public void clear() {
-        size = 0;
-        items = new String[capacity];
+        items.clear();
+        if (valueIndex != null) {
+            valueIndex.clear();
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        items.ensureCapacity(minCapacity);
+    }
+
+    @Override
+    public void trimToSize() {
+        items.trimToSize();
     }
 
     @Override
     public String[] toArray() {
-        String[] result = new String[size];
-        System.arraycopy(items, 0, result, 0, size);
-        return result;
+        return items.toArray();
     }
 
     @Override
     public String toString() {
-        StringBuilder stringBuilder = new StringBuilder();
-        stringBuilder.append("[ ");
-        for (int i = 0; i < items.length; i++) {
-            if (items[i] == null) {
-                break;
-            }
-            stringBuilder.append(items[i]);
-            if (i < size - 1) {
-                stringBuilder.append(", ");
-            }
-        }
-        stringBuilder.append(" ]");
-        return stringBuilder.toString();
+        return items.toString();
     }
 
+    // Хеш кешируется в CustomArrayList до следующего изменения.
     @Override
     public int hashCode() {
-        int result = Objects.hash(size);
-        result = 31 * result + Arrays.hashCode(items);
-        return result;
+        return items.contentHashCode();
     }
 
-    private void checkIndex(int index) {
-        if (index < 0 || index > size - 1) {
+    // Представление диапазона [from, to) без копирования.
+    // Изменения через представление попадают в этот список.
+    public StringListView subList(int from, int to) {
+        if (from < 0 || from > to || to > items.size()) {
             throw new IndexOutOfListException("Index out of elements");
         }
+        return new StringListView(this, null, from, to - from, false, true);
     }
 
-    private void checkItem(String item) {
-        if (item == null) {
-            throw new IllegalListItemException("List can't contain null");
-        }
+    // Представление всего списка только для чтения.
+    public StringListView unmodifiableView() {
+        return new StringListView(this, false, false);
     }
 
-    private void shiftLeft(int index) {
-        if (index == size - 1) {
-            items[index] = null;
-        }
-        for (int i = index; i < size - 1; i++) {
-            var item = items[i + 1];
-            items[i] = item;
-            items[i + 1] = null;
-        }
+    // Представление всего списка в обратном порядке.
+    public StringListView reversedView() {
+        return new StringListView(this, true, true);
     }
 
-    private void shiftRight(int index) {
-        if (size == capacity || size + 1 == capacity) {
-            grow();
-        }
-        for (int i = size; i >= index; i--) {
-            items[i + 1] = items[i];
-            items[i] = null;
+    // Обход читает внутренний массив напрямую, без проверки индекса.
+    @Override
+    public Spliterator<String> spliterator() {
+        return new StringListSpliterator(i -> items.backingArray()[i], items::modCount, items.size());
+    }
+
+    private void rebuildIndex() {
+        valueIndex.clear();
+        var array = items.backingArray();
+        for (int i = 0; i < items.size(); i++) {
+            valueIndex.add(array[i], i);
         }
     }
 
-    private void grow() {
-        capacity = capacity + GROW_CAPACITY;
-        var copy = toArray();
-        items = new String[capacity];
-        System.arraycopy(copy, 0, items, 0, copy.length);
+    int modCount() {
+        return items.modCount();
+    }
+
+    // Внутренний массив для пакетных операций без копирования.
+    // Действительны только первые size() элементов.
+    String[] backingArray() {
+        return items.backingArray();
+    }
+
+    // Заменить содержимое готовым массивом без копирования.
+    void replaceContent(String[] newItems, int newSize) {
+        items.replaceContent(newItems, newSize);
+        if (valueIndex != null) {
+            rebuildIndex();
+        }
     }
 }
@@ -0,0 +1,85 @@
+package com.eleventh.list.string;
+
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+// Разбиваемый итератор по диапазону индексов [index, fence).
+// Элементы читаются через reader без копирования, trySplit
+// делит диапазон пополам. Перед каждым чтением сверяется
+// счетчик изменений: если список изменился после создания
+// итератора, выбрасывается ConcurrentModificationException.
+final class StringListSpliterator implements Spliterator<String> {
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL;
+
+    private final IntFunction<String> reader;
+    private final IntSupplier modCount;
+    private final int expectedModCount;
+    private int index;
+    private final int fence;
+
+    StringListSpliterator(IntFunction<String> reader, IntSupplier modCount, int fence) {
+        this(reader, modCount, modCount.getAsInt(), 0, fence);
+    }
+
+    private StringListSpliterator(IntFunction<String> reader, IntSupplier modCount,
+                                  int expectedModCount, int index, int fence) {
+        this.reader = reader;
+        this.modCount = modCount;
+        this.expectedModCount = expectedModCount;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    // Обход неизменяемого снимка элементов.
+    static StringListSpliterator of(String[] snapshot) {
+        return new StringListSpliterator(i -> snapshot[i], () -> 0, snapshot.length);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String> action) {
+        if (index >= fence) {
+            return false;
+        }
+        checkModCount();
+        action.accept(reader.apply(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super String> action) {
+        for (; index < fence; index++) {
+            checkModCount();
+            action.accept(reader.apply(index));
+        }
+    }
+
+    @Override
+    public Spliterator<String> trySplit() {
+        int middle = (index + fence) >>> 1;
+        if (middle <= index) {
+            return null;
+        }
+        var prefix = new StringListSpliterator(reader, modCount, expectedModCount, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    private void checkModCount() {
+        if (modCount.getAsInt() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.eleventh.list.string;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Вторичный индекс списка: строка -> отсортированные позиции.
+// Хеш строки вычисляется один раз и кэшируется в самой String,
+// поэтому поиск стоит одного обращения к HashMap.
+class StringPositionIndex {
+    static final int NOT_EXIST_INDEX = -1;
+
+    private final Map<String, PositionSet> positions = new HashMap<>();
+
+    // Добавить позицию значения.
+    void add(String value, int position) {
+        positions.computeIfAbsent(value, key -> new PositionSet()).insert(position);
+    }
+
+    // Удалить позицию значения.
+    void remove(String value, int position) {
+        PositionSet valuePositions = positions.get(value);
+        if (valuePositions != null && valuePositions.remove(position) && valuePositions.count == 0) {
+            positions.remove(value);
+        }
+    }
+
+    // Сдвинуть на delta все позиции, начиная с from.
+    void shift(int from, int delta) {
+        for (PositionSet valuePositions : positions.values()) {
+            valuePositions.shift(from, delta);
+        }
+    }
+
+    boolean contains(String value) {
+        return positions.containsKey(value);
+    }
+
+    // Первая позиция значения или -1.
+    int first(String value) {
+        PositionSet valuePositions = positions.get(value);
+        return valuePositions == null ? NOT_EXIST_INDEX : valuePositions.items[0];
+    }
+
+    // Последняя позиция значения или -1.
+    int last(String value) {
+        PositionSet valuePositions = positions.get(value);
+        return valuePositions == null ? NOT_EXIST_INDEX : valuePositions.items[valuePositions.count - 1];
+    }
+
+    void clear() {
+        positions.clear();
+    }
+}
@@ -0,0 +1,165 @@
+package com.eleventh.list.string;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+// Поисковый индекс списка строк.
+// Отсортированная карта строка -> позиции отвечает на поиск
+// по префиксу диапазоном ключей. Необязательный индекс триграмм
+// (три подряд идущих символа -> позиции) сужает поиск подстроки
+// до пересечения наборов позиций, кандидаты затем проверяются
+// через contains.
+class StringSearchIndex {
+    static final int NOT_EXIST_INDEX = -1;
+    static final int GRAM_LENGTH = 3;
+
+    private final NavigableMap<String, PositionSet> values = new TreeMap<>();
+    private final Map<Long, PositionSet> grams;
+
+    StringSearchIndex(boolean ngrams) {
+        this.grams = ngrams ? new HashMap<>() : null;
+    }
+
+    // Добавить позицию значения.
+    void add(String value, int position) {
+        values.computeIfAbsent(value, key -> new PositionSet()).insert(position);
+        if (grams != null) {
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                grams.computeIfAbsent(gram(value, i), key -> new PositionSet()).insert(position);
+            }
+        }
+    }
+
+    // Удалить позицию значения.
+    void remove(String value, int position) {
+        PositionSet valuePositions = values.get(value);
+        if (valuePositions != null && valuePositions.remove(position) && valuePositions.count == 0) {
+            values.remove(value);
+        }
+        if (grams != null) {
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                Long key = gram(value, i);
+                PositionSet gramPositions = grams.get(key);
+                if (gramPositions != null && gramPositions.remove(position) && gramPositions.count == 0) {
+                    grams.remove(key);
+                }
+            }
+        }
+    }
+
+    // Сдвинуть на delta все позиции, начиная с from.
+    void shift(int from, int delta) {
+        for (PositionSet valuePositions : values.values()) {
+            valuePositions.shift(from, delta);
+        }
+        if (grams != null) {
+            for (PositionSet gramPositions : grams.values()) {
+                gramPositions.shift(from, delta);
+            }
+        }
+    }
+
+    // Первая позиция значения или -1.
+    int first(String value) {
+        PositionSet valuePositions = values.get(value);
+        return valuePositions == null ? NOT_EXIST_INDEX : valuePositions.items[0];
+    }
+
+    // Последняя позиция значения или -1.
+    int last(String value) {
+        PositionSet valuePositions = values.get(value);
+        return valuePositions == null ? NOT_EXIST_INDEX : valuePositions.items[valuePositions.count - 1];
+    }
+
+    // Позиции строк с префиксом prefix по возрастанию.
+    // Позиции одного значения уже упорядочены, сортировка
+    // нужна, только если префиксу подходят разные значения.
+    int[] startingWith(String prefix) {
+        String upper = upperBound(prefix);
+        NavigableMap<String, PositionSet> range = upper == null
+                ? values.tailMap(prefix, true)
+                : values.subMap(prefix, true, upper, false);
+        int total = 0;
+        for (PositionSet valuePositions : range.values()) {
+            total += valuePositions.count;
+        }
+        int[] result = new int[total];
+        int filled = 0;
+        for (PositionSet valuePositions : range.values()) {
+            System.arraycopy(valuePositions.items, 0, result, filled, valuePositions.count);
+            filled += valuePositions.count;
+        }
+        if (range.size() > 1) {
+            Arrays.sort(result);
+        }
+        return result;
+    }
+
+    // Позиции строк, содержащих fragment, по возрастанию,
+    // или null, если индекс триграмм не помогает
+    // (выключен или фрагмент короче триграммы).
+    int[] containing(String fragment, IntFunction<String> lookup) {
+        if (grams == null || fragment.length() < GRAM_LENGTH) {
+            return null;
+        }
+        int gramCount = fragment.length() - GRAM_LENGTH + 1;
+        PositionSet[] sets = new PositionSet[gramCount];
+        int smallest = 0;
+        for (int i = 0; i < gramCount; i++) {
+            sets[i] = grams.get(gram(fragment, i));
+            if (sets[i] == null) {
+                return new int[0];
+            }
+            if (sets[i].count < sets[smallest].count) {
+                smallest = i;
+            }
+        }
+        PositionSet candidates = sets[smallest];
+        int[] result = new int[candidates.count];
+        int found = 0;
+        for (int c = 0; c < candidates.count; c++) {
+            int position = candidates.items[c];
+            if (inAll(sets, position) && lookup.apply(position).contains(fragment)) {
+                result[found++] = position;
+            }
+        }
+        return Arrays.copyOf(result, found);
+    }
+
+    void clear() {
+        values.clear();
+        if (grams != null) {
+            grams.clear();
+        }
+    }
+
+    private static boolean inAll(PositionSet[] sets, int position) {
+        for (PositionSet set : sets) {
+            if (!set.contains(position)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Наименьшая строка, большая всех строк с префиксом prefix,
+    // или null, если такой нет (префикс только из Character.MAX_VALUE).
+    private static String upperBound(String prefix) {
+        int end = prefix.length();
+        while (end > 0 && prefix.charAt(end - 1) == Character.MAX_VALUE) {
+            end--;
+        }
+        if (end == 0) {
+            return null;
+        }
+        return prefix.substring(0, end - 1) + (char) (prefix.charAt(end - 1) + 1);
+    }
+
+    private static Long gram(String value, int from) {
+        return (long) value.charAt(from) << 32 | (long) value.charAt(from + 1) << 16 | value.charAt(from + 2);
+    }
+}
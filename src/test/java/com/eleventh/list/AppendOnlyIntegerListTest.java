@@ -0,0 +1,121 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.integer.AppendOnlyIntegerList;
+import com.eleventh.list.integer.ImmutableIntegerList;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class AppendOnlyIntegerListTest {
+    private static final int THREADS = 8;
+    private static final int ITEMS_PER_THREAD = 20_000;
+    // Больше трех первых сегментов (1024 + 2048 + 4096).
+    private static final int SEQUENTIAL_ITEMS = 10_000;
+
+    private AppendOnlyIntegerList out;
+
+    @BeforeEach
+    void setUp() {
+        out = new AppendOnlyIntegerList();
+    }
+
+    @Test
+    void sequentialAddsKeepOrderAcrossSegments() {
+        for (int i = 0; i < SEQUENTIAL_ITEMS; i++) {
+            out.addInt(i);
+        }
+        out.addAllInt(new int[]{-1, -2});
+        ImmutableIntegerList sealed = out.seal();
+        Assertions.assertThat(sealed.size()).isEqualTo(SEQUENTIAL_ITEMS + 2);
+        for (int i = 0; i < SEQUENTIAL_ITEMS; i++) {
+            Assertions.assertThat(sealed.getInt(i)).isEqualTo(i);
+        }
+        Assertions.assertThat(out.get(SEQUENTIAL_ITEMS + 1)).isEqualTo(-2);
+        Assertions.assertThat(out.indexOf(-1)).isEqualTo(SEQUENTIAL_ITEMS);
+        Assertions.assertThat(out.seal()).isSameAs(sealed);
+    }
+
+    @Test
+    void concurrentAddsAreNotLost() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int base = thread * ITEMS_PER_THREAD;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ITEMS_PER_THREAD; i++) {
+                        out.add(base + i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        int[] values = out.seal().toIntArray();
+        Assertions.assertThat(values).hasSize(THREADS * ITEMS_PER_THREAD);
+        boolean[] seen = new boolean[values.length];
+        for (int value : values) {
+            Assertions.assertThat(seen[value]).isFalse();
+            seen[value] = true;
+        }
+    }
+
+    @Test
+    void addAfterSeal() {
+        out.addInt(1);
+        out.seal();
+        Assertions.assertThat(out.isSealed()).isTrue();
+        Assertions.assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> {
+                    out.addInt(2);
+                });
+        Assertions.assertThat(out.toArray()).containsExactly(1);
+    }
+
+    @Test
+    void readBeforeSeal() {
+        out.addInt(1);
+        Assertions.assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> {
+                    out.get(0);
+                });
+        Assertions.assertThat(out.toString()).isEqualTo("[ unsealed ]");
+    }
+
+    @Test
+    void unsupportedOperations() {
+        Assertions.assertThatExceptionOfType(IllegalListItemException.class)
+                .isThrownBy(() -> {
+                    out.add(null);
+                });
+        Assertions.assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> {
+                    out.add(0, 1);
+                });
+        Assertions.assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> {
+                    out.seal().remove(0);
+                });
+        Assertions.assertThatExceptionOfType(IndexOutOfListException.class)
+                .isThrownBy(() -> {
+                    out.get(0);
+                });
+    }
+}
@@ -0,0 +1,166 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.string.ArenaStringList;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class ArenaStringListTest {
+    private static final String[] SAMPLES = {"", "host-1", "привет", "😀", "a\uD800b", "日本語", "host-1"};
+    private static final int OPERATIONS = 5_000;
+
+    private ArenaStringList out;
+
+    @BeforeEach
+    void setUp() {
+        out = new ArenaStringList(1);
+    }
+
+    @Test
+    void storesUtf8LikeString() {
+        out.addAll(0, SAMPLES);
+        for (int i = 0; i < SAMPLES.length; i++) {
+            String expected = new String(SAMPLES[i].getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+            Assertions.assertThat(out.get(i)).isEqualTo(expected);
+        }
+        Assertions.assertThat(out.indexOf("host-1")).isEqualTo(1);
+        Assertions.assertThat(out.lastIndexOf("host-1")).isEqualTo(6);
+        Assertions.assertThat(out.indexOfUtf8("日本語".getBytes(StandardCharsets.UTF_8))).isEqualTo(5);
+        Assertions.assertThat(out.contains("host")).isFalse();
+    }
+
+    @Test
+    void views() {
+        out.add("host-42");
+        out.add("привет");
+        CharSequence ascii = out.view(0);
+        CharSequence unicode = out.view(1);
+        out.set(0, "other");
+        out.clear();
+        out.add("overwritten");
+        Assertions.assertThat(ascii.length()).isEqualTo(7);
+        Assertions.assertThat(ascii.charAt(5)).isEqualTo('4');
+        Assertions.assertThat(ascii.subSequence(0, 4).toString()).isEqualTo("host");
+        Assertions.assertThat(ascii.toString()).isEqualTo("host-42");
+        Assertions.assertThat(unicode.length()).isEqualTo(6);
+        Assertions.assertThat(unicode.charAt(0)).isEqualTo('п');
+        Assertions.assertThat(unicode.toString()).isEqualTo("привет");
+        Assertions.assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> {
+                    ascii.charAt(7);
+                });
+    }
+
+    @Test
+    void matchesArrayListOnRandomOperations() {
+        Random random = new Random(5);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            String value = random.nextInt(3) == 0 ? "значение-" + random.nextInt(40) : "v" + random.nextInt(40);
+            switch (random.nextInt(7)) {
+                case 0, 1 -> {
+                    out.add(value);
+                    expected.add(value);
+                }
+                case 2 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    out.add(index, value);
+                    expected.add(index, value);
+                }
+                case 3 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        out.set(index, value);
+                        expected.set(index, value);
+                    }
+                }
+                case 4 -> {
+                    int from = random.nextInt(expected.size() + 1);
+                    int to = from + random.nextInt(Math.min(3, expected.size() - from) + 1);
+                    out.removeRange(from, to);
+                    expected.subList(from, to).clear();
+                }
+                case 5 -> {
+                    if (random.nextInt(20) == 0) {
+                        out.removeIf(value::equals);
+                        expected.removeIf(value::equals);
+                    }
+                }
+                default -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertThat(out.remove(index)).isEqualTo(expected.remove(index));
+                    }
+                }
+            }
+            Assertions.assertThat(out.indexOf(value)).isEqualTo(expected.indexOf(value));
+            Assertions.assertThat(out.lastIndexOf(value)).isEqualTo(expected.lastIndexOf(value));
+        }
+        Assertions.assertThat(out.toArray()).isEqualTo(expected.toArray(new String[0]));
+        out.trimToSize();
+        Assertions.assertThat(out.toArray()).isEqualTo(expected.toArray(new String[0]));
+    }
+
+    // Мусора в арене больше половины, и второй элемент
+    // пакета вызывает уплотнение после записи первого.
+    @Test
+    void addAll_compactsArenaMidBatch() {
+        out.add("aaaaa");
+        out.set(0, "b");
+        out.addAll(0, new String[]{"cc", "ddddd"});
+
+        Assertions.assertThat(out.toArray()).containsExactly("cc", "ddddd", "b");
+    }
+
+    @Test
+    void removeIf_throwingFilterKeepsList() {
+        out.addAll(0, new String[]{"a", "bb", "ccc", "dddd"});
+        Assertions.assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> {
+                    out.removeIf(item -> {
+                        if (item.equals("ccc")) {
+                            throw new IllegalStateException("filter failed");
+                        }
+                        return item.equals("a");
+                    });
+                });
+        Assertions.assertThat(out.toArray()).containsExactly("a", "bb", "ccc", "dddd");
+
+        out.trimToSize();
+        Assertions.assertThat(out.toArray()).containsExactly("a", "bb", "ccc", "dddd");
+    }
+
+    @Test
+    void equalsAndHashCode() {
+        ArenaStringList other = new ArenaStringList(10);
+        out.addAll(0, SAMPLES);
+        other.add("garbage");
+        other.clear();
+        other.addAll(0, SAMPLES);
+        Assertions.assertThat(out.equals(other)).isTrue();
+        Assertions.assertThat(out.hashCode()).isEqualTo(other.hashCode());
+        other.set(0, "x");
+        Assertions.assertThat(out.equals(other)).isFalse();
+    }
+
+    @Test
+    void exceptions() {
+        Assertions.assertThatExceptionOfType(IllegalListItemException.class)
+                .isThrownBy(() -> {
+                    out.add(null);
+                });
+        Assertions.assertThatExceptionOfType(IndexOutOfListException.class)
+                .isThrownBy(() -> {
+                    out.view(0);
+                });
+        Assertions.assertThat(out.indexOf(null)).isEqualTo(-1);
+        Assertions.assertThat(out.toString()).isEqualTo("[  ]");
+    }
+}
@@ -0,0 +1,163 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.integer.CompressedIntegerList;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class CompressedIntegerListTest {
+    private static final int BLOCK = CompressedIntegerList.BLOCK_SIZE;
+    private static final int OPERATIONS = 3_000;
+
+    private CompressedIntegerList out;
+
+    @BeforeEach
+    void setUp() {
+        out = new CompressedIntegerList();
+    }
+
+    @Test
+    void smallValuesAreCompressed() {
+        Random random = new Random(3);
+        int count = BLOCK * 1000;
+        int[] expected = new int[count];
+        for (int i = 0; i < count; i++) {
+            expected[i] = random.nextInt(1000);
+            out.addInt(expected[i]);
+        }
+        Assertions.assertThat(out.toIntArray()).isEqualTo(expected);
+        Assertions.assertThat(out.getInt(count / 2)).isEqualTo(expected[count / 2]);
+        // 10 бит на элемент против 32 у int[].
+        Assertions.assertThat(out.dataBytes()).isLessThan((long) count * Integer.BYTES / 3);
+    }
+
+    @Test
+    void sortedIdsAreCompressed() {
+        int count = BLOCK * 1000;
+        for (int i = 0; i < count; i++) {
+            out.addInt(1_000_000_000 + i * 7);
+        }
+        Assertions.assertThat(out.dataBytes()).isLessThan((long) count * Integer.BYTES / 3);
+        Assertions.assertThat(out.indexOfInt(1_000_000_000 + 700)).isEqualTo(100);
+        Assertions.assertThat(out.containsInt(1_000_000_001)).isFalse();
+    }
+
+    @Test
+    void extremeValues() {
+        int[] values = {Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1};
+        for (int i = 0; i < BLOCK * 2 + 3; i++) {
+            out.addInt(values[i % values.length]);
+        }
+        for (int i = 0; i < out.size(); i++) {
+            Assertions.assertThat(out.getInt(i)).isEqualTo(values[i % values.length]);
+        }
+        Assertions.assertThat(out.lastIndexOfInt(Integer.MAX_VALUE)).isEqualTo(BLOCK * 2 + 1);
+    }
+
+    @Test
+    void setOutsideBlockRange() {
+        for (int i = 0; i < BLOCK + 1; i++) {
+            out.addInt(5);
+        }
+        out.setInt(3, 6);
+        out.setInt(4, -100);
+        out.setInt(BLOCK, 7);
+        Assertions.assertThat(out.getInt(3)).isEqualTo(6);
+        Assertions.assertThat(out.getInt(4)).isEqualTo(-100);
+        Assertions.assertThat(out.getInt(5)).isEqualTo(5);
+        Assertions.assertThat(out.getInt(BLOCK)).isEqualTo(7);
+        Assertions.assertThatExceptionOfType(IndexOutOfListException.class)
+                .isThrownBy(() -> {
+                    out.getInt(BLOCK + 1);
+                });
+    }
+
+    @Test
+    void matchesArrayListOnRandomOperations() {
+        Random random = new Random(11);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            int value = random.nextInt(2000) - 1000;
+            switch (random.nextInt(8)) {
+                case 0, 1, 2 -> {
+                    out.add(value);
+                    expected.add(value);
+                }
+                case 3 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    out.add(index, value);
+                    expected.add(index, value);
+                }
+                case 4 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        out.set(index, value);
+                        expected.set(index, value);
+                    }
+                }
+                case 5 -> {
+                    int from = random.nextInt(expected.size() + 1);
+                    int to = from + random.nextInt(Math.min(BLOCK, expected.size() - from) + 1);
+                    out.removeRange(from, to);
+                    expected.subList(from, to).clear();
+                }
+                case 6 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    out.addAllInt(index, new int[]{value, value + 1});
+                    expected.addAll(index, List.of(value, value + 1));
+                }
+                default -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertThat(out.remove(index)).isEqualTo(expected.remove(index));
+                    }
+                }
+            }
+            int probe = random.nextInt(2000) - 1000;
+            Assertions.assertThat(out.indexOf(probe)).isEqualTo(expected.indexOf(probe));
+            Assertions.assertThat(out.lastIndexOf(probe)).isEqualTo(expected.lastIndexOf(probe));
+        }
+        Assertions.assertThat(out.toArray()).isEqualTo(expected.toArray(new Integer[0]));
+        Assertions.assertThat(out.removeIf(item -> item < 0)).isTrue();
+        expected.removeIf(item -> item < 0);
+        Assertions.assertThat(out.toArray()).isEqualTo(expected.toArray(new Integer[0]));
+    }
+
+    @Test
+    void removeIf_throwingFilterKeepsList() {
+        for (int i = 0; i < 100; i++) {
+            out.addInt(i);
+        }
+        int[] before = out.toIntArray();
+
+        Assertions.assertThatThrownBy(() -> out.removeIfInt(item -> {
+            if (item == 70) {
+                throw new IllegalStateException("filter failed");
+            }
+            return item % 2 == 0;
+        })).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(out.toIntArray()).containsExactly(before);
+    }
+
+    @Test
+    void equalsAndClear() {
+        CompressedIntegerList other = new CompressedIntegerList();
+        for (int i = 0; i < BLOCK + 5; i++) {
+            out.addInt(i);
+            other.addInt(i);
+        }
+        Assertions.assertThat(out.equals(other)).isTrue();
+        Assertions.assertThat(out.hashCode()).isEqualTo(other.hashCode());
+        out.clear();
+        out.trimToSize();
+        Assertions.assertThat(out.isEmpty()).isTrue();
+        Assertions.assertThat(out.toString()).isEqualTo("[  ]");
+        out.addInt(1);
+        Assertions.assertThat(out.toIntArray()).containsExactly(1);
+    }
+}
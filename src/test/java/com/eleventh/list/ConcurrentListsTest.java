@@ -0,0 +1,193 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+import com.eleventh.list.integer.ConcurrentIntegerList;
+import com.eleventh.list.integer.CopyOnWriteIntegerList;
+import com.eleventh.list.integer.IntegerList;
+import com.eleventh.list.integer.IntegerListImpl;
+import com.eleventh.list.string.ConcurrentStringList;
+import com.eleventh.list.string.CopyOnWriteStringList;
+import com.eleventh.list.string.StringList;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+class ConcurrentListsTest {
+    private static final int THREADS = 4;
+    private static final int ITEMS_PER_THREAD = 2_000;
+    private static final Integer ITEM_0 = 0;
+    private static final Integer ITEM_1 = 1;
+    private static final Integer ITEM_2 = 2;
+    private static final Integer ITEM_3 = 3;
+
+    @Test
+    void stampedIntegerListOperations() {
+        checkIntegerListOperations(() -> new ConcurrentIntegerList(4));
+    }
+
+    @Test
+    void copyOnWriteIntegerListOperations() {
+        checkIntegerListOperations(CopyOnWriteIntegerList::new);
+    }
+
+    @Test
+    void stampedConcurrentAdds() throws Exception {
+        checkConcurrentAdds(() -> new ConcurrentIntegerList(4));
+    }
+
+    @Test
+    void copyOnWriteConcurrentAdds() throws Exception {
+        checkConcurrentAdds(CopyOnWriteIntegerList::new);
+    }
+
+    @Test
+    void stampedConcurrentRemoveByItem() throws Exception {
+        checkConcurrentRemoveByItem(() -> new ConcurrentStringList(4));
+    }
+
+    @Test
+    void copyOnWriteConcurrentRemoveByItem() throws Exception {
+        checkConcurrentRemoveByItem(CopyOnWriteStringList::new);
+    }
+
+    @Test
+    void stampedUnknownDelegate_readsUnderReadLock() throws Exception {
+        AtomicReference<IntegerList> out = new AtomicReference<>();
+        AtomicBoolean writerBlocked = new AtomicBoolean();
+        out.set(new ConcurrentIntegerList(new IntegerListImpl(4) {
+            @Override
+            public int indexOf(Integer item) {
+                Thread writer = new Thread(() -> out.get().add(ITEM_1));
+                writer.start();
+                try {
+                    writer.join(100);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                writerBlocked.set(writer.isAlive());
+                return super.indexOf(item);
+            }
+        }));
+        out.get().add(ITEM_0);
+
+        Assertions.assertThat(out.get().indexOf(ITEM_1)).isEqualTo(-1);
+        Assertions.assertThat(writerBlocked).isTrue();
+        Assertions.assertThat(out.get().toString()).isEqualTo("[ 0, 1 ]");
+    }
+
+    private void checkIntegerListOperations(Supplier<IntegerList> factory) {
+        IntegerList out = factory.get();
+        out.add(ITEM_0);
+        out.add(ITEM_2);
+        out.add(1, ITEM_1);
+        out.addAll(3, new Integer[]{ITEM_3, ITEM_0});
+        Assertions.assertThat(out.toArray()).containsExactly(ITEM_0, ITEM_1, ITEM_2, ITEM_3, ITEM_0);
+        Assertions.assertThat(out.lastIndexOf(ITEM_0)).isEqualTo(4);
+        Assertions.assertThat(out.set(4, ITEM_1)).isEqualTo(ITEM_1);
+        Assertions.assertThat(out.remove(ITEM_1)).isEqualTo(ITEM_1);
+        out.removeRange(0, 1);
+        Assertions.assertThat(out.removeIf(item -> item.equals(ITEM_3))).isTrue();
+        Assertions.assertThat(out.toString()).isEqualTo("[ 2, 1 ]");
+        Assertions.assertThat(out.get(0)).isEqualTo(ITEM_2);
+        Assertions.assertThat(out.contains(ITEM_0)).isFalse();
+        Assertions.assertThat(out.size()).isEqualTo(2);
+
+        IntegerList same = factory.get();
+        same.add(ITEM_2);
+        same.add(ITEM_1);
+        Assertions.assertThat(out.equals(same)).isTrue();
+        Assertions.assertThat(out.hashCode()).isEqualTo(same.hashCode());
+
+        Assertions.assertThatExceptionOfType(IndexOutOfListException.class)
+                .isThrownBy(() -> {
+                    out.get(2);
+                });
+        Assertions.assertThatExceptionOfType(ItemNotFoundException.class)
+                .isThrownBy(() -> {
+                    out.remove(ITEM_3);
+                });
+        Assertions.assertThatExceptionOfType(IllegalListItemException.class)
+                .isThrownBy(() -> {
+                    out.add(null);
+                });
+        out.clear();
+        Assertions.assertThat(out.isEmpty()).isTrue();
+    }
+
+    private void checkConcurrentAdds(Supplier<IntegerList> factory) throws Exception {
+        IntegerList out = factory.get();
+        runConcurrently(thread -> {
+            for (int i = 0; i < ITEMS_PER_THREAD; i++) {
+                out.add(thread * ITEMS_PER_THREAD + i);
+                out.contains(i);
+                out.get(out.size() - 1);
+            }
+        });
+        Assertions.assertThat(out.size()).isEqualTo(THREADS * ITEMS_PER_THREAD);
+        for (int i = 0; i < THREADS * ITEMS_PER_THREAD; i++) {
+            Assertions.assertThat(out.contains(i)).isTrue();
+        }
+    }
+
+    private void checkConcurrentRemoveByItem(Supplier<StringList> factory) throws Exception {
+        StringList out = factory.get();
+        for (int i = 0; i < ITEMS_PER_THREAD; i++) {
+            out.add("item-" + i);
+        }
+        List<Integer> removedCounts = new ArrayList<>();
+        runConcurrently(thread -> {
+            int removed = 0;
+            for (int i = 0; i < ITEMS_PER_THREAD; i++) {
+                try {
+                    out.remove("item-" + i);
+                    removed++;
+                } catch (ItemNotFoundException e) {
+                    // Элемент уже удален другим потоком.
+                }
+            }
+            synchronized (removedCounts) {
+                removedCounts.add(removed);
+            }
+        });
+        Assertions.assertThat(out.isEmpty()).isTrue();
+        Assertions.assertThat(removedCounts.stream().mapToInt(Integer::intValue).sum()).isEqualTo(ITEMS_PER_THREAD);
+    }
+
+    private void runConcurrently(ThreadBody body) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int number = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    body.run(number);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface ThreadBody {
+        void run(int thread);
+    }
+}
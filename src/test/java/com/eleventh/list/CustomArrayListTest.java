@@ -0,0 +1,96 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CustomArrayListTest {
+    private static final int INITIAL_CAPACITY = 2;
+    private static final String ITEM_0 = "0";
+    private static final String ITEM_1 = "1";
+    private static final String ITEM_2 = "2";
+    private static final String ITEM_3 = "3";
+    private static final int INDEX_0 = 0;
+    private static final int INDEX_1 = 1;
+    private static final int INDEX_3 = 3;
+    private static final int INDEX_4 = 4;
+
+    private CustomArrayList<String> out;
+
+    @BeforeEach
+    void setUp() {
+        out = new CustomArrayList<>(String[]::new, INITIAL_CAPACITY);
+        out.add(ITEM_0);
+        out.add(ITEM_1);
+        out.add(ITEM_2);
+    }
+
+    @Test
+    void createWithIllegalParameters() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> {
+                    new CustomArrayList<>(String[]::new, 0);
+                });
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> {
+                    new CustomArrayList<>(String[]::new, INITIAL_CAPACITY, null);
+                });
+    }
+
+    @Test
+    void addShiftsTail() {
+        out.add(INDEX_0, ITEM_3);
+        Assertions.assertThat(out.toArray()).containsExactly(ITEM_3, ITEM_0, ITEM_1, ITEM_2);
+        Assertions.assertThatExceptionOfType(IndexOutOfListException.class)
+                .isThrownBy(() -> {
+                    out.add(INDEX_4 + 1, ITEM_3);
+                });
+        Assertions.assertThatExceptionOfType(IllegalListItemException.class)
+                .isThrownBy(() -> {
+                    out.add(INDEX_1, null);
+                });
+        Assertions.assertThat(out.size()).isEqualTo(INDEX_4);
+    }
+
+    @Test
+    void setReturnsPreviousItem() {
+        Assertions.assertThat(out.set(INDEX_1, ITEM_3)).isEqualTo(ITEM_1);
+        Assertions.assertThat(out.get(INDEX_1)).isEqualTo(ITEM_3);
+    }
+
+    @Test
+    void removeShiftsTail() {
+        Assertions.assertThat(out.remove(INDEX_0)).isEqualTo(ITEM_0);
+        Assertions.assertThat(out.remove(ITEM_2)).isEqualTo(ITEM_2);
+        Assertions.assertThat(out.toArray()).containsExactly(ITEM_1);
+        Assertions.assertThat(out.backingArray()[INDEX_1]).isNull();
+        Assertions.assertThatExceptionOfType(ItemNotFoundException.class)
+                .isThrownBy(() -> {
+                    out.remove(ITEM_3);
+                });
+    }
+
+    @Test
+    void toArrayKeepsElementType() {
+        Assertions.assertThat(out.toArray()).isExactlyInstanceOf(String[].class);
+        Assertions.assertThat(out.backingArray()).isExactlyInstanceOf(String[].class);
+    }
+
+    @Test
+    void contentEqualsIgnoresCapacity() {
+        CustomArrayList<String> other = new CustomArrayList<>(String[]::new, INDEX_3 * 10);
+        other.add(ITEM_0);
+        other.add(ITEM_1);
+        other.add(ITEM_2);
+        Assertions.assertThat(out.contentEquals(other)).isTrue();
+        Assertions.assertThat(out.contentHashCode()).isEqualTo(other.contentHashCode());
+        other.trimToSize();
+        Assertions.assertThat(other.capacity()).isEqualTo(INDEX_3);
+        other.clear();
+        Assertions.assertThat(out.contentEquals(other)).isFalse();
+    }
+}
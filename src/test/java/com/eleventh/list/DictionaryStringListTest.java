@@ -0,0 +1,103 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+import com.eleventh.list.string.DictionaryStringList;
+import com.eleventh.list.string.StringDictionary;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DictionaryStringListTest {
+    private static final int INITIAL_CAPACITY = 2;
+    private static final String OK = "200";
+    private static final String NOT_FOUND = "404";
+    private static final String ERROR = "500";
+
+    private StringDictionary dictionary;
+    private DictionaryStringList out;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new StringDictionary();
+        out = new DictionaryStringList(INITIAL_CAPACITY, dictionary);
+        out.add(OK);
+        out.add(NOT_FOUND);
+        out.add(OK);
+    }
+
+    @Test
+    void repeatedValuesShareCodes() {
+        for (int i = 0; i < 1000; i++) {
+            out.add(i % 2 == 0 ? OK : ERROR);
+        }
+        Assertions.assertThat(dictionary.size()).isEqualTo(3);
+        Assertions.assertThat(out.size()).isEqualTo(1003);
+        Assertions.assertThat(out.indexOf(ERROR)).isEqualTo(4);
+        Assertions.assertThat(out.lastIndexOf(NOT_FOUND)).isEqualTo(1);
+        Assertions.assertThat(out.contains("301")).isFalse();
+        Assertions.assertThat(dictionary.size()).isEqualTo(3);
+    }
+
+    @Test
+    void modifications() {
+        out.add(0, ERROR);
+        out.set(2, OK);
+        out.addAll(1, new String[]{NOT_FOUND, NOT_FOUND});
+        Assertions.assertThat(out.toArray()).containsExactly(ERROR, NOT_FOUND, NOT_FOUND, OK, OK, OK);
+        Assertions.assertThat(out.remove(NOT_FOUND)).isEqualTo(NOT_FOUND);
+        Assertions.assertThat(out.remove(0)).isEqualTo(ERROR);
+        out.removeRange(0, 1);
+        Assertions.assertThat(out.removeIf(OK::equals)).isTrue();
+        Assertions.assertThat(out.isEmpty()).isTrue();
+        Assertions.assertThat(out.toString()).isEqualTo("[  ]");
+    }
+
+    @Test
+    void sharedDictionaryEquality() {
+        DictionaryStringList other = new DictionaryStringList(INITIAL_CAPACITY, dictionary);
+        other.addAll(0, new String[]{OK, NOT_FOUND, OK});
+        DictionaryStringList separate = new DictionaryStringList(INITIAL_CAPACITY);
+        separate.addAll(0, new String[]{OK, NOT_FOUND, OK});
+        Assertions.assertThat(out.equals(other)).isTrue();
+        Assertions.assertThat(out.equals(separate)).isTrue();
+        Assertions.assertThat(out.hashCode()).isEqualTo(separate.hashCode());
+        separate.set(2, ERROR);
+        Assertions.assertThat(out.equals(separate)).isFalse();
+    }
+
+    @Test
+    void boundedDictionaryOverflowsIntoList() {
+        StringDictionary bounded = new StringDictionary(2);
+        DictionaryStringList list = new DictionaryStringList(INITIAL_CAPACITY, bounded);
+        list.addAll(0, new String[]{OK, NOT_FOUND, ERROR, "503", ERROR});
+        Assertions.assertThat(bounded.size()).isEqualTo(2);
+        Assertions.assertThat(bounded.lookup(ERROR)).isEqualTo(StringDictionary.NOT_EXIST_CODE);
+        Assertions.assertThat(list.toArray()).containsExactly(OK, NOT_FOUND, ERROR, "503", ERROR);
+        Assertions.assertThat(list.indexOf(ERROR)).isEqualTo(2);
+        Assertions.assertThat(list.lastIndexOf(ERROR)).isEqualTo(4);
+        Assertions.assertThat(list.indexOf("504")).isEqualTo(-1);
+    }
+
+    @Test
+    void exceptions() {
+        Assertions.assertThatExceptionOfType(IllegalListItemException.class)
+                .isThrownBy(() -> {
+                    out.add(null);
+                });
+        Assertions.assertThatExceptionOfType(IndexOutOfListException.class)
+                .isThrownBy(() -> {
+                    out.add(5, ERROR);
+                });
+        Assertions.assertThatExceptionOfType(IndexOutOfListException.class)
+                .isThrownBy(() -> {
+                    out.set(3, ERROR);
+                });
+        Assertions.assertThatExceptionOfType(ItemNotFoundException.class)
+                .isThrownBy(() -> {
+                    out.remove(ERROR);
+                });
+        Assertions.assertThat(dictionary.lookup(ERROR)).isEqualTo(StringDictionary.NOT_EXIST_CODE);
+    }
+}
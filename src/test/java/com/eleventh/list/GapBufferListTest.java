@@ -0,0 +1,146 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.integer.GapBufferIntegerList;
+import com.eleventh.list.string.GapBufferStringList;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class GapBufferListTest {
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int OPERATIONS = 5_000;
+
+    @Test
+    void cursorEdits_keepOrder() {
+        GapBufferIntegerList out = new GapBufferIntegerList(INITIAL_CAPACITY);
+        out.addAllInt(0, new int[]{0, 1, 2, 3, 4, 5});
+        out.addInt(3, 30);
+        out.addInt(4, 31);
+        out.removeAt(2);
+        out.addInt(0, -1);
+
+        Assertions.assertThat(out.toString()).isEqualTo("[ -1, 0, 1, 30, 31, 3, 4, 5 ]");
+        Assertions.assertThat(out.getInt(3)).isEqualTo(30);
+        Assertions.assertThat(out.indexOfInt(4)).isEqualTo(6);
+        Assertions.assertThat(out.lastIndexOfInt(0)).isEqualTo(1);
+        Assertions.assertThat(out.intStream().toArray()).containsExactly(out.toIntArray());
+    }
+
+    @Test
+    void illegalIndex_throwsException() {
+        GapBufferIntegerList out = new GapBufferIntegerList(INITIAL_CAPACITY);
+        out.addInt(1);
+
+        Assertions.assertThatThrownBy(() -> out.addInt(2, 0))
+                .isInstanceOf(IndexOutOfListException.class);
+        Assertions.assertThatThrownBy(() -> out.getInt(1))
+                .isInstanceOf(IndexOutOfListException.class);
+        Assertions.assertThatThrownBy(() -> out.removeRange(0, 2))
+                .isInstanceOf(IndexOutOfListException.class);
+    }
+
+    @Test
+    void trimToSize_keepsContent() {
+        GapBufferStringList out = new GapBufferStringList(INITIAL_CAPACITY);
+        out.addAll(0, new String[]{"a", "b", "c", "d", "e"});
+        out.add(1, "x");
+        out.trimToSize();
+        out.add(3, "y");
+
+        Assertions.assertThat(out.toString()).isEqualTo("[ a, x, b, y, c, d, e ]");
+        Assertions.assertThat(out.remove("y")).isEqualTo("y");
+        Assertions.assertThat(out.indexOf("c")).isEqualTo(3);
+    }
+
+    @Test
+    void removeIf_throwingFilterKeepsList() {
+        GapBufferIntegerList ints = new GapBufferIntegerList(INITIAL_CAPACITY);
+        ints.addAllInt(0, new int[]{0, 1, 2, 3});
+        ints.addInt(1, 10);
+        Assertions.assertThatThrownBy(() -> ints.removeIfInt(item -> {
+            if (item == 2) {
+                throw new IllegalStateException("filter failed");
+            }
+            return item == 0;
+        })).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(ints.toString()).isEqualTo("[ 0, 10, 1, 2, 3 ]");
+
+        GapBufferStringList strings = new GapBufferStringList(INITIAL_CAPACITY);
+        strings.addAll(0, new String[]{"a", "b", "c"});
+        strings.add(1, "x");
+        Assertions.assertThatThrownBy(() -> strings.removeIf(item -> {
+            if (item.equals("c")) {
+                throw new IllegalStateException("filter failed");
+            }
+            return item.equals("a");
+        })).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(strings.toString()).isEqualTo("[ a, x, b, c ]");
+    }
+
+    @Test
+    void randomOperations_matchArrayList() {
+        Random random = new Random(21);
+        GapBufferIntegerList out = new GapBufferIntegerList(INITIAL_CAPACITY);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            int value = random.nextInt(50);
+            int operation = random.nextInt(10);
+            if (operation < 5 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                out.addInt(index, value);
+                expected.add(index, value);
+            } else if (operation < 8) {
+                int index = random.nextInt(expected.size());
+                Assertions.assertThat(out.removeAt(index)).isEqualTo(expected.remove(index));
+            } else if (operation == 8) {
+                int index = random.nextInt(expected.size());
+                out.setInt(index, value);
+                expected.set(index, value);
+            } else {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(Math.min(5, expected.size() - from) + 1);
+                out.removeRange(from, to);
+                expected.subList(from, to).clear();
+            }
+            Assertions.assertThat(out.size()).isEqualTo(expected.size());
+        }
+        Assertions.assertThat(out.toIntArray())
+                .containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+        Assertions.assertThat(out.indexOfInt(7)).isEqualTo(expected.indexOf(7));
+        Assertions.assertThat(out.lastIndexOfInt(7)).isEqualTo(expected.lastIndexOf(7));
+
+        out.removeIfInt(item -> item % 3 == 0);
+        expected.removeIf(item -> item % 3 == 0);
+        Assertions.assertThat(out.toIntArray())
+                .containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    @Test
+    void randomStringOperations_matchArrayList() {
+        Random random = new Random(22);
+        GapBufferStringList out = new GapBufferStringList(INITIAL_CAPACITY);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            String value = "s" + random.nextInt(50);
+            if (random.nextInt(3) > 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                out.add(index, value);
+                expected.add(index, value);
+            } else {
+                int index = random.nextInt(expected.size());
+                Assertions.assertThat(out.remove(index)).isEqualTo(expected.remove(index));
+            }
+        }
+        Assertions.assertThat(out.toArray()).containsExactly(expected.toArray(new String[0]));
+        Assertions.assertThat(out.indexOf("s7")).isEqualTo(expected.indexOf("s7"));
+
+        GapBufferStringList copy = new GapBufferStringList(INITIAL_CAPACITY);
+        copy.addAll(0, out.toArray());
+        Assertions.assertThat(out.equals(copy)).isTrue();
+        Assertions.assertThat(out.hashCode()).isEqualTo(copy.hashCode());
+    }
+}
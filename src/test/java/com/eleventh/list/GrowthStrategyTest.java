@@ -0,0 +1,55 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class GrowthStrategyTest {
+    private static final int CAPACITY = 100;
+
+    @Test
+    void geometricGrowth() {
+        Assertions.assertThat(GrowthStrategy.geometric().newCapacity(CAPACITY, CAPACITY + 1)).isEqualTo(150);
+        Assertions.assertThat(GrowthStrategy.doubling().newCapacity(CAPACITY, CAPACITY + 1)).isEqualTo(200);
+    }
+
+    @Test
+    void fixedStepGrowth() {
+        Assertions.assertThat(GrowthStrategy.fixedStep(5).newCapacity(CAPACITY, CAPACITY + 1)).isEqualTo(105);
+    }
+
+    @Test
+    void cappedDoublingGrowth() {
+        GrowthStrategy strategy = GrowthStrategy.cappedDoubling(50);
+        Assertions.assertThat(strategy.newCapacity(10, 11)).isEqualTo(20);
+        Assertions.assertThat(strategy.newCapacity(CAPACITY, CAPACITY + 1)).isEqualTo(150);
+    }
+
+    @Test
+    void growthNotLessThanRequired() {
+        Assertions.assertThat(GrowthStrategy.geometric().newCapacity(0, 1)).isEqualTo(1);
+        Assertions.assertThat(GrowthStrategy.fixedStep(5).newCapacity(CAPACITY, 1000)).isEqualTo(1000);
+    }
+
+    @Test
+    void growthBeyondMaxCapacity() {
+        Assertions.assertThat(GrowthStrategy.doubling().newCapacity(Integer.MAX_VALUE / 2 + 1, 1))
+                .isEqualTo(GrowthStrategy.MAX_CAPACITY);
+        Assertions.assertThatExceptionOfType(OutOfMemoryError.class)
+                .isThrownBy(() -> {
+                    GrowthStrategy.doubling().newCapacity(CAPACITY, Integer.MAX_VALUE);
+                });
+    }
+
+    @Test
+    void illegalParameters() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> {
+                    GrowthStrategy.geometric(1.0);
+                });
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> {
+                    GrowthStrategy.fixedStep(0);
+                });
+    }
+}
@@ -0,0 +1,140 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.ItemNotFoundException;
+import com.eleventh.list.integer.IntegerList;
+import com.eleventh.list.integer.IntegerListImpl;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class IndexedIntegerListImplTest {
+    private static final int INITIAL_CAPACITY = 4;
+    private static final Integer ITEM_0 = 0;
+    private static final Integer ITEM_1 = 1;
+    private static final Integer ITEM_2 = 2;
+    private static final Integer ITEM_3 = 3;
+    private static final int INDEX_0 = 0;
+    private static final int INDEX_1 = 1;
+    private static final int INDEX_2 = 2;
+    private static final int INDEX_3 = 3;
+    private static final int OPERATIONS = 5_000;
+
+    private IntegerList out;
+
+    @BeforeEach
+    void setUp() {
+        out = new IntegerListImpl(INITIAL_CAPACITY, GrowthStrategy.geometric(), true);
+        out.add(ITEM_0);
+        out.add(ITEM_1);
+        out.add(ITEM_2);
+    }
+
+    @Test
+    void throwingRemoveIfKeepsListAndIndex() {
+        Assertions.assertThatThrownBy(() -> out.removeIf(item -> {
+            if (item.equals(ITEM_2)) {
+                throw new IllegalStateException("filter failed");
+            }
+            return item.equals(ITEM_0);
+        })).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(out.toArray()).containsExactly(ITEM_0, ITEM_1, ITEM_2);
+        Assertions.assertThat(out.indexOf(ITEM_0)).isEqualTo(INDEX_0);
+        Assertions.assertThat(out.indexOf(ITEM_1)).isEqualTo(INDEX_1);
+    }
+
+    @Test
+    void indexFollowsAddToMiddle() {
+        out.add(INDEX_0, ITEM_2);
+        Assertions.assertThat(out.indexOf(ITEM_2)).isEqualTo(INDEX_0);
+        Assertions.assertThat(out.lastIndexOf(ITEM_2)).isEqualTo(INDEX_3);
+        Assertions.assertThat(out.indexOf(ITEM_1)).isEqualTo(INDEX_2);
+    }
+
+    @Test
+    void indexFollowsSet() {
+        out.set(INDEX_1, ITEM_3);
+        Assertions.assertThat(out.contains(ITEM_1)).isFalse();
+        Assertions.assertThat(out.indexOf(ITEM_3)).isEqualTo(INDEX_1);
+    }
+
+    @Test
+    void indexFollowsRemove() {
+        out.remove(ITEM_0);
+        Assertions.assertThat(out.contains(ITEM_0)).isFalse();
+        Assertions.assertThat(out.indexOf(ITEM_1)).isEqualTo(INDEX_0);
+        Assertions.assertThat(out.lastIndexOf(ITEM_2)).isEqualTo(INDEX_1);
+        Assertions.assertThatExceptionOfType(ItemNotFoundException.class)
+                .isThrownBy(() -> {
+                    out.remove(ITEM_0);
+                });
+    }
+
+    @Test
+    void indexFollowsClear() {
+        out.clear();
+        Assertions.assertThat(out.contains(ITEM_0)).isFalse();
+        out.add(ITEM_3);
+        Assertions.assertThat(out.indexOf(ITEM_3)).isEqualTo(INDEX_0);
+        Assertions.assertThat(out.contains(null)).isFalse();
+    }
+
+    @Test
+    void indexMatchesLinearSearchOnRandomOperations() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>(List.of(ITEM_0, ITEM_1, ITEM_2));
+        for (int i = 0; i < OPERATIONS; i++) {
+            int value = random.nextInt(50);
+            switch (random.nextInt(7)) {
+                case 0 -> {
+                    out.add(value);
+                    expected.add(value);
+                }
+                case 1 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    out.add(index, value);
+                    expected.add(index, value);
+                }
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        out.set(index, value);
+                        expected.set(index, value);
+                    }
+                }
+                case 4 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    Integer[] values = {value, value + 1, value};
+                    out.addAll(index, values);
+                    expected.addAll(index, List.of(values));
+                }
+                case 5 -> {
+                    int from = random.nextInt(expected.size() + 1);
+                    int to = from + random.nextInt(Math.min(3, expected.size() - from) + 1);
+                    out.removeRange(from, to);
+                    expected.subList(from, to).clear();
+                }
+                case 6 -> {
+                    if (random.nextInt(20) == 0) {
+                        out.removeIf(item -> item == value);
+                        expected.removeIf(item -> item == value);
+                    }
+                }
+                default -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertThat(out.remove(index)).isEqualTo(expected.remove(index));
+                    }
+                }
+            }
+            int probe = random.nextInt(60);
+            Assertions.assertThat(out.contains(probe)).isEqualTo(expected.contains(probe));
+            Assertions.assertThat(out.indexOf(probe)).isEqualTo(expected.indexOf(probe));
+            Assertions.assertThat(out.lastIndexOf(probe)).isEqualTo(expected.lastIndexOf(probe));
+        }
+        Assertions.assertThat(out.toArray()).isEqualTo(expected.toArray(new Integer[0]));
+    }
+}
@@ -0,0 +1,250 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+import com.eleventh.list.integer.IntIntegerList;
+import com.eleventh.list.integer.IntegerList;
+import com.eleventh.list.integer.IntegerListImpl;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IntIntegerListTest {
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int ZERO_CAPACITY = 0;
+    private static final int ITEM_0 = 0;
+    private static final int ITEM_1 = 1;
+    private static final int ITEM_2 = 2;
+    private static final int ITEM_3 = 3;
+    private static final int ITEM_4 = 4;
+    private static final int INDEX_0 = 0;
+    private static final int INDEX_1 = 1;
+    private static final int INDEX_2 = 2;
+    private static final int INDEX_3 = 3;
+    private static final int INDEX_4 = 4;
+    private static final int SIZE_0 = 0;
+    private static final int SIZE_2 = 2;
+    private static final String TO_STRING = "[ 0, 1, 2 ]";
+    private static final String TO_STRING_EMPTY = "[  ]";
+
+    private IntIntegerList out;
+
+    @BeforeEach
+    void setUp() {
+        out = new IntIntegerList(INITIAL_CAPACITY);
+        out.addInt(ITEM_0);
+        out.addInt(ITEM_1);
+        out.addInt(ITEM_2);
+    }
+
+    @Test
+    void createListWithZeroCapacity() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> {
+                    new IntIntegerList(ZERO_CAPACITY);
+                });
+    }
+
+    @Test
+    void addToEndOfList() {
+        Assertions.assertThat(out.add(ITEM_3)).isEqualTo(ITEM_3);
+        Assertions.assertThat(out.containsInt(ITEM_3)).isTrue();
+        Assertions.assertThat(out.indexOfInt(ITEM_3)).isEqualTo(INDEX_3);
+    }
+
+    @Test
+    void addNullToEndOfList() {
+        Assertions.assertThatExceptionOfType(IllegalListItemException.class)
+                .isThrownBy(() -> {
+                    out.add(null);
+                });
+    }
+
+    @Test
+    void addToMiddleOfList() {
+        Assertions.assertThat(out.addInt(INDEX_1, ITEM_3)).isEqualTo(ITEM_3);
+        Assertions.assertThat(out.getInt(INDEX_1)).isEqualTo(ITEM_3);
+        Assertions.assertThat(out.getInt(INDEX_2)).isEqualTo(ITEM_1);
+        Assertions.assertThat(out.getInt(INDEX_3)).isEqualTo(ITEM_2);
+    }
+
+    @Test
+    void addToOutOfList() {
+        Assertions.assertThatExceptionOfType(IndexOutOfListException.class)
+                .isThrownBy(() -> {
+                    out.addInt(INDEX_4, ITEM_3);
+                });
+    }
+
+    @Test
+    void addWithGrow() {
+        Assertions.assertThat(out.addInt(ITEM_3)).isEqualTo(ITEM_3);
+        Assertions.assertThat(out.addInt(ITEM_4)).isEqualTo(ITEM_4);
+        Assertions.assertThat(out.indexOfInt(ITEM_4)).isEqualTo(INDEX_4);
+        Assertions.assertThat(out.addInt(INDEX_0, ITEM_4)).isEqualTo(ITEM_4);
+        Assertions.assertThat(out.lastIndexOfInt(ITEM_4)).isEqualTo(out.size() - 1);
+    }
+
+    @Test
+    void setValidItem() {
+        Assertions.assertThat(out.setInt(INDEX_0, ITEM_3)).isEqualTo(ITEM_3);
+        Assertions.assertThat(out.getInt(INDEX_0)).isEqualTo(ITEM_3);
+    }
+
+    @Test
+    void setOutOfList() {
+        Assertions.assertThatExceptionOfType(IndexOutOfListException.class)
+                .isThrownBy(() -> {
+                    out.setInt(INDEX_4, ITEM_3);
+                });
+    }
+
+    @Test
+    void removeMiddleItemByIndex() {
+        Assertions.assertThat(out.removeAt(INDEX_1)).isEqualTo(ITEM_1);
+        Assertions.assertThat(out.size()).isEqualTo(SIZE_2);
+        Assertions.assertThat(out.getInt(INDEX_1)).isEqualTo(ITEM_2);
+    }
+
+    @Test
+    void removeMiddleItem() {
+        Assertions.assertThat(out.remove(Integer.valueOf(ITEM_1))).isEqualTo(ITEM_1);
+        Assertions.assertThat(out.size()).isEqualTo(SIZE_2);
+        Assertions.assertThat(out.containsInt(ITEM_1)).isFalse();
+    }
+
+    @Test
+    void removeNotExistItem() {
+        Assertions.assertThatExceptionOfType(ItemNotFoundException.class)
+                .isThrownBy(() -> {
+                    out.remove(Integer.valueOf(ITEM_3));
+                });
+    }
+
+    @Test
+    void containsAndIndexOfNull() {
+        Assertions.assertThat(out.contains(null)).isFalse();
+        Assertions.assertThat(out.indexOf(null)).isEqualTo(IntIntegerList.NOT_EXIST_INDEX);
+        Assertions.assertThat(out.lastIndexOf(null)).isEqualTo(IntIntegerList.NOT_EXIST_INDEX);
+    }
+
+    @Test
+    void getOutOfListItem() {
+        Assertions.assertThatExceptionOfType(IndexOutOfListException.class)
+                .isThrownBy(() -> {
+                    out.getInt(INDEX_3);
+                });
+    }
+
+    @Test
+    void equalsWithValidList() {
+        IntIntegerList expected = new IntIntegerList(INITIAL_CAPACITY + 1);
+        expected.addInt(ITEM_0);
+        expected.addInt(ITEM_1);
+        expected.addInt(ITEM_2);
+        Assertions.assertThat(out.equals(expected)).isTrue();
+        Assertions.assertThat(out.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void equalsWithOtherImplementation() {
+        IntegerList other = new IntegerListImpl(INITIAL_CAPACITY);
+        other.add(ITEM_0);
+        Assertions.assertThat(out.equals(other)).isFalse();
+        Assertions.assertThat(out.equals((IntegerList) null)).isFalse();
+    }
+
+    @Test
+    void sizeAfterClear() {
+        out.clear();
+        Assertions.assertThat(out.size()).isEqualTo(SIZE_0);
+        Assertions.assertThat(out.isEmpty()).isTrue();
+    }
+
+    @Test
+    void toArrayListWithItems() {
+        Assertions.assertThat(out.toArray()).isEqualTo(new Integer[]{ITEM_0, ITEM_1, ITEM_2});
+        Assertions.assertThat(out.toIntArray()).isEqualTo(new int[]{ITEM_0, ITEM_1, ITEM_2});
+    }
+
+    @Test
+    void toStringListWithItems() {
+        Assertions.assertThat(out.toString()).isEqualTo(TO_STRING);
+        out.clear();
+        Assertions.assertThat(out.toString()).isEqualTo(TO_STRING_EMPTY);
+    }
+
+    @Test
+    void addWithFixedStepGrowth() {
+        IntegerList list = new IntIntegerList(1, GrowthStrategy.fixedStep(1));
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        Assertions.assertThat(list.size()).isEqualTo(10);
+        Assertions.assertThat(list.get(9)).isEqualTo(9);
+    }
+
+    @Test
+    void trimToSizeAndAdd() {
+        out.ensureCapacity(100);
+        out.trimToSize();
+        Assertions.assertThat(out.toArray()).isEqualTo(new Integer[]{ITEM_0, ITEM_1, ITEM_2});
+        out.add(ITEM_3);
+        Assertions.assertThat(out.get(INDEX_3)).isEqualTo(ITEM_3);
+        out.clear();
+        out.trimToSize();
+        Assertions.assertThat(out.add(ITEM_4)).isEqualTo(ITEM_4);
+    }
+
+    @Test
+    void addToMiddleOfTrimmedList() {
+        out.trimToSize();
+        out.add(INDEX_0, ITEM_3);
+        Assertions.assertThat(out.toArray()).isEqualTo(new Integer[]{ITEM_3, ITEM_0, ITEM_1, ITEM_2});
+    }
+
+    @Test
+    void addAllToMiddleOfList() {
+        out.addAllInt(INDEX_1, new int[]{ITEM_3, ITEM_4});
+        Assertions.assertThat(out.toArray()).isEqualTo(new Integer[]{ITEM_0, ITEM_3, ITEM_4, ITEM_1, ITEM_2});
+    }
+
+    @Test
+    void addAllWithNullItem() {
+        Assertions.assertThatExceptionOfType(IllegalListItemException.class)
+                .isThrownBy(() -> {
+                    out.addAll(INDEX_0, new Integer[]{ITEM_3, null});
+                });
+        Assertions.assertThat(out.size()).isEqualTo(3);
+    }
+
+    @Test
+    void removeRangeOfItems() {
+        out.removeRange(INDEX_0, INDEX_2);
+        Assertions.assertThat(out.toArray()).isEqualTo(new Integer[]{ITEM_2});
+        Assertions.assertThatExceptionOfType(IndexOutOfListException.class)
+                .isThrownBy(() -> {
+                    out.removeRange(INDEX_0, INDEX_2);
+                });
+    }
+
+    @Test
+    void removeIfMatchingItems() {
+        Assertions.assertThat(out.removeIfInt(item -> item != ITEM_1)).isTrue();
+        Assertions.assertThat(out.toArray()).isEqualTo(new Integer[]{ITEM_1});
+        Assertions.assertThat(out.removeIf(item -> item.equals(ITEM_3))).isFalse();
+    }
+
+    @Test
+    void removeIfThrowingFilterKeepsList() {
+        Assertions.assertThatThrownBy(() -> out.removeIfInt(item -> {
+            if (item == ITEM_2) {
+                throw new IllegalStateException("filter failed");
+            }
+            return item == ITEM_0;
+        })).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(out.toString()).isEqualTo(TO_STRING);
+    }
+}
@@ -0,0 +1,90 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.integer.IntSorter;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+class IntSorterTest {
+    private static final int[] SIZES = {0, 1, 2, 46, 47, 100, 1_000, 70_000};
+    private static final long COUNTING_SORT_RANGE = 1 << 24;
+
+    @Test
+    void sortRandomValues() {
+        checkAllSorts(size -> new Random(size).ints(size).toArray());
+    }
+
+    @Test
+    void sortSmallRangeValues() {
+        checkAllSorts(size -> new Random(size).ints(size, 0, 1000).toArray());
+    }
+
+    @Test
+    void sortSortedAndReversedValues() {
+        checkAllSorts(size -> {
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = i * 3 - size;
+            }
+            return arr;
+        });
+        checkAllSorts(size -> {
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = size - i;
+            }
+            return arr;
+        });
+    }
+
+    @Test
+    void sortExtremeValues() {
+        checkAllSorts(size -> {
+            Random random = new Random(size);
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = random.nextBoolean() ? Integer.MIN_VALUE : Integer.MAX_VALUE - random.nextInt(3);
+            }
+            return arr;
+        });
+    }
+
+    @Test
+    void sortRange() {
+        int[] arr = {9, 8, 7, 3, 2, 1, 0};
+        IntSorter.sort(arr, 1, 6);
+        Assertions.assertThat(arr).containsExactly(9, 1, 2, 3, 7, 8, 0);
+        Assertions.assertThatExceptionOfType(ArrayIndexOutOfBoundsException.class)
+                .isThrownBy(() -> {
+                    IntSorter.radixSort(arr, 3, 8);
+                });
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> {
+                    IntSorter.countingSort(new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE});
+                });
+    }
+
+    private void checkAllSorts(IntFunction<int[]> generator) {
+        for (int size : SIZES) {
+            int[] expected = generator.apply(size);
+            Arrays.sort(expected);
+            checkSort(generator.apply(size), expected, IntSorter::sort);
+            checkSort(generator.apply(size), expected, IntSorter::dualPivotQuickSort);
+            checkSort(generator.apply(size), expected, IntSorter::timSort);
+            checkSort(generator.apply(size), expected, IntSorter::radixSort);
+            if (size == 0 || (long) expected[size - 1] - expected[0] < COUNTING_SORT_RANGE) {
+                checkSort(generator.apply(size), expected, IntSorter::countingSort);
+            }
+        }
+    }
+
+    private void checkSort(int[] arr, int[] expected, Consumer<int[]> sorter) {
+        sorter.accept(arr);
+        Assertions.assertThat(arr).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,200 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalListItemException;
+import com.eleventh.list.integer.ConcurrentIntegerList;
+import com.eleventh.list.integer.GapBufferIntegerList;
+import com.eleventh.list.integer.IntIntegerList;
+import com.eleventh.list.integer.IntegerList;
+import com.eleventh.list.integer.IntegerListImpl;
+import com.eleventh.list.integer.RingBufferIntegerList;
+import com.eleventh.list.string.StringList;
+import com.eleventh.list.string.StringListImpl;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class ListBatchTest {
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int OPERATIONS = 2_000;
+
+    @Test
+    void apply_usesIndicesOfListBeforeBatch() {
+        for (IntegerList list : integerLists()) {
+            BatchResult result = list.batch()
+                    .insert(0, 10)
+                    .remove(1)
+                    .set(3, 30)
+                    .insert(3, 20)
+                    .insert(3, 21)
+                    .add(40)
+                    .apply();
+
+            Assertions.assertThat(list.toString()).isEqualTo("[ 10, 0, 2, 20, 21, 30, 40 ]");
+            Assertions.assertThat(result.applied()).isEqualTo(6);
+            Assertions.assertThat(result.failed()).isZero();
+        }
+    }
+
+    @Test
+    void apply_reportsInvalidAndConflictingOperations() {
+        IntIntegerList out = intIntegerList();
+        BatchResult result = out.batch()
+                .remove(4)
+                .set(0, 5)
+                .insert(5, 1)
+                .remove(0)
+                .set(-1, 1)
+                .insert(4, 9)
+                .apply();
+
+        Assertions.assertThat(result.applied()).isEqualTo(2);
+        Assertions.assertThat(result.failedOperations()).containsExactly(0, 2, 3, 4);
+        Assertions.assertThat(out.toString()).isEqualTo("[ 5, 1, 2, 3, 9 ]");
+    }
+
+    @Test
+    void apply_emptiesBatch() {
+        IntegerList out = new IntegerListImpl(INITIAL_CAPACITY);
+        var batch = out.batch().add(1).add(2);
+        Assertions.assertThat(batch.size()).isEqualTo(2);
+        batch.apply();
+
+        Assertions.assertThat(batch.size()).isZero();
+        Assertions.assertThat(batch.apply().applied()).isZero();
+        Assertions.assertThat(out.toString()).isEqualTo("[ 1, 2 ]");
+    }
+
+    @Test
+    void apply_keepsValueIndexInSync() {
+        IntegerListImpl out = new IntegerListImpl(INITIAL_CAPACITY, GrowthStrategy.geometric(), true);
+        out.addAll(0, new Integer[]{0, 1, 2, 3});
+        out.batch().remove(0).insert(2, 7).set(3, 8).apply();
+
+        Assertions.assertThat(out.indexOf(7)).isEqualTo(1);
+        Assertions.assertThat(out.indexOf(8)).isEqualTo(3);
+        Assertions.assertThat(out.contains(0)).isFalse();
+        Assertions.assertThat(out.contains(3)).isFalse();
+    }
+
+    @Test
+    void boundedRingBuffer_rejectsOverflowingBatchUnchanged() {
+        for (OverflowPolicy policy : OverflowPolicy.values()) {
+            RingBufferIntegerList out = new RingBufferIntegerList(3, policy);
+            out.addAllInt(0, new int[]{1, 2});
+
+            Assertions.assertThatThrownBy(() -> out.batch().add(3).add(4).apply())
+                    .isInstanceOf(IllegalStateException.class);
+            Assertions.assertThat(out.toString()).isEqualTo("[ 1, 2 ]");
+
+            out.batch().add(3).remove(0).insert(0, 0).apply();
+            Assertions.assertThat(out.toString()).isEqualTo("[ 0, 2, 3 ]");
+        }
+    }
+
+    @Test
+    void concurrentList_appliesBatchUnderWriteLock() throws InterruptedException {
+        ConcurrentIntegerList out = new ConcurrentIntegerList(INITIAL_CAPACITY);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                out.add(-1);
+            }
+        });
+        writer.start();
+        for (int i = 0; i < OPERATIONS / 10; i++) {
+            out.batch().add(i).add(i).apply();
+        }
+        writer.join();
+
+        Assertions.assertThat(out.size()).isEqualTo(OPERATIONS + OPERATIONS / 5);
+        Integer[] items = out.toArray();
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] != -1) {
+                Assertions.assertThat(items[i + 1]).isEqualTo(items[i]);
+                i++;
+            }
+        }
+    }
+
+    @Test
+    void randomBatches_matchSequentialApplication() {
+        Random random = new Random(23);
+        IntIntegerList out = new IntIntegerList(INITIAL_CAPACITY);
+        List<Integer> expected = new ArrayList<>();
+        for (int round = 0; round < 20; round++) {
+            int size = expected.size();
+            var batch = out.batch();
+            // Ожидаемый результат строится так же: позиции
+            // исходного списка, вставки перед элементом.
+            List<List<Integer>> before = new ArrayList<>();
+            Integer[] replaced = new Integer[size];
+            boolean[] changed = new boolean[size];
+            for (int i = 0; i <= size; i++) {
+                before.add(new ArrayList<>());
+            }
+            for (int i = 0; i < OPERATIONS / 20; i++) {
+                int value = random.nextInt(1000);
+                int kind = random.nextInt(3);
+                if (kind == 0 || size == 0) {
+                    int index = random.nextInt(size + 1);
+                    batch.insert(index, value);
+                    before.get(index).add(value);
+                } else {
+                    int index = random.nextInt(size);
+                    if (kind == 1) {
+                        batch.set(index, value);
+                    } else {
+                        batch.remove(index);
+                    }
+                    if (!changed[index]) {
+                        changed[index] = true;
+                        replaced[index] = kind == 1 ? value : null;
+                    }
+                }
+            }
+            List<Integer> next = new ArrayList<>();
+            for (int i = 0; i <= size; i++) {
+                next.addAll(before.get(i));
+                if (i < size) {
+                    if (!changed[i]) {
+                        next.add(expected.get(i));
+                    } else if (replaced[i] != null) {
+                        next.add(replaced[i]);
+                    }
+                }
+            }
+            batch.apply();
+            expected = next;
+            Assertions.assertThat(out.toIntArray())
+                    .containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    @Test
+    void stringBatch_appliesToList() {
+        StringList out = new StringListImpl(INITIAL_CAPACITY);
+        out.addAll(0, new String[]{"a", "b", "c"});
+        BatchResult result = out.batch().set(1, "B").insert(3, "d").remove(0).apply();
+
+        Assertions.assertThat(result.applied()).isEqualTo(3);
+        Assertions.assertThat(out.toString()).isEqualTo("[ B, c, d ]");
+        Assertions.assertThatThrownBy(() -> out.batch().add(null))
+                .isInstanceOf(IllegalListItemException.class);
+    }
+
+    private static List<IntegerList> integerLists() {
+        IntegerListImpl boxed = new IntegerListImpl(INITIAL_CAPACITY);
+        GapBufferIntegerList gapBuffer = new GapBufferIntegerList(INITIAL_CAPACITY);
+        boxed.addAll(0, new Integer[]{0, 1, 2, 3});
+        gapBuffer.addAllInt(0, new int[]{0, 1, 2, 3});
+        return List.of(intIntegerList(), boxed, gapBuffer);
+    }
+
+    private static IntIntegerList intIntegerList() {
+        IntIntegerList list = new IntIntegerList(INITIAL_CAPACITY);
+        list.addAllInt(0, new int[]{0, 1, 2, 3});
+        return list;
+    }
+}
@@ -0,0 +1,161 @@
+package com.eleventh.list;
+
+import com.eleventh.list.integer.ConcurrentIntegerList;
+import com.eleventh.list.integer.IntIntegerList;
+import com.eleventh.list.integer.IntegerList;
+import com.eleventh.list.integer.IntegerListCodec;
+import com.eleventh.list.integer.IntegerListImpl;
+import com.eleventh.list.string.StringList;
+import com.eleventh.list.string.StringListCodec;
+import com.eleventh.list.string.StringListImpl;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+class ListCodecTest {
+    private static final int[] EDGE_VALUES = {0, 1, -1, 127, 128, -64, -65, Integer.MAX_VALUE, Integer.MIN_VALUE, 42};
+    private static final String[] STRINGS = {"", "a", "привет", "😀 emoji", "a", "привет", "a"};
+
+    @Test
+    void integerRoundTrip() throws IOException {
+        IntegerList list = new IntegerListImpl(1);
+        for (int value : EDGE_VALUES) {
+            list.add(value);
+        }
+        for (boolean delta : new boolean[]{true, false}) {
+            IntegerListCodec codec = new IntegerListCodec(delta);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            codec.writeTo(list, out);
+            IntIntegerList read = codec.readFrom(new ByteArrayInputStream(out.toByteArray()));
+            Assertions.assertThat(read.toIntArray()).containsExactly(EDGE_VALUES);
+        }
+    }
+
+    @Test
+    void deltaEncodingIsCompactForSortedData() throws IOException {
+        IntIntegerList list = new IntIntegerList(1);
+        for (int i = 0; i < 10_000; i++) {
+            list.addInt(1_000_000 + i * 3);
+        }
+        ByteArrayOutputStream delta = new ByteArrayOutputStream();
+        new IntegerListCodec(true).writeTo(list, delta);
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        new IntegerListCodec(false).writeTo(list, plain);
+        Assertions.assertThat(delta.size()).isLessThan(list.size() + 16);
+        Assertions.assertThat(plain.size()).isGreaterThan(list.size() * 3);
+        Assertions.assertThat(new IntegerListCodec().readFrom(new ByteArrayInputStream(plain.toByteArray())).equals(list))
+                .isTrue();
+    }
+
+    @Test
+    void integerRoundTripThroughChannel() throws IOException {
+        IntegerList list = new ConcurrentIntegerList(1);
+        Random random = new Random(1);
+        for (int i = 0; i < 20_000; i++) {
+            list.add(random.nextInt());
+        }
+        IntegerListCodec codec = new IntegerListCodec();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.writeTo(list, Channels.newChannel(out));
+        IntIntegerList read = codec.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+        Assertions.assertThat(read.toArray()).isEqualTo(list.toArray());
+    }
+
+    @Test
+    void stringRoundTrip() throws IOException {
+        StringList list = new StringListImpl(1);
+        list.addAll(0, STRINGS);
+        char[] longString = new char[20_000];
+        Arrays.fill(longString, 'ж');
+        list.add(new String(longString));
+        for (boolean dictionary : new boolean[]{true, false}) {
+            StringListCodec codec = new StringListCodec(dictionary);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            codec.writeTo(list, out);
+            StringListImpl read = codec.readFrom(new ByteArrayInputStream(out.toByteArray()));
+            Assertions.assertThat(read.toArray()).isEqualTo(list.toArray());
+        }
+    }
+
+    @Test
+    void dictionaryShrinksRepeatedStrings() throws IOException {
+        StringList list = new StringListImpl(1);
+        for (int i = 0; i < 1_000; i++) {
+            list.add("repeated-value-" + i % 10);
+        }
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        new StringListCodec(false).writeTo(list, plain);
+        ByteArrayOutputStream dictionary = new ByteArrayOutputStream();
+        new StringListCodec(true).writeTo(list, dictionary);
+        Assertions.assertThat(dictionary.size()).isLessThan(plain.size() / 5);
+    }
+
+    @Test
+    void severalListsInOneStream() throws IOException {
+        IntegerList integers = new IntIntegerList(1);
+        integers.add(5);
+        StringList strings = new StringListImpl(1);
+        strings.add("five");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryOutput output = new BinaryOutput(out);
+        new IntegerListCodec().writeTo(integers, output);
+        new StringListCodec(true).writeTo(strings, output);
+        output.flush();
+
+        BinaryInput input = new BinaryInput(new ByteArrayInputStream(out.toByteArray()));
+        Assertions.assertThat(new IntegerListCodec().readFrom(input).toIntArray()).containsExactly(5);
+        Assertions.assertThat(new StringListCodec().readFrom(input).toArray()).containsExactly("five");
+    }
+
+    @Test
+    void malformedInput() throws IOException {
+        IntegerList list = new IntIntegerList(1);
+        list.add(300);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new IntegerListCodec().writeTo(list, out);
+        byte[] bytes = out.toByteArray();
+        Assertions.assertThatExceptionOfType(EOFException.class)
+                .isThrownBy(() -> {
+                    new IntegerListCodec().readFrom(new ByteArrayInputStream(bytes, 0, bytes.length - 1));
+                });
+        Assertions.assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> {
+                    new StringListCodec().readFrom(new ByteArrayInputStream(bytes));
+                })
+                .withMessage("Illegal list format");
+    }
+
+    @Test
+    void corruptedVarIntAndLength() throws IOException {
+        byte[] overflow = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x1F};
+        Assertions.assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> {
+                    new BinaryInput(new ByteArrayInputStream(overflow)).readVarInt();
+                })
+                .withMessage("Malformed varint");
+        byte[] max = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+        Assertions.assertThat(new BinaryInput(new ByteArrayInputStream(max)).readVarInt()).isEqualTo(-1);
+
+        Assertions.assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> {
+                    new BinaryInput(new ByteArrayInputStream(new byte[0])).readUtf8(-1);
+                });
+        Assertions.assertThatExceptionOfType(EOFException.class)
+                .isThrownBy(() -> {
+                    new BinaryInput(new ByteArrayInputStream(new byte[]{'a'})).readUtf8(Integer.MAX_VALUE);
+                });
+
+        String longString = "ы".repeat(20_000);
+        byte[] utf8 = longString.getBytes(StandardCharsets.UTF_8);
+        Assertions.assertThat(new BinaryInput(new ByteArrayInputStream(utf8)).readUtf8(utf8.length))
+                .isEqualTo(longString);
+    }
+}
@@ -0,0 +1,149 @@
+package com.eleventh.list;
+
+import com.eleventh.list.integer.CompressedIntegerList;
+import com.eleventh.list.integer.ConcurrentIntegerList;
+import com.eleventh.list.integer.CopyOnWriteIntegerList;
+import com.eleventh.list.integer.GapBufferIntegerList;
+import com.eleventh.list.integer.ImmutableIntegerList;
+import com.eleventh.list.integer.IntIntegerList;
+import com.eleventh.list.integer.IntegerList;
+import com.eleventh.list.integer.IntegerListImpl;
+import com.eleventh.list.integer.OffHeapIntegerList;
+import com.eleventh.list.integer.RingBufferIntegerList;
+import com.eleventh.list.string.ArenaStringList;
+import com.eleventh.list.string.ConcurrentStringList;
+import com.eleventh.list.string.CopyOnWriteStringList;
+import com.eleventh.list.string.DictionaryStringList;
+import com.eleventh.list.string.GapBufferStringList;
+import com.eleventh.list.string.RingBufferStringList;
+import com.eleventh.list.string.SearchableStringList;
+import com.eleventh.list.string.StringList;
+import com.eleventh.list.string.StringListImpl;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class ListEqualityTest {
+    private static final int INITIAL_CAPACITY = 2;
+    private static final int[] INTS = {5, -1, 7, 0, 42};
+    private static final String[] STRINGS = {"a", "bb", "", "ccc"};
+
+    @Test
+    void integerLists_equalAcrossImplementations() {
+        List<IntegerList> lists = integerLists(INTS);
+        for (IntegerList list : lists) {
+            for (IntegerList other : lists) {
+                Assertions.assertThat(list.equals(other)).as("%s vs %s", list.getClass(), other.getClass()).isTrue();
+                Assertions.assertThat(list.hashCode()).as("%s vs %s", list.getClass(), other.getClass()).isEqualTo(other.hashCode());
+            }
+            Assertions.assertThat(list.hashCode()).isEqualTo(IntegerList.contentHashCode(list));
+        }
+        for (IntegerList list : lists) {
+            for (IntegerList other : integerLists(new int[]{5, -1, 7, 0, 43})) {
+                Assertions.assertThat(list.equals(other)).isFalse();
+                Assertions.assertThat(other.equals(list)).isFalse();
+            }
+            Assertions.assertThat(list.equals(ImmutableIntegerList.copyOf(new int[]{5, -1, 7, 0}))).isFalse();
+            Assertions.assertThat(list.equals((IntegerList) null)).isFalse();
+        }
+    }
+
+    @Test
+    void stringLists_equalAcrossImplementations() {
+        List<StringList> lists = stringLists(STRINGS);
+        for (StringList list : lists) {
+            for (StringList other : lists) {
+                Assertions.assertThat(list.equals(other)).as("%s vs %s", list.getClass(), other.getClass()).isTrue();
+                Assertions.assertThat(list.hashCode()).as("%s vs %s", list.getClass(), other.getClass()).isEqualTo(other.hashCode());
+            }
+            Assertions.assertThat(list.hashCode()).isEqualTo(StringList.contentHashCode(list));
+        }
+        for (StringList list : lists) {
+            for (StringList other : stringLists(new String[]{"a", "bb", "", "cc"})) {
+                Assertions.assertThat(list.equals(other)).isFalse();
+            }
+        }
+    }
+
+    @Test
+    void hashCode_ignoresCapacity() {
+        IntegerListImpl out = new IntegerListImpl(INITIAL_CAPACITY);
+        IntegerListImpl other = new IntegerListImpl(100);
+        out.addAll(0, new Integer[]{1, 2, 3});
+        other.addAll(0, new Integer[]{1, 2, 3});
+
+        Assertions.assertThat(out.equals(other)).isTrue();
+        Assertions.assertThat(out.hashCode()).isEqualTo(other.hashCode());
+    }
+
+    @Test
+    void cachedHash_resetOnEveryChange() {
+        IntegerListImpl out = new IntegerListImpl(INITIAL_CAPACITY);
+        out.addAll(0, new Integer[]{1, 2, 3});
+        int hash = out.hashCode();
+
+        out.set(1, 9);
+        Assertions.assertThat(out.hashCode()).isNotEqualTo(hash).isEqualTo(IntegerList.contentHashCode(out));
+        out.subList(0, 2).set(0, 8);
+        Assertions.assertThat(out.hashCode()).isEqualTo(IntegerList.contentHashCode(out));
+        out.batch().insert(0, 4).remove(2).apply();
+        Assertions.assertThat(out.hashCode()).isEqualTo(IntegerList.contentHashCode(out));
+        out.set(0, 1);
+        out.set(1, 2);
+        out.set(2, 3);
+        Assertions.assertThat(out.toString()).isEqualTo("[ 1, 2, 3 ]");
+        Assertions.assertThat(out.hashCode()).isEqualTo(hash);
+
+        StringListImpl strings = new StringListImpl(INITIAL_CAPACITY);
+        strings.add("a");
+        int stringHash = strings.hashCode();
+        strings.set(0, "b");
+        Assertions.assertThat(strings.hashCode()).isNotEqualTo(stringHash);
+        strings.clear();
+        Assertions.assertThat(strings.hashCode()).isEqualTo(StringList.contentHashCode(strings));
+    }
+
+    private static List<IntegerList> integerLists(int[] values) {
+        Integer[] boxed = new Integer[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = values[i];
+        }
+        IntIntegerList ints = new IntIntegerList(INITIAL_CAPACITY);
+        IntegerListImpl impl = new IntegerListImpl(INITIAL_CAPACITY);
+        GapBufferIntegerList gapBuffer = new GapBufferIntegerList(INITIAL_CAPACITY);
+        RingBufferIntegerList ringBuffer = new RingBufferIntegerList(INITIAL_CAPACITY);
+        CompressedIntegerList compressed = new CompressedIntegerList();
+        OffHeapIntegerList offHeap = new OffHeapIntegerList();
+        ConcurrentIntegerList concurrent = new ConcurrentIntegerList(INITIAL_CAPACITY);
+        CopyOnWriteIntegerList copyOnWrite = new CopyOnWriteIntegerList();
+        IntegerListImpl wider = new IntegerListImpl(INITIAL_CAPACITY);
+        ints.addAllInt(0, values);
+        impl.addAll(0, boxed);
+        gapBuffer.addAllInt(0, values);
+        for (int i = values.length - 1; i >= 0; i--) {
+            ringBuffer.addFirst(values[i]);
+        }
+        compressed.addAll(0, boxed);
+        offHeap.addAll(0, boxed);
+        concurrent.addAll(0, boxed);
+        copyOnWrite.addAll(0, boxed);
+        wider.add(100);
+        wider.addAll(1, boxed);
+        wider.add(200);
+        return List.of(ints, impl, gapBuffer, ringBuffer, compressed, offHeap, concurrent, copyOnWrite,
+                ImmutableIntegerList.copyOf(values), wider.subList(1, values.length + 1),
+                impl.reversedView().reversedView());
+    }
+
+    private static List<StringList> stringLists(String[] values) {
+        List<StringList> lists = List.of(new StringListImpl(INITIAL_CAPACITY), new ArenaStringList(INITIAL_CAPACITY),
+                new DictionaryStringList(INITIAL_CAPACITY), new GapBufferStringList(INITIAL_CAPACITY),
+                new RingBufferStringList(INITIAL_CAPACITY), new ConcurrentStringList(INITIAL_CAPACITY),
+                new CopyOnWriteStringList(), new SearchableStringList(INITIAL_CAPACITY));
+        for (StringList list : lists) {
+            list.addAll(0, values);
+        }
+        return lists;
+    }
+}
@@ -0,0 +1,185 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.integer.CompressedIntegerList;
+import com.eleventh.list.integer.ConcurrentIntegerList;
+import com.eleventh.list.integer.IntIntegerList;
+import com.eleventh.list.integer.IntegerList;
+import com.eleventh.list.integer.IntegerListImpl;
+import com.eleventh.list.string.CopyOnWriteStringList;
+import com.eleventh.list.string.StringList;
+import com.eleventh.list.string.StringListImpl;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class ListIterationTest {
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int LARGE_SIZE = 100_000;
+    private static final int[] ITEMS = {3, 1, 4, 1, 5, 9, 2, 6};
+    private static final String[] WORDS = {"alpha", "beta", "gamma", "delta"};
+
+    @Test
+    void forEachLoop_visitsAllItemsInOrder() {
+        for (IntegerList list : integerLists()) {
+            List<Integer> visited = new ArrayList<>();
+            for (Integer item : list) {
+                visited.add(item);
+            }
+            Assertions.assertThat(visited).containsExactly(3, 1, 4, 1, 5, 9, 2, 6);
+        }
+    }
+
+    @Test
+    void primitiveIterator_returnsItemsWithoutBoxing() {
+        PrimitiveIterator.OfInt iterator = intIntegerList(ITEMS).iterator();
+        int sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        Assertions.assertThat(sum).isEqualTo(IntStream.of(ITEMS).sum());
+    }
+
+    @Test
+    void intStream_matchesToArray() {
+        for (IntegerList list : integerLists()) {
+            Assertions.assertThat(list.intStream().toArray()).containsExactly(ITEMS);
+        }
+    }
+
+    @Test
+    void forEachInt_visitsAllItemsInOrder() {
+        IntIntegerList out = intIntegerList(ITEMS);
+        IntIntegerList copy = new IntIntegerList(INITIAL_CAPACITY);
+        out.forEachInt(copy::addInt);
+        Assertions.assertThat(copy.toIntArray()).containsExactly(ITEMS);
+    }
+
+    @Test
+    void forEach_nullAction_throwsException() {
+        IntegerList out = intIntegerList(ITEMS);
+        Assertions.assertThatThrownBy(() -> out.forEach(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> out.forEachInt(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void spliterator_reportsSizedCharacteristics() {
+        Spliterator.OfInt spliterator = new IntegerListImpl(INITIAL_CAPACITY).spliterator();
+        Assertions.assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        Assertions.assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        Assertions.assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        Assertions.assertThat(spliterator.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+    }
+
+    @Test
+    void trySplit_dividesRangeInHalves() {
+        Spliterator.OfInt suffix = intIntegerList(ITEMS).spliterator();
+        Spliterator.OfInt prefix = suffix.trySplit();
+
+        Assertions.assertThat(prefix.estimateSize()).isEqualTo(4);
+        Assertions.assertThat(suffix.estimateSize()).isEqualTo(4);
+        int[] first = new int[1];
+        prefix.tryAdvance((int item) -> first[0] = item);
+        Assertions.assertThat(first[0]).isEqualTo(3);
+    }
+
+    @Test
+    void parallelIntStream_matchesSequentialSum() {
+        IntIntegerList out = new IntIntegerList(INITIAL_CAPACITY);
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            out.addInt(i);
+        }
+        long expected = (long) LARGE_SIZE * (LARGE_SIZE - 1) / 2;
+
+        Assertions.assertThat(out.intStream().parallel().asLongStream().sum()).isEqualTo(expected);
+        Assertions.assertThat(out.intStream().parallel().toArray()).containsExactly(out.toIntArray());
+    }
+
+    @Test
+    void forEach_addDuringIteration_throwsException() {
+        for (IntegerList list : integerLists()) {
+            Assertions.assertThatThrownBy(() -> list.forEach(list::add))
+                    .isInstanceOf(ConcurrentModificationException.class);
+        }
+    }
+
+    @Test
+    void iterator_removeDuringIteration_throwsException() {
+        StringList out = stringList(WORDS);
+        var iterator = out.iterator();
+        iterator.next();
+        out.remove(0);
+
+        Assertions.assertThatThrownBy(iterator::next)
+                .isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void iterator_setDuringIteration_isAllowed() {
+        IntegerList out = new IntegerListImpl(INITIAL_CAPACITY);
+        for (int item : ITEMS) {
+            out.add(item);
+        }
+        var iterator = out.iterator();
+        iterator.nextInt();
+        out.set(1, 7);
+
+        Assertions.assertThat(iterator.nextInt()).isEqualTo(7);
+    }
+
+    @Test
+    void concurrentList_iteratesOverSnapshot() {
+        ConcurrentIntegerList out = new ConcurrentIntegerList(intIntegerList(ITEMS));
+        var iterator = out.iterator();
+        out.clear();
+
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.nextInt();
+            count++;
+        }
+        Assertions.assertThat(count).isEqualTo(ITEMS.length);
+    }
+
+    @Test
+    void stringStream_matchesToArray() {
+        StringList out = stringList(WORDS);
+        CopyOnWriteStringList copyOnWrite = new CopyOnWriteStringList();
+        copyOnWrite.addAll(0, WORDS);
+
+        Assertions.assertThat(out.stream().collect(Collectors.joining(",")))
+                .isEqualTo("alpha,beta,gamma,delta");
+        Assertions.assertThat(copyOnWrite.stream().parallel().toArray()).containsExactly(WORDS);
+    }
+
+    private static List<IntegerList> integerLists() {
+        IntegerListImpl boxed = new IntegerListImpl(INITIAL_CAPACITY);
+        CompressedIntegerList compressed = new CompressedIntegerList();
+        for (int item : ITEMS) {
+            boxed.add(item);
+            compressed.add(item);
+        }
+        return List.of(intIntegerList(ITEMS), boxed, compressed);
+    }
+
+    private static IntIntegerList intIntegerList(int[] items) {
+        IntIntegerList list = new IntIntegerList(INITIAL_CAPACITY);
+        list.addAllInt(0, items);
+        return list;
+    }
+
+    private static StringList stringList(String[] items) {
+        StringList list = new StringListImpl(INITIAL_CAPACITY);
+        list.addAll(0, items);
+        return list;
+    }
+}
@@ -0,0 +1,158 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.integer.IntegerListImpl;
+import com.eleventh.list.integer.IntegerListView;
+import com.eleventh.list.string.StringListImpl;
+import com.eleventh.list.string.StringListView;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+
+class ListViewTest {
+    private static final int INITIAL_CAPACITY = 4;
+    private static final Integer[] ITEMS = {0, 1, 2, 3, 4, 5, 6, 7};
+
+    private IntegerListImpl out;
+
+    @BeforeEach
+    void setUp() {
+        out = new IntegerListImpl(INITIAL_CAPACITY, GrowthStrategy.geometric(), true);
+        out.addAll(0, ITEMS);
+    }
+
+    @Test
+    void subList_readsSharedRange() {
+        IntegerListView view = out.subList(2, 6);
+
+        Assertions.assertThat(view.size()).isEqualTo(4);
+        Assertions.assertThat(view.get(0)).isEqualTo(2);
+        Assertions.assertThat(view.indexOf(5)).isEqualTo(3);
+        Assertions.assertThat(view.contains(1)).isFalse();
+        Assertions.assertThat(view.toString()).isEqualTo("[ 2, 3, 4, 5 ]");
+    }
+
+    @Test
+    void subList_illegalRange_throwsException() {
+        Assertions.assertThatThrownBy(() -> out.subList(3, 2))
+                .isInstanceOf(IndexOutOfListException.class);
+        Assertions.assertThatThrownBy(() -> out.subList(0, 9))
+                .isInstanceOf(IndexOutOfListException.class);
+        Assertions.assertThatThrownBy(() -> out.subList(2, 6).get(4))
+                .isInstanceOf(IndexOutOfListException.class);
+    }
+
+    @Test
+    void subList_set_writesThroughToList() {
+        out.subList(2, 6).set(1, 30);
+
+        Assertions.assertThat(out.get(3)).isEqualTo(30);
+        Assertions.assertThat(out.indexOf(30)).isEqualTo(3);
+        Assertions.assertThat(out.contains(3)).isFalse();
+    }
+
+    @Test
+    void subList_structuralChanges_updateListAndView() {
+        IntegerListView view = out.subList(2, 6);
+        view.add(40);
+        view.add(0, 20);
+        view.remove(Integer.valueOf(3));
+
+        Assertions.assertThat(view.toString()).isEqualTo("[ 20, 2, 4, 5, 40 ]");
+        Assertions.assertThat(out.toString()).isEqualTo("[ 0, 1, 20, 2, 4, 5, 40, 6, 7 ]");
+        Assertions.assertThat(out.indexOf(40)).isEqualTo(6);
+    }
+
+    @Test
+    void nestedSubList_changesUpdateParentSize() {
+        IntegerListView view = out.subList(1, 7);
+        IntegerListView nested = view.subList(1, 3);
+        nested.clear();
+
+        Assertions.assertThat(view.size()).isEqualTo(4);
+        Assertions.assertThat(view.toString()).isEqualTo("[ 1, 4, 5, 6 ]");
+        Assertions.assertThat(out.size()).isEqualTo(6);
+    }
+
+    @Test
+    void subList_removeIf_removesOnlyInsideRange() {
+        IntegerListView view = out.subList(2, 6);
+
+        Assertions.assertThat(view.removeIf(item -> item % 2 == 0)).isTrue();
+        Assertions.assertThat(view.toString()).isEqualTo("[ 3, 5 ]");
+        Assertions.assertThat(out.toString()).isEqualTo("[ 0, 1, 3, 5, 6, 7 ]");
+        Assertions.assertThat(out.indexOf(6)).isEqualTo(4);
+    }
+
+    @Test
+    void subList_listChangedDirectly_throwsException() {
+        IntegerListView view = out.subList(2, 6);
+        out.add(8);
+
+        Assertions.assertThatThrownBy(view::size)
+                .isInstanceOf(ConcurrentModificationException.class);
+        Assertions.assertThatThrownBy(() -> view.get(0))
+                .isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void unmodifiableView_followsListAndRejectsChanges() {
+        IntegerListView view = out.unmodifiableView();
+        out.add(8);
+
+        Assertions.assertThat(view.size()).isEqualTo(9);
+        Assertions.assertThat(view.get(8)).isEqualTo(8);
+        Assertions.assertThatThrownBy(() -> view.add(9))
+                .isInstanceOf(UnsupportedOperationException.class);
+        Assertions.assertThatThrownBy(() -> view.set(0, 9))
+                .isInstanceOf(UnsupportedOperationException.class);
+        Assertions.assertThatThrownBy(() -> view.subList(0, 2).remove(0))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void reversedView_readsInReverseOrder() {
+        IntegerListView view = out.reversedView();
+
+        Assertions.assertThat(view.get(0)).isEqualTo(7);
+        Assertions.assertThat(view.indexOf(0)).isEqualTo(7);
+        Assertions.assertThat(view.intStream().toArray()).containsExactly(7, 6, 5, 4, 3, 2, 1, 0);
+        Assertions.assertThat(view.subList(1, 3).toString()).isEqualTo("[ 6, 5 ]");
+        Assertions.assertThat(view.reversedView().toString()).isEqualTo(out.toString());
+    }
+
+    @Test
+    void reversedView_setWritesThroughAndAddIsRejected() {
+        IntegerListView view = out.subList(0, 4).reversedView();
+        view.set(0, 30);
+
+        Assertions.assertThat(out.get(3)).isEqualTo(30);
+        Assertions.assertThatThrownBy(() -> view.add(9))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void equals_comparesContent() {
+        Assertions.assertThat(out.subList(0, 3).equals(out.reversedView().subList(5, 8).reversedView()))
+                .isTrue();
+        Assertions.assertThat(out.subList(0, 3).hashCode())
+                .isEqualTo(out.reversedView().subList(5, 8).reversedView().hashCode());
+        Assertions.assertThat(out.subList(0, 3).equals(out.subList(1, 4))).isFalse();
+    }
+
+    @Test
+    void stringSubList_sharesListStorage() {
+        StringListImpl strings = new StringListImpl(INITIAL_CAPACITY);
+        strings.addAll(0, new String[]{"a", "b", "c", "d"});
+        StringListView view = strings.subList(1, 3);
+        view.add("x");
+
+        Assertions.assertThat(view.toString()).isEqualTo("[ b, c, x ]");
+        Assertions.assertThat(strings.toString()).isEqualTo("[ a, b, c, x, d ]");
+        Assertions.assertThat(strings.reversedView().stream()).containsExactly("d", "x", "c", "b", "a");
+        Assertions.assertThatThrownBy(() -> strings.unmodifiableView().remove("a"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,136 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.integer.MappedIntegerList;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class MappedIntegerListTest {
+    private static final int INITIAL_CAPACITY = 2;
+    // Маленькие участки, чтобы рост пересекал их границы.
+    private static final int REGION_CAPACITY = 4;
+    private static final int HEADER_BYTES = 16;
+
+    @TempDir
+    Path directory;
+
+    private MappedIntegerList open(Path path) {
+        return new MappedIntegerList(path, INITIAL_CAPACITY, GrowthStrategy.doubling(), REGION_CAPACITY);
+    }
+
+    @Test
+    void reopenKeepsContent() {
+        Path path = directory.resolve("list.bin");
+        try (MappedIntegerList out = open(path)) {
+            for (int i = 0; i < 11; i++) {
+                out.addInt(i * 10);
+            }
+            out.removeAt(0);
+            out.addInt(3, -1);
+            out.force();
+        }
+        try (MappedIntegerList out = open(path)) {
+            Assertions.assertThat(out.size()).isEqualTo(11);
+            Assertions.assertThat(out.capacity()).isEqualTo(16);
+            Assertions.assertThat(out.toIntArray())
+                    .containsExactly(10, 20, 30, -1, 40, 50, 60, 70, 80, 90, 100);
+            out.addInt(110);
+            Assertions.assertThat(out.lastIndexOf(110)).isEqualTo(11);
+        }
+    }
+
+    @Test
+    void headerSizeUpdatedOnForceAndClose() {
+        Path path = directory.resolve("list.bin");
+        try (MappedIntegerList out = open(path)) {
+            out.addAllInt(0, new int[]{1, 2, 3});
+            try (MappedIntegerList reader = open(path)) {
+                Assertions.assertThat(reader.size()).isZero();
+            }
+            out.force();
+            try (MappedIntegerList reader = open(path)) {
+                Assertions.assertThat(reader.toIntArray()).containsExactly(1, 2, 3);
+            }
+            out.addInt(4);
+        }
+        try (MappedIntegerList out = open(path)) {
+            Assertions.assertThat(out.toIntArray()).containsExactly(1, 2, 3, 4);
+        }
+    }
+
+    @Test
+    void fileGrowsAndTrims() throws IOException {
+        Path path = directory.resolve("list.bin");
+        try (MappedIntegerList out = open(path)) {
+            Assertions.assertThat(Files.size(path)).isEqualTo(HEADER_BYTES + INITIAL_CAPACITY * Integer.BYTES);
+            out.ensureCapacity(9);
+            Assertions.assertThat(out.capacity()).isEqualTo(9);
+            Assertions.assertThat(Files.size(path)).isEqualTo(HEADER_BYTES + 9 * Integer.BYTES);
+            out.addAllInt(0, new int[]{1, 2, 3, 4, 5});
+            out.trimToSize();
+            Assertions.assertThat(out.capacity()).isEqualTo(5);
+            Assertions.assertThat(out.toArray()).containsExactly(1, 2, 3, 4, 5);
+        }
+        Assertions.assertThat(Files.size(path)).isEqualTo(HEADER_BYTES + 5 * Integer.BYTES);
+        try (MappedIntegerList out = open(path)) {
+            out.removeRange(1, 3);
+            out.removeIf(item -> item == 5);
+            Assertions.assertThat(out.toIntArray()).containsExactly(1, 4);
+        }
+    }
+
+    @Test
+    void rejectsForeignFile() throws IOException {
+        Path path = directory.resolve("foreign.bin");
+        Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17});
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> {
+                    open(path);
+                });
+        Assertions.assertThat(Files.size(path)).isEqualTo(17);
+    }
+
+    @Test
+    void removeIfThrowingFilterKeepsFile() {
+        Path path = directory.resolve("list.bin");
+        try (MappedIntegerList out = open(path)) {
+            out.addAllInt(0, new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+            Assertions.assertThatExceptionOfType(IllegalStateException.class)
+                    .isThrownBy(() -> {
+                        out.removeIfInt(item -> {
+                            if (item == 7) {
+                                throw new IllegalStateException("filter failed");
+                            }
+                            return item % 2 == 0;
+                        });
+                    });
+            Assertions.assertThat(out.toIntArray()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        }
+        try (MappedIntegerList out = open(path)) {
+            Assertions.assertThat(out.toIntArray()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        }
+    }
+
+    @Test
+    void closedList() {
+        MappedIntegerList out = open(directory.resolve("list.bin"));
+        out.add(1);
+        Assertions.assertThatExceptionOfType(IndexOutOfListException.class)
+                .isThrownBy(() -> {
+                    out.get(1);
+                });
+        out.close();
+        out.close();
+        Assertions.assertThat(out.toString()).isEqualTo("[ closed ]");
+        Assertions.assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> {
+                    out.get(0);
+                });
+    }
+}
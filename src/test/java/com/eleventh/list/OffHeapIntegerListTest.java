@@ -0,0 +1,176 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+import com.eleventh.list.integer.OffHeapIntegerList;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class OffHeapIntegerListTest {
+    // Маленькие буферы, чтобы операции пересекали их границы.
+    private static final int CHUNK_CAPACITY = 4;
+    private static final int OPERATIONS = 5_000;
+
+    private OffHeapIntegerList out;
+
+    @BeforeEach
+    void setUp() {
+        out = new OffHeapIntegerList(CHUNK_CAPACITY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        out.close();
+    }
+
+    @Test
+    void addAcrossChunks() {
+        for (int i = 0; i < 10; i++) {
+            out.addInt(i);
+        }
+        Assertions.assertThat(out.size()).isEqualTo(10);
+        Assertions.assertThat(out.capacity()).isEqualTo(12);
+        Assertions.assertThat(out.toIntArray()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        Assertions.assertThat(out.get(9)).isEqualTo(9);
+        Assertions.assertThat(out.toString()).isEqualTo("[ 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 ]");
+    }
+
+    @Test
+    void trimReleasesEmptyChunks() {
+        out.ensureCapacity(20);
+        Assertions.assertThat(out.capacity()).isEqualTo(20);
+        out.addInt(1);
+        out.trimToSize();
+        Assertions.assertThat(out.capacity()).isEqualTo(CHUNK_CAPACITY);
+        out.clear();
+        out.trimToSize();
+        Assertions.assertThat(out.capacity()).isZero();
+        out.add(2);
+        Assertions.assertThat(out.toArray()).containsExactly(2);
+    }
+
+    @Test
+    void matchesArrayListOnRandomOperations() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            int value = random.nextInt(30);
+            switch (random.nextInt(6)) {
+                case 0 -> {
+                    out.add(value);
+                    expected.add(value);
+                }
+                case 1 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    out.add(index, value);
+                    expected.add(index, value);
+                }
+                case 2 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    int[] values = {value, value + 1, value + 2, value + 3, value + 4};
+                    out.addAllInt(index, values);
+                    expected.addAll(index, List.of(value, value + 1, value + 2, value + 3, value + 4));
+                }
+                case 3 -> {
+                    int from = random.nextInt(expected.size() + 1);
+                    int to = from + random.nextInt(Math.min(6, expected.size() - from) + 1);
+                    out.removeRange(from, to);
+                    expected.subList(from, to).clear();
+                }
+                case 4 -> {
+                    if (random.nextInt(20) == 0) {
+                        out.removeIfInt(item -> item == value);
+                        expected.removeIf(item -> item == value);
+                    }
+                }
+                default -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertThat(out.remove(index)).isEqualTo(expected.remove(index));
+                    }
+                }
+            }
+            int probe = random.nextInt(40);
+            Assertions.assertThat(out.indexOf(probe)).isEqualTo(expected.indexOf(probe));
+            Assertions.assertThat(out.lastIndexOf(probe)).isEqualTo(expected.lastIndexOf(probe));
+        }
+        Assertions.assertThat(out.toArray()).isEqualTo(expected.toArray(new Integer[0]));
+    }
+
+    @Test
+    void removeIfThrowingFilterKeepsList() {
+        for (int i = 0; i < 10; i++) {
+            out.addInt(i);
+        }
+        Assertions.assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> {
+                    out.removeIfInt(item -> {
+                        if (item == 7) {
+                            throw new IllegalStateException("filter failed");
+                        }
+                        return item % 2 == 0;
+                    });
+                });
+        Assertions.assertThat(out.toIntArray()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void equalsAndHashCode() {
+        try (OffHeapIntegerList other = new OffHeapIntegerList()) {
+            out.addAllInt(0, new int[]{1, 2, 3, 4, 5});
+            other.addAllInt(0, new int[]{1, 2, 3, 4, 5});
+            Assertions.assertThat(out.equals(other)).isTrue();
+            Assertions.assertThat(out.hashCode()).isEqualTo(other.hashCode());
+            other.setInt(4, 6);
+            Assertions.assertThat(out.equals(other)).isFalse();
+        }
+    }
+
+    @Test
+    void exceptions() {
+        out.add(1);
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> {
+                    new OffHeapIntegerList(3);
+                });
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> {
+                    new OffHeapIntegerList(OffHeapIntegerList.MAX_CHUNK_CAPACITY << 1);
+                });
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> {
+                    new OffHeapIntegerList(1 << 30);
+                });
+        Assertions.assertThatExceptionOfType(IndexOutOfListException.class)
+                .isThrownBy(() -> {
+                    out.get(1);
+                });
+        Assertions.assertThatExceptionOfType(ItemNotFoundException.class)
+                .isThrownBy(() -> {
+                    out.remove((Integer) 2);
+                });
+    }
+
+    @Test
+    void closedList() {
+        out.add(1);
+        out.close();
+        out.close();
+        Assertions.assertThat(out.toString()).isEqualTo("[ closed ]");
+        Assertions.assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> {
+                    out.get(0);
+                });
+        Assertions.assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> {
+                    out.addInt(1);
+                });
+    }
+}
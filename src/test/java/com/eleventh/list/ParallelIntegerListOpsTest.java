@@ -0,0 +1,121 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.integer.IntIntegerList;
+import com.eleventh.list.integer.IntegerList;
+import com.eleventh.list.integer.IntegerListImpl;
+import com.eleventh.list.integer.ParallelIntegerListOps;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+class ParallelIntegerListOpsTest {
+    private static final int SIZE = 10_000;
+    private static final int CUTOFF = 100;
+    private static final int PARALLELISM = 4;
+    private static final int MISSING = -1;
+
+    private ForkJoinPool pool;
+    private ParallelIntegerListOps out;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(PARALLELISM);
+        out = new ParallelIntegerListOps(pool, CUTOFF);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void parallelSortIntIntegerList() {
+        IntIntegerList list = new IntIntegerList(1);
+        int[] expected = new Random(1).ints(SIZE).toArray();
+        for (int value : expected) {
+            list.addInt(value);
+        }
+        Arrays.sort(expected);
+        out.parallelSort(list);
+        Assertions.assertThat(list.toIntArray()).isEqualTo(expected);
+    }
+
+    @Test
+    void parallelSortRangeKeepsRest() {
+        int[] arr = new Random(3).ints(SIZE).toArray();
+        int[] expected = arr.clone();
+        int from = SIZE / 3;
+        int to = SIZE - 7;
+        Arrays.sort(expected, from, to);
+        out.parallelSort(arr, from, to);
+        Assertions.assertThat(arr).isEqualTo(expected);
+    }
+
+    @Test
+    void parallelSortIntIntegerListInvalidatesIterator() {
+        IntIntegerList list = new IntIntegerList(1);
+        list.addAllInt(0, new int[]{3, 1, 2});
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        iterator.nextInt();
+        out.parallelSort(list);
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::nextInt);
+    }
+
+    @Test
+    void parallelSortIndexedIntegerListImpl() {
+        IntegerList list = new IntegerListImpl(1, GrowthStrategy.geometric(), true);
+        new Random(2).ints(SIZE, 0, 1000).forEach(list::add);
+        out.parallelSort(list);
+        for (int i = 1; i < SIZE; i++) {
+            Assertions.assertThat(list.get(i - 1)).isLessThanOrEqualTo(list.get(i));
+        }
+        Assertions.assertThat(list.indexOf(list.get(0))).isEqualTo(0);
+        Assertions.assertThat(list.lastIndexOf(list.get(SIZE - 1))).isEqualTo(SIZE - 1);
+    }
+
+    @Test
+    void parallelIndexOfFindsFirstOccurrence() {
+        int[] arr = new int[SIZE];
+        arr[SIZE / 3] = 7;
+        arr[SIZE - 1] = 7;
+        Assertions.assertThat(out.parallelIndexOf(arr, 7)).isEqualTo(SIZE / 3);
+        Assertions.assertThat(out.parallelIndexOf(arr, 8)).isEqualTo(MISSING);
+        Assertions.assertThat(out.parallelContains(arr, 7)).isTrue();
+
+        IntegerList list = new IntegerListImpl(SIZE);
+        for (int value : arr) {
+            list.add(value);
+        }
+        Assertions.assertThat(out.parallelIndexOf(list, 7)).isEqualTo(SIZE / 3);
+        Assertions.assertThat(out.parallelContains(list, 8)).isFalse();
+    }
+
+    @Test
+    void illegalParameters() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> {
+                    new ParallelIntegerListOps(pool, 0);
+                });
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> {
+                    new ParallelIntegerListOps(null, CUTOFF);
+                });
+        Assertions.assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> {
+                    out.parallelSort(new int[10], 5, 11);
+                });
+        Assertions.assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> {
+                    out.parallelSort(new int[10], 6, 5);
+                });
+    }
+}
@@ -0,0 +1,223 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.IndexOutOfListException;
+import com.eleventh.list.integer.RingBufferIntegerList;
+import com.eleventh.list.string.RingBufferStringList;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class RingBufferListTest {
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int OPERATIONS = 5_000;
+
+    @Test
+    void dequeOperations_wrapAroundArray() {
+        RingBufferIntegerList out = new RingBufferIntegerList(INITIAL_CAPACITY);
+        out.addLast(2);
+        out.addLast(3);
+        out.addFirst(1);
+        out.addFirst(0);
+        out.addLast(4);
+
+        Assertions.assertThat(out.toString()).isEqualTo("[ 0, 1, 2, 3, 4 ]");
+        Assertions.assertThat(out.removeFirst()).isEqualTo(0);
+        Assertions.assertThat(out.removeLast()).isEqualTo(4);
+        Assertions.assertThat(out.getFirst()).isEqualTo(1);
+        Assertions.assertThat(out.getLast()).isEqualTo(3);
+        Assertions.assertThat(out.intStream().toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void fifoQueue_reusesArray() {
+        RingBufferIntegerList out = new RingBufferIntegerList(INITIAL_CAPACITY);
+        for (int i = 0; i < OPERATIONS; i++) {
+            out.addLast(i);
+            if (out.size() > 2) {
+                Assertions.assertThat(out.removeFirst()).isEqualTo(i - 2);
+            }
+        }
+        out.trimToSize();
+        Assertions.assertThat(out.toIntArray()).containsExactly(OPERATIONS - 2, OPERATIONS - 1);
+    }
+
+    @Test
+    void removeFirst_emptyList_throwsException() {
+        RingBufferIntegerList out = new RingBufferIntegerList(INITIAL_CAPACITY);
+
+        Assertions.assertThatThrownBy(out::removeFirst)
+                .isInstanceOf(IndexOutOfListException.class);
+        Assertions.assertThatThrownBy(() -> new RingBufferIntegerList(INITIAL_CAPACITY, (OverflowPolicy) null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void boundedReject_keepsListWhenFull() {
+        RingBufferIntegerList out = new RingBufferIntegerList(3, OverflowPolicy.REJECT);
+        out.addAllInt(0, new int[]{1, 2, 3});
+
+        Assertions.assertThat(out.isFull()).isTrue();
+        Assertions.assertThatThrownBy(() -> out.addLast(4))
+                .isInstanceOf(IllegalStateException.class);
+        Assertions.assertThatThrownBy(() -> out.addAllInt(1, new int[]{5}))
+                .isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(out.toString()).isEqualTo("[ 1, 2, 3 ]");
+    }
+
+    @Test
+    void boundedOverwrite_evictsOppositeEnd() {
+        RingBufferIntegerList out = new RingBufferIntegerList(3, OverflowPolicy.OVERWRITE);
+        for (int i = 1; i <= 5; i++) {
+            out.addLast(i);
+        }
+        Assertions.assertThat(out.toString()).isEqualTo("[ 3, 4, 5 ]");
+
+        out.addFirst(0);
+        Assertions.assertThat(out.toString()).isEqualTo("[ 0, 3, 4 ]");
+
+        out.addInt(2, 9);
+        Assertions.assertThat(out.toString()).isEqualTo("[ 3, 9, 4 ]");
+        out.ensureCapacity(10);
+        Assertions.assertThat(out.isFull()).isTrue();
+    }
+
+    @Test
+    void boundedOverwrite_addAllEvictsFromOneSide() {
+        RingBufferIntegerList out = new RingBufferIntegerList(3, OverflowPolicy.OVERWRITE);
+        out.addAllInt(0, new int[]{1, 2, 3});
+        out.addAllInt(0, new int[]{10, 20});
+        Assertions.assertThat(out.toString()).isEqualTo("[ 10, 20, 1 ]");
+
+        out.addAllInt(0, new int[]{4, 5, 6, 7});
+        Assertions.assertThat(out.toString()).isEqualTo("[ 4, 5, 6 ]");
+
+        out.addAllInt(1, new int[]{8, 9});
+        Assertions.assertThat(out.toString()).isEqualTo("[ 9, 5, 6 ]");
+
+        RingBufferStringList strings = new RingBufferStringList(3, OverflowPolicy.OVERWRITE);
+        strings.addAll(0, new String[]{"a", "b", "c"});
+        strings.addAll(0, new String[]{"x", "y"});
+        Assertions.assertThat(strings.toString()).isEqualTo("[ x, y, a ]");
+    }
+
+    @Test
+    void removeIf_throwingFilterKeepsList() {
+        RingBufferIntegerList ints = new RingBufferIntegerList(INITIAL_CAPACITY);
+        ints.addLast(1);
+        ints.addLast(2);
+        ints.addFirst(0);
+        Assertions.assertThatThrownBy(() -> ints.removeIfInt(item -> {
+            if (item == 2) {
+                throw new IllegalStateException("filter failed");
+            }
+            return item == 0;
+        })).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(ints.toString()).isEqualTo("[ 0, 1, 2 ]");
+
+        RingBufferStringList strings = new RingBufferStringList(INITIAL_CAPACITY);
+        strings.addLast("b");
+        strings.addLast("c");
+        strings.addFirst("a");
+        Assertions.assertThatThrownBy(() -> strings.removeIf(item -> {
+            if (item.equals("c")) {
+                throw new IllegalStateException("filter failed");
+            }
+            return item.equals("a");
+        })).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(strings.toString()).isEqualTo("[ a, b, c ]");
+    }
+
+    @Test
+    void randomOperations_matchArrayList() {
+        Random random = new Random(22);
+        RingBufferIntegerList out = new RingBufferIntegerList(INITIAL_CAPACITY);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            int value = random.nextInt(50);
+            int operation = random.nextInt(12);
+            if (operation < 3 || expected.isEmpty()) {
+                out.addFirst(value);
+                expected.add(0, value);
+            } else if (operation < 6) {
+                int index = random.nextInt(expected.size() + 1);
+                out.addInt(index, value);
+                expected.add(index, value);
+            } else if (operation < 8) {
+                Assertions.assertThat(out.removeFirst()).isEqualTo(expected.remove(0));
+            } else if (operation < 10) {
+                int index = random.nextInt(expected.size());
+                Assertions.assertThat(out.removeAt(index)).isEqualTo(expected.remove(index));
+            } else if (operation == 10) {
+                int index = random.nextInt(expected.size() + 1);
+                int[] values = {value, value + 1};
+                out.addAllInt(index, values);
+                expected.addAll(index, List.of(value, value + 1));
+            } else {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(Math.min(5, expected.size() - from) + 1);
+                out.removeRange(from, to);
+                expected.subList(from, to).clear();
+            }
+            Assertions.assertThat(out.size()).isEqualTo(expected.size());
+        }
+        Assertions.assertThat(out.toIntArray())
+                .containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+        Assertions.assertThat(out.lastIndexOfInt(7)).isEqualTo(expected.lastIndexOf(7));
+
+        out.removeIfInt(item -> item % 3 == 0);
+        expected.removeIf(item -> item % 3 == 0);
+        Assertions.assertThat(out.toIntArray())
+                .containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    @Test
+    void randomStringOperations_matchArrayList() {
+        Random random = new Random(23);
+        RingBufferStringList out = new RingBufferStringList(INITIAL_CAPACITY);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            String value = "s" + random.nextInt(50);
+            int operation = random.nextInt(8);
+            if (operation < 3 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                out.add(index, value);
+                expected.add(index, value);
+            } else if (operation < 6) {
+                int index = random.nextInt(expected.size());
+                Assertions.assertThat(out.remove(index)).isEqualTo(expected.remove(index));
+            } else if (operation == 6) {
+                out.removeIf(item -> item.endsWith("7"));
+                expected.removeIf(item -> item.endsWith("7"));
+            } else {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(Math.min(5, expected.size() - from) + 1);
+                out.removeRange(from, to);
+                expected.subList(from, to).clear();
+            }
+        }
+        Assertions.assertThat(out.toArray()).containsExactly(expected.toArray(new String[0]));
+    }
+
+    @Test
+    void stringList_supportsDequeAndIndexApi() {
+        RingBufferStringList out = new RingBufferStringList(INITIAL_CAPACITY);
+        out.addLast("b");
+        out.addFirst("a");
+        out.addAll(2, new String[]{"c", "d", "e"});
+        out.add(1, "x");
+
+        Assertions.assertThat(out.toString()).isEqualTo("[ a, x, b, c, d, e ]");
+        Assertions.assertThat(out.remove("x")).isEqualTo("x");
+        Assertions.assertThat(out.removeLast()).isEqualTo("e");
+        Assertions.assertThat(out.indexOf("c")).isEqualTo(2);
+
+        RingBufferStringList copy = new RingBufferStringList(INITIAL_CAPACITY);
+        copy.addAll(0, out.toArray());
+        Assertions.assertThat(out.equals(copy)).isTrue();
+        Assertions.assertThat(out.hashCode()).isEqualTo(copy.hashCode());
+    }
+}
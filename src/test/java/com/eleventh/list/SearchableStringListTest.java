@@ -0,0 +1,133 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+import com.eleventh.list.string.SearchableStringList;
+import com.eleventh.list.string.StringListImpl;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+class SearchableStringListTest {
+    private static final int OPERATIONS = 3_000;
+
+    private SearchableStringList out;
+
+    @BeforeEach
+    void setUp() {
+        StringListImpl delegate = new StringListImpl(4);
+        delegate.addAll(0, new String[]{"apple", "apricot", "banana", "application", "grape"});
+        out = new SearchableStringList(delegate, true);
+    }
+
+    @Test
+    void prefixSearch() {
+        Assertions.assertThat(out.startingWith("ap").toArray()).containsExactly(0, 1, 3);
+        Assertions.assertThat(out.startingWith("app").toArray()).containsExactly(0, 3);
+        Assertions.assertThat(out.startingWith("").toArray()).containsExactly(0, 1, 2, 3, 4);
+        Assertions.assertThat(out.startingWith("c").toArray()).isEmpty();
+        out.add(0, "apex");
+        out.remove("apple");
+        Assertions.assertThat(out.startingWith("ap").toArray()).containsExactly(0, 1, 3);
+        out.add("\uFFFF\uFFFFx");
+        Assertions.assertThat(out.startingWith("\uFFFF").toArray()).containsExactly(5);
+    }
+
+    @Test
+    void substringSearch() {
+        Assertions.assertThat(out.containing("ap").toArray()).containsExactly(0, 1, 3, 4);
+        Assertions.assertThat(out.containing("ana").toArray()).containsExactly(2);
+        Assertions.assertThat(out.containing("plic").toArray()).containsExactly(3);
+        // Все триграммы есть, но не подряд.
+        out.add("lica-pli");
+        Assertions.assertThat(out.containing("plica").toArray()).containsExactly(3);
+        Assertions.assertThat(out.containing("xyz").toArray()).isEmpty();
+    }
+
+    @Test
+    void lookupsUseIndex() {
+        out.add("apple");
+        Assertions.assertThat(out.indexOf("apple")).isEqualTo(0);
+        Assertions.assertThat(out.lastIndexOf("apple")).isEqualTo(5);
+        Assertions.assertThat(out.contains("kiwi")).isFalse();
+        Assertions.assertThatExceptionOfType(ItemNotFoundException.class)
+                .isThrownBy(() -> {
+                    out.remove("kiwi");
+                });
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> {
+                    out.startingWith(null);
+                });
+    }
+
+    @Test
+    void matchesScanOnRandomOperations() {
+        Random random = new Random(9);
+        List<String> expected = new ArrayList<>(List.of(out.toArray()));
+        for (int i = 0; i < OPERATIONS; i++) {
+            String value = randomWord(random);
+            switch (random.nextInt(6)) {
+                case 0, 1 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    out.add(index, value);
+                    expected.add(index, value);
+                }
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        out.set(index, value);
+                        expected.set(index, value);
+                    }
+                }
+                case 3 -> {
+                    int from = random.nextInt(expected.size() + 1);
+                    int to = from + random.nextInt(Math.min(3, expected.size() - from) + 1);
+                    out.removeRange(from, to);
+                    expected.subList(from, to).clear();
+                }
+                case 4 -> {
+                    if (random.nextInt(30) == 0) {
+                        out.removeIf(item -> item.startsWith(value.substring(0, 1)));
+                        expected.removeIf(item -> item.startsWith(value.substring(0, 1)));
+                    } else {
+                        out.addAll(expected.size(), new String[]{value});
+                        expected.add(value);
+                    }
+                }
+                default -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertThat(out.remove(index)).isEqualTo(expected.remove(index));
+                    }
+                }
+            }
+            String probe = randomWord(random);
+            String prefix = probe.substring(0, 2);
+            String fragment = probe.substring(1, 4);
+            Assertions.assertThat(out.startingWith(prefix).toArray())
+                    .isEqualTo(matching(expected, item -> item.startsWith(prefix)));
+            Assertions.assertThat(out.containing(fragment).toArray())
+                    .isEqualTo(matching(expected, item -> item.contains(fragment)));
+            Assertions.assertThat(out.indexOf(probe)).isEqualTo(expected.indexOf(probe));
+        }
+        Assertions.assertThat(out.toArray()).isEqualTo(expected.toArray(new String[0]));
+    }
+
+    private static String randomWord(Random random) {
+        char[] chars = new char[4 + random.nextInt(3)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(3));
+        }
+        return new String(chars);
+    }
+
+    private static int[] matching(List<String> items, Predicate<String> filter) {
+        return IntStream.range(0, items.size()).filter(i -> filter.test(items.get(i))).toArray();
+    }
+}
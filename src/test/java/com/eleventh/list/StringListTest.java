@@ -293,4 +293,65 @@ class StringListTest {
         Assertions.assertThat(out.equals(expected)).isFalse();
         Assertions.assertThat(out.hashCode()).isNotEqualTo(expected.hashCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void addWithFixedStepGrowth() {
+        StringList list = new StringListImpl(1, GrowthStrategy.fixedStep(1));
+        for (int i = 0; i < 10; i++) {
+            list.add(String.valueOf(i));
+        }
+        Assertions.assertThat(list.size()).isEqualTo(10);
+        Assertions.assertThat(list.get(9)).isEqualTo("9");
+    }
+
+    @Test
+    void trimToSizeAndAdd() {
+        out.ensureCapacity(100);
+        out.trimToSize();
+        Assertions.assertThat(out.toArray()).isEqualTo(new String[]{ITEM_0, ITEM_1, ITEM_2});
+        out.add(ITEM_3);
+        Assertions.assertThat(out.get(INDEX_3)).isEqualTo(ITEM_3);
+        out.clear();
+        out.trimToSize();
+        Assertions.assertThat(out.add(ITEM_4)).isEqualTo(ITEM_4);
+    }
+
+    @Test
+    void addToMiddleOfTrimmedList() {
+        out.trimToSize();
+        out.add(INDEX_0, ITEM_3);
+        Assertions.assertThat(out.toArray()).isEqualTo(new String[]{ITEM_3, ITEM_0, ITEM_1, ITEM_2});
+    }
+
+    @Test
+    void addAllToMiddleOfList() {
+        out.addAll(INDEX_1, new String[]{ITEM_3, ITEM_4});
+        Assertions.assertThat(out.toArray()).isEqualTo(new String[]{ITEM_0, ITEM_3, ITEM_4, ITEM_1, ITEM_2});
+    }
+
+    @Test
+    void addAllWithNullItem() {
+        Assertions.assertThatExceptionOfType(IllegalListItemException.class)
+                .isThrownBy(() -> {
+                    out.addAll(INDEX_0, new String[]{ITEM_3, null});
+                });
+        Assertions.assertThat(out.size()).isEqualTo(SIZE_3);
+    }
+
+    @Test
+    void removeRangeOfItems() {
+        out.removeRange(INDEX_0, INDEX_2);
+        Assertions.assertThat(out.toArray()).isEqualTo(new String[]{ITEM_2});
+        Assertions.assertThatExceptionOfType(IndexOutOfListException.class)
+                .isThrownBy(() -> {
+                    out.removeRange(INDEX_0, INDEX_2);
+                });
+    }
+
+    @Test
+    void removeIfMatchingItems() {
+        Assertions.assertThat(out.removeIf(item -> !item.equals(ITEM_1))).isTrue();
+        Assertions.assertThat(out.toArray()).isEqualTo(new String[]{ITEM_1});
+        Assertions.assertThat(out.removeIf(item -> item.equals(ITEM_3))).isFalse();
+    }
+}
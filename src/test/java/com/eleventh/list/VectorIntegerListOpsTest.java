@@ -0,0 +1,111 @@
+package com.eleventh.list;
+
+import com.eleventh.list.exceptions.IllegalArgumentException;
+import com.eleventh.list.exceptions.ItemNotFoundException;
+import com.eleventh.list.integer.ImmutableIntegerList;
+import com.eleventh.list.integer.IntIntegerList;
+import com.eleventh.list.integer.IntegerListImpl;
+import com.eleventh.list.integer.VectorIntegerListOps;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+class VectorIntegerListOpsTest {
+    private static final int MAX_SIZE = 100;
+    private static final int MISSING = -1;
+
+    private final VectorIntegerListOps out = new VectorIntegerListOps();
+    private final VectorIntegerListOps scalar = new VectorIntegerListOps(false);
+
+    @Test
+    void vectorModule_enabledInTests() {
+        Assertions.assertThat(out.isVectorized()).isTrue();
+        Assertions.assertThat(scalar.isVectorized()).isFalse();
+    }
+
+    // Размеры от 0 до MAX_SIZE проверяют и полные векторы, и остаток.
+    @Test
+    void allSizes_matchStreams() {
+        Random random = new Random(25);
+        for (int size = 0; size <= MAX_SIZE; size++) {
+            int[] arr = random.ints(size, -10, 10).toArray();
+            int value = random.nextInt(20) - 10;
+            for (VectorIntegerListOps ops : new VectorIntegerListOps[]{out, scalar}) {
+                Assertions.assertThat(ops.indexOf(arr, value)).isEqualTo(indexOf(arr, value));
+                Assertions.assertThat(ops.lastIndexOf(arr, value)).isEqualTo(lastIndexOf(arr, value));
+                Assertions.assertThat(ops.count(arr, value))
+                        .isEqualTo((int) Arrays.stream(arr).filter(item -> item == value).count());
+                Assertions.assertThat(ops.sum(arr)).isEqualTo(Arrays.stream(arr).asLongStream().sum());
+                Assertions.assertThat(ops.countInRange(arr, -3, 4))
+                        .isEqualTo((int) Arrays.stream(arr).filter(item -> item >= -3 && item <= 4).count());
+                Assertions.assertThat(ops.filterRange(arr, -3, 4))
+                        .containsExactly(Arrays.stream(arr).filter(item -> item >= -3 && item <= 4).toArray());
+                if (size > 0) {
+                    Assertions.assertThat(ops.min(arr)).isEqualTo(Arrays.stream(arr).min().getAsInt());
+                    Assertions.assertThat(ops.max(arr)).isEqualTo(Arrays.stream(arr).max().getAsInt());
+                }
+            }
+        }
+    }
+
+    @Test
+    void sum_doesNotOverflow() {
+        int[] arr = new int[MAX_SIZE];
+        Arrays.fill(arr, Integer.MAX_VALUE);
+        arr[3] = Integer.MIN_VALUE;
+
+        Assertions.assertThat(out.sum(arr)).isEqualTo(Arrays.stream(arr).asLongStream().sum());
+        Assertions.assertThat(out.min(arr)).isEqualTo(Integer.MIN_VALUE);
+        Assertions.assertThat(out.max(arr)).isEqualTo(Integer.MAX_VALUE);
+        Assertions.assertThat(out.countInRange(arr, Integer.MIN_VALUE, Integer.MAX_VALUE)).isEqualTo(MAX_SIZE);
+    }
+
+    @Test
+    void lists_ignoreUnusedCapacity() {
+        IntIntegerList ints = new IntIntegerList(MAX_SIZE);
+        ints.addAllInt(0, new int[]{3, 1, 4, 1, 5, 9, 2, 6, 5, 3, 5});
+        IntegerListImpl boxed = new IntegerListImpl(MAX_SIZE);
+        boxed.addAll(0, ints.toArray());
+        ImmutableIntegerList immutable = ImmutableIntegerList.copyOf(ints.toIntArray());
+
+        Assertions.assertThat(out.indexOf(ints, 0)).isEqualTo(MISSING);
+        Assertions.assertThat(out.count(boxed, 5)).isEqualTo(3);
+        Assertions.assertThat(out.lastIndexOf(immutable, 1)).isEqualTo(3);
+        Assertions.assertThat(out.min(ints)).isEqualTo(1);
+        Assertions.assertThat(out.max(boxed)).isEqualTo(9);
+        Assertions.assertThat(out.sum(immutable)).isEqualTo(44);
+        Assertions.assertThat(out.filterRange(ints, 4, 6)).containsExactly(4, 5, 6, 5, 5);
+        Assertions.assertThat(ints.indexOfInt(5)).isEqualTo(4);
+        Assertions.assertThat(ints.lastIndexOfInt(5)).isEqualTo(10);
+    }
+
+    @Test
+    void illegalArguments_throwException() {
+        Assertions.assertThatThrownBy(() -> out.min(new int[0]))
+                .isInstanceOf(ItemNotFoundException.class);
+        Assertions.assertThatThrownBy(() -> out.max(new IntIntegerList(1)))
+                .isInstanceOf(ItemNotFoundException.class);
+        Assertions.assertThatThrownBy(() -> out.countInRange(new int[1], 2, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int indexOf(int[] arr, int value) {
+        for (int i = 0; i < arr.length; i++) {
+            if (arr[i] == value) {
+                return i;
+            }
+        }
+        return MISSING;
+    }
+
+    private static int lastIndexOf(int[] arr, int value) {
+        for (int i = arr.length - 1; i >= 0; i--) {
+            if (arr[i] == value) {
+                return i;
+            }
+        }
+        return MISSING;
+    }
+}